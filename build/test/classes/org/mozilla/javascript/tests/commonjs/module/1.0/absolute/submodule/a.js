@@ -0,0 +1,3 @@
+exports.foo = function () {
+    return require('b');
+};
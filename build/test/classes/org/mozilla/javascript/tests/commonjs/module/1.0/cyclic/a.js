@@ -0,0 +1,4 @@
+exports.a = function () {
+    return b;
+};
+var b = require('b');
@@ -0,0 +1,4 @@
+var a = require('a');
+exports.b = function () {
+    return a;
+};
@@ -0,0 +1,3 @@
+exports.program = function () {
+    return require('program');
+};
@@ -0,0 +1 @@
+require('program').monkey = 10;
@@ -0,0 +1 @@
+exports.foo = require('./b').foo;
@@ -0,0 +1,2 @@
+exports.foo = function () {
+};
@@ -0,0 +1 @@
+require("assert");
\ No newline at end of file
@@ -0,0 +1,2 @@
+exports.assertThroughX = require("../assert");
+exports.modz = require("./modz");
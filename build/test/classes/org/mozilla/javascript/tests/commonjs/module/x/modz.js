@@ -0,0 +1 @@
+exports.success = true;
\ No newline at end of file
@@ -0,0 +1,3 @@
+exports.assertThroughXAndY = require("../modx").assertThroughX;
+exports.assertThroughY = require("../../assert");
+exports.modz = require("../modz");
@@ -1,20 +1,38 @@
 package org.jsdoc;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.mozilla.javascript.CompilerEnvirons;
 import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.Function;
 import org.mozilla.javascript.NativeArray;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.Node;
 import org.mozilla.javascript.Parser;
+import org.mozilla.javascript.RhinoException;
+import org.mozilla.javascript.ScriptRuntime;
+import org.mozilla.javascript.Scriptable;
 import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.StringPool;
 import org.mozilla.javascript.Token;
+import org.mozilla.javascript.TopLevel;
 import org.mozilla.javascript.Undefined;
 import org.mozilla.javascript.ast.*;  // we use almost every class
 
@@ -26,6 +44,9 @@ import org.mozilla.javascript.ast.*;  // we use almost every class
  * We handle this conversion in Java because an equivalent JavaScript implementation was more than
  * four times slower (presumably because it required thousands of Java-to-JS-and-back type
  * conversions).
+ *
+ * An AstBuilder is not thread-safe, but each instance keeps its own Context and scope, so separate
+ * instances can run on separate threads. Use {@link #buildAll} to convert many files in parallel.
  * @author Jeff Williams <jeffrey.l.williams@gmail.com>
  */
 public class AstBuilder
@@ -33,85 +54,340 @@ public class AstBuilder
 	private static final String NODE_ID = HiddenProperties.NODE_ID.getPropertyName();
 	private static final String TYPE = Properties.TYPE.getPropertyName();
 
-	private static Context cx;
-	private static ScriptableObject scope;
+	// lets us parse part of a function body on its own; see parseRegion()
+	private static final String FUNCTION_WRAPPER = "function _(){";
+
+	private Context cx;
+	private ScriptableObject scope;
 
+	// the Context and scope of the builder that was created last, for the deprecated static
+	// helpers that predate per-builder scopes
+	private static volatile Context lastContext;
+	private static volatile ScriptableObject lastScope;
+
+	private AstCache cache;
+	// null unless JSDoc tags are parsed
+	private JsDocTagParser tagParser;
+	private boolean resolvingScopes;
+	private StringPool stringPool;
 	private Parser parser;
 	private NativeObject ast;
-	private Map<String, AstNode> rhinoNodes;
+	private NodeRegistry rhinoNodes;
 	private AstRoot root;
+	private LineIndex lineIndex;
+	// the edits that update() has made since the last build; see ConvertedNode
+	private EditLog edits;
+	// the converted function bodies, so that update() can replace their statements
+	private Map<AstNode, NativeObject> convertedBodies;
+	// the number of nodes that the last call to build() converted
+	private int builtNodeCount;
+	private String sourceCode;
+	private String sourceName;
 	private Map<Comment, NativeObject> comments;
+	private Map<AstNode, LazyNode> lazyNodes;
 	private List<NativeObject> nativeComments;
 	private Set<Comment> seenComments;
+	// the scopes that the AST describes, in source order; see getScopeIds()
+	private Map<Scope, Integer> scopeIds;
+	private List<Scope> scopes;
 
 	private enum NodeTypes
 	{
-		ArrayComprehension,
-		ArrayComprehensionLoop,
-		ArrayLiteral,
-		Assignment,
-		AstRoot,
-		Block,
-		BreakStatement,
-		CatchClause,
-		Comment,
-		ConditionalExpression,
-		ContinueStatement,
-		DoLoop,
-		ElementGet,
-		EmptyExpression,
-		EmptyStatement,
-		ExpressionStatement,
-		ForInLoop,
-		ForLoop,
-		FunctionCall,
-		FunctionNode,
-		IfStatement,
-		InfixExpression,
-		KeywordLiteral,
-		Label,
-		LabeledStatement,
-		LetNode,
-		Name,
-		NewExpression,
-		NumberLiteral,
-		ObjectLiteral,
-		ObjectProperty,
-		ParenthesizedExpression,
-		PropertyGet,
-		RegExpLiteral,
-		ReturnStatement,
-		Scope,
-		StringLiteral,
-		SwitchCase,
-		SwitchStatement,
-		ThrowStatement,
-		TryStatement,
-		UnaryExpression,
-		VariableDeclaration,
-		VariableInitializer,
-		WhileLoop,
-		WithStatement,
-		Yield;
+		ArrayComprehension (ArrayComprehension.class),
+		ArrayComprehensionLoop (ArrayComprehensionLoop.class),
+		ArrayLiteral (ArrayLiteral.class),
+		Assignment (Assignment.class),
+		AstRoot (AstRoot.class),
+		Block (Block.class),
+		BreakStatement (BreakStatement.class),
+		CatchClause (CatchClause.class),
+		Comment (Comment.class),
+		ConditionalExpression (ConditionalExpression.class),
+		ContinueStatement (ContinueStatement.class),
+		DoLoop (DoLoop.class),
+		ElementGet (ElementGet.class),
+		EmptyExpression (EmptyExpression.class),
+		EmptyStatement (EmptyStatement.class),
+		ExpressionStatement (ExpressionStatement.class),
+		ForInLoop (ForInLoop.class),
+		ForLoop (ForLoop.class),
+		FunctionCall (FunctionCall.class),
+		FunctionNode (FunctionNode.class),
+		IfStatement (IfStatement.class),
+		InfixExpression (InfixExpression.class),
+		KeywordLiteral (KeywordLiteral.class),
+		Label (Label.class),
+		LabeledStatement (LabeledStatement.class),
+		LetNode (LetNode.class),
+		Name (Name.class),
+		NewExpression (NewExpression.class),
+		NumberLiteral (NumberLiteral.class),
+		ObjectLiteral (ObjectLiteral.class),
+		ObjectProperty (ObjectProperty.class),
+		ParenthesizedExpression (ParenthesizedExpression.class),
+		PropertyGet (PropertyGet.class),
+		RegExpLiteral (RegExpLiteral.class),
+		ReturnStatement (ReturnStatement.class),
+		Scope (Scope.class),
+		StringLiteral (StringLiteral.class),
+		SwitchCase (SwitchCase.class),
+		SwitchStatement (SwitchStatement.class),
+		ThrowStatement (ThrowStatement.class),
+		TryStatement (TryStatement.class),
+		UnaryExpression (UnaryExpression.class),
+		VariableDeclaration (VariableDeclaration.class),
+		VariableInitializer (VariableInitializer.class),
+		WhileLoop (WhileLoop.class),
+		WithStatement (WithStatement.class),
+		Yield (Yield.class);
+
+		private static final Map<Class<?>, NodeTypes> typesByClass =
+			new HashMap<Class<?>, NodeTypes>();
+
+		static {
+			for (NodeTypes type : values()) {
+				typesByClass.put(type.nodeClass, type);
+			}
+		}
+
+		private final Class<? extends AstNode> nodeClass;
+
+		private NodeTypes(Class<? extends AstNode> nodeClass)
+		{
+			this.nodeClass = nodeClass;
+		}
+
+		/**
+		 * Get the node type for a Rhino node by looking up its class, rather than its name, so that
+		 * we don't have to create any strings.
+		 * @return The node type, or null if the node's class is not recognized.
+		 */
+		static NodeTypes forNode(AstNode rhinoNode)
+		{
+			return typesByClass.get(rhinoNode.getClass());
+		}
 	}
 
 
 	public AstBuilder()
 	{
-		cx = Context.getCurrentContext();
-		scope = cx.initStandardObjects();
+		this(Context.getCurrentContext(), null);
+		lastContext = cx;
+		lastScope = scope;
+	}
+
+	private AstBuilder(Context cx, ScriptableObject scope)
+	{
+		this.cx = cx;
+		this.scope = scope == null ? cx.initStandardObjects() : scope;
 		reset();
 	}
 
+	/**
+	 * Build the ASTs for a list of source files, using a pool of worker threads. Each worker thread
+	 * enters its own Context, so the files are read, parsed, and converted in parallel. The ASTs
+	 * are created in one sealed scope that all of the workers share, so the ASTs of different
+	 * files have the same prototypes.
+	 * @param sourceNames The paths or URLs of the source files.
+	 * @param encoding The encoding to use if a file's encoding cannot be detected.
+	 * @param threadCount The number of worker threads, or 0 to use one per available processor.
+	 * @return One AstBuilder per source file, in the same order as sourceNames. Call getAst() and
+	 * getRhinoNodes() on each builder to retrieve its results.
+	 */
+	public static List<AstBuilder> buildAll(List<String> sourceNames, String encoding,
+		int threadCount) throws IOException, InterruptedException
+	{
+		return buildAll(sourceNames, encoding, threadCount, null);
+	}
+
+	/**
+	 * Build the ASTs for a list of source files, using a pool of worker threads and an optional
+	 * AST cache that is shared by all of the workers.
+	 * @see #buildAll(List, String, int)
+	 */
+	public static List<AstBuilder> buildAll(List<String> sourceNames, String encoding,
+		int threadCount, AstCache cache) throws IOException, InterruptedException
+	{
+		return buildAll(sourceNames, encoding, threadCount, cache, null);
+	}
+
+	/**
+	 * Build the ASTs for a list of source files, using a pool of worker threads, an optional AST
+	 * cache, and an optional string pool that are shared by all of the workers.
+	 * @see #buildAll(List, String, int)
+	 * @see #setStringPool(StringPool)
+	 */
+	public static List<AstBuilder> buildAll(List<String> sourceNames, final String encoding,
+		int threadCount, final AstCache cache, final StringPool stringPool)
+		throws IOException, InterruptedException
+	{
+		Context current = Context.getCurrentContext();
+		final ContextFactory factory = current == null ? ContextFactory.getGlobal() :
+			current.getFactory();
+		final int languageVersion = current == null ? Context.VERSION_DEFAULT :
+			current.getLanguageVersion();
+		// The workers only read the standard objects, and sealing them keeps it that way, so
+		// they can share one scope.
+		final ScriptableObject sharedScope;
+		Context setupCx = factory.enterContext();
+		try {
+			sharedScope = setupCx.initStandardObjects(null, true);
+			sharedScope.sealObject();
+		} finally {
+			Context.exit();
+		}
+
+		if (threadCount <= 0) {
+			threadCount = Runtime.getRuntime().availableProcessors();
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		List<Future<AstBuilder>> futures = new ArrayList<Future<AstBuilder>>(sourceNames.size());
+		List<AstBuilder> builders = new ArrayList<AstBuilder>(sourceNames.size());
+
+		try {
+			for (final String sourceName : sourceNames) {
+				futures.add(executor.submit(new Callable<AstBuilder>() {
+					public AstBuilder call() throws Exception {
+						Context workerCx = factory.enterContext();
+						try {
+							workerCx.setLanguageVersion(languageVersion);
+
+							String sourceCode = (String)SourceReader.readFileOrUrl(sourceName, true,
+								encoding);
+							AstBuilder builder = new AstBuilder(workerCx, sharedScope);
+							builder.setCache(cache);
+							builder.setStringPool(stringPool);
+							builder.build(sourceCode, sourceName);
+
+							return builder;
+						} finally {
+							Context.exit();
+						}
+					}
+				}));
+			}
+
+			for (Future<AstBuilder> future : futures) {
+				builders.add(future.get());
+			}
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException)cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			} else if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw new RuntimeException(cause);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		return builders;
+	}
+
 	public void reset()
 	{
 		parser = null;
 		ast = null;
-		rhinoNodes = new HashMap<String, AstNode>();
+		rhinoNodes = new NodeRegistry();
 		root = null;
+		lineIndex = null;
+		edits = null;
+		convertedBodies = new IdentityHashMap<AstNode, NativeObject>();
+		sourceCode = null;
+		sourceName = null;
 		comments = new HashMap<Comment, NativeObject>();
+		lazyNodes = new IdentityHashMap<AstNode, LazyNode>();
 		nativeComments = new ArrayList<NativeObject>();
 		seenComments = new HashSet<Comment>();
+		scopeIds = null;
+		scopes = null;
+	}
+
+	/**
+	 * Use an on-disk cache of ASTs. When the cache contains an AST for the source code, the AST is
+	 * rehydrated from the cache instead of being parsed, and getRhinoNodes() returns an empty list.
+	 * @param cache The cache to use, or null to disable caching.
+	 */
+	public void setCache(AstCache cache)
+	{
+		this.cache = cache;
+	}
+
+	public AstCache getCache()
+	{
+		return cache;
+	}
+
+	/**
+	 * Parse the tags in each JSDoc comment, and add the result to the comment as its
+	 * <code>jsdoc</code> property. By default, JSDoc comments are left for the caller to parse.
+	 * @param parsingJsDocTags Whether to parse the tags in JSDoc comments.
+	 * @see JsDocTagParser
+	 */
+	public void setParsingJsDocTags(boolean parsingJsDocTags)
+	{
+		tagParser = parsingJsDocTags ? new JsDocTagParser() : null;
+	}
+
+	public boolean isParsingJsDocTags()
+	{
+		return tagParser != null;
+	}
+
+	/**
+	 * Describe the scopes and symbols that Rhino found while parsing, so that a script doesn't
+	 * have to walk the AST to find out where each name is declared.
+	 *
+	 * Each node that has its own variables (the program, each function, and each block or loop
+	 * that declares a <code>let</code> variable) gets a <code>scopeId</code> property. The program
+	 * also gets a <code>scopes</code> array, indexed by scope ID, whose elements have the range of
+	 * the scope's node, the ID of the enclosing scope (except for the program), and the scope's
+	 * symbols, each with a <code>name</code> and a <code>kind</code> (<code>var</code>,
+	 * <code>let</code>, <code>const</code>, <code>function</code> or <code>param</code>). Each
+	 * identifier that refers to a variable declared in the file gets a
+	 * <code>definingScopeId</code> property.
+	 *
+	 * When this option is on, update() always rebuilds the whole AST.
+	 * @param resolvingScopes Whether to describe scopes and symbols.
+	 */
+	public void setResolvingScopes(boolean resolvingScopes)
+	{
+		this.resolvingScopes = resolvingScopes;
+	}
+
+	public boolean isResolvingScopes()
+	{
+		return resolvingScopes;
+	}
+
+	/**
+	 * Share the strings in the ASTs through a pool: the parser's names and string literals, the
+	 * literals' raw text, and the strings in ASTs that come from the cache. Use the same pool for
+	 * many builds to share the strings between their ASTs, which matters when many ASTs are kept in
+	 * memory at once; use a pool with a maximum size to limit the pool's own memory. By default,
+	 * strings are only shared within a single parse.
+	 * @param stringPool The pool to use, or null to use no pool.
+	 */
+	public void setStringPool(StringPool stringPool)
+	{
+		this.stringPool = stringPool;
+	}
+
+	public StringPool getStringPool()
+	{
+		return stringPool;
+	}
+
+	/**
+	 * Get the pooled copy of a string, if there is a pool.
+	 */
+	String intern(String str)
+	{
+		return stringPool == null ? str : stringPool.intern(str);
 	}
 
 	public NativeObject getAst()
@@ -119,58 +395,368 @@ public class AstBuilder
 		return ast;
 	}
 
-	public Map<String, AstNode> getRhinoNodes()
+	/**
+	 * Get the Rhino nodes that were converted by the last build, indexed by the value of each
+	 * converted node's hidden <code>nodeId</code> property.
+	 * @return A read-only list of Rhino nodes.
+	 */
+	public List<AstNode> getRhinoNodes()
 	{
 		return rhinoNodes;
 	}
 
+	/**
+	 * Get the Rhino node that a converted node was created from.
+	 * @param nodeId The value of the converted node's hidden <code>nodeId</code> property.
+	 * @return The Rhino node.
+	 */
+	public AstNode getRhinoNode(int nodeId)
+	{
+		return rhinoNodes.get(nodeId);
+	}
+
 	public NativeObject build(String sourceCode, String sourceName)
 	{
 		// Reset the instance's state if necessary
-		if (ast != null) {
+		if (ast != null || root != null) {
 			reset();
 		}
 
-		parser = getParser();
+		this.sourceCode = sourceCode;
+		this.sourceName = sourceName;
+
+		CompilerEnvirons ce = getCompilerEnvirons();
+		String cacheKey = null;
+
+		if (cache != null) {
+			cacheKey = cache.getKey(sourceCode, ce, getCacheOptions());
+			ast = cache.get(cacheKey, this);
+			if (ast != null) {
+				return ast;
+			}
+		}
+
+		parser = new Parser(ce, ce.getErrorReporter());
 
 		root = parser.parse(sourceCode, sourceName, 1);
+		lineIndex = new LineIndex(sourceCode);
+		edits = new EditLog(lineIndex);
 		processAllComments(root);
 
-		// ast will be null if there are no syntax nodes
 		ast = processNode(root);
-		if (ast == null) {
-			ast = newObject();
+		builtNodeCount = rhinoNodes.size();
+
+		ast.defineProperty("comments", createArray(nativeComments), ScriptableObject.EMPTY);
+		attachRemainingComments();
+
+		if (cache != null) {
+			try {
+				cache.put(cacheKey, ast);
+			} catch (IOException e) {
+				// the cache is an optimization; failing to update it is not an error
+			}
+		}
+
+		return ast;
+	}
+
+	/**
+	 * Apply a text edit to the source code that was passed to build(), and update the AST to
+	 * match. Only the statements that the edit touches are parsed and converted again, together
+	 * with the whitespace and comments before them, so that their leading comments are attached
+	 * again. The statements come from the innermost function body that contains the edit, or from
+	 * the program itself. The rest of the AST is kept. The converted nodes that follow or contain
+	 * the edit are moved the next time that they are used, so the cost of an update depends on the
+	 * size of the edit and the depth of the nodes around it, not on the size of the file. A node's
+	 * <code>range</code> and <code>loc</code> objects are moved in place.
+	 *
+	 * If the edit could change how the code around those statements is parsed (for example, by
+	 * removing the semicolon at the end of a statement, or by opening a block that is closed later
+	 * in the file), more of the file is parsed again, up to the whole file.
+	 *
+	 * The Rhino AST is updated too, with some limits: scope symbol tables only gain declarations,
+	 * and only node positions are moved. The line numbers of the Rhino nodes after the edit, and
+	 * other offsets (such as the position of a function's parentheses), keep their old values. The
+	 * Rhino nodes that the edit replaced stay in the list returned by getRhinoNodes(), but no
+	 * converted node refers to them.
+	 * @param offset The offset in the current source code at which the edit starts.
+	 * @param removedLength The number of characters that the edit removes.
+	 * @param insertedText The text that the edit inserts.
+	 * @return The updated AST.
+	 */
+	public NativeObject update(int offset, int removedLength, String insertedText)
+	{
+		if (sourceCode == null) {
+			throw new IllegalStateException("update() can only follow a call to build()");
+		}
+		if (offset < 0 || removedLength < 0 || offset + removedLength > sourceCode.length()) {
+			throw new IndexOutOfBoundsException("The edit is outside the source code");
 		}
 
-		ast.defineProperty("comments", newArray(nativeComments), ScriptableObject.EMPTY);
+		String newSource = sourceCode.substring(0, offset) + insertedText +
+			sourceCode.substring(offset + removedLength);
+
+		// We can't patch the AST without the Rhino AST, which we don't have if the AST came from
+		// the cache, or without a converted AST. Also, replaced nodes stay in the registry, and a
+		// node that has not been used since an edit has to replay the edits after it, so start
+		// over once either of them outnumbers the nodes that we built. We don't patch the scope
+		// descriptions either.
+		if (root == null || ast == null || resolvingScopes ||
+			rhinoNodes.size() > builtNodeCount * 2 || edits.getVersion() >= builtNodeCount) {
+			return build(newSource, sourceName);
+		}
+
+		int delta = insertedText.length() - removedLength;
+		LineIndex newLineIndex = lineIndex.update(newSource, offset, removedLength,
+			insertedText.length());
+		Region region = null;
+
+		try {
+			// start with the innermost function body, and move outward if we have to
+			List<AstNode> containers = getContainers(offset, offset + removedLength);
+			for (int i = containers.size() - 1; i >= 0 && region == null; i--) {
+				region = parseRegion(containers.get(i), offset, offset + removedLength, delta,
+					newSource, newLineIndex);
+			}
+		} catch (RhinoException e) {
+			// the region has a syntax error, so let a full build report it
+			region = null;
+		}
+
+		if (region == null) {
+			return build(newSource, sourceName);
+		}
+
+		sourceCode = newSource;
+		lineIndex = newLineIndex;
+
+		patchRhinoAst(region, delta);
+		// the converted nodes that follow or contain the region move when they are next used
+		edits.add(region.end, delta, newLineIndex);
+
+		// convert the new comments before the new statements that they're attached to
+		List<NativeObject> newNodes = new ArrayList<NativeObject>();
+		if (region.parsedRoot.getComments() != null) {
+			for (Comment comment : region.parsedRoot.getComments()) {
+				comments.put(comment, processNode(comment));
+			}
+		}
+		for (AstNode statement : region.newStatements) {
+			newNodes.add(processNode(statement));
+		}
+
+		NativeObject container = region.container == root ? ast :
+			convertedBodies.get(region.container);
+		replaceConvertedStatements(container, region, newNodes);
+
+		nativeComments = new ArrayList<NativeObject>();
+		if (root.getComments() != null) {
+			for (Comment comment : root.getComments()) {
+				nativeComments.add(comments.get(comment));
+			}
+		}
+		ast.put("comments", ast, createArray(nativeComments));
+
+		int start = getStart(root);
+		setConvertedPosition(ast, start, start + root.getLength(), lineIndex);
+		ast.delete("leadingComments");
+		ast.delete("trailingComments");
 		attachRemainingComments();
 
 		return ast;
 	}
 
-	protected static Context getCurrentContext()
+	/**
+	 * Parse the source code and write its AST to a stream as JSON, without creating any native
+	 * JavaScript objects. The JSON has the same structure as the AST returned by build(), minus
+	 * the hidden node IDs, and it is written on a single line.
+	 * @param sourceCode The source code to parse.
+	 * @param sourceName The name of the source file.
+	 * @param out The stream that receives the JSON. The caller is responsible for closing it.
+	 */
+	public void buildJson(String sourceCode, String sourceName, Writer out) throws IOException
+	{
+		if (ast != null || root != null) {
+			reset();
+		}
+
+		CompilerEnvirons ce = getCompilerEnvirons();
+		parser = new Parser(ce, ce.getErrorReporter());
+
+		root = parser.parse(sourceCode, sourceName, 1);
+		lineIndex = new LineIndex(sourceCode);
+		new JsonWriter(out).writeAst();
+	}
+
+	/**
+	 * Parse the source code and return an AST whose nodes are converted the first time a script
+	 * uses them. The AST has the same structure as the AST returned by build(), but a script that
+	 * visits only some of the nodes avoids the cost of converting the others. Lazy ASTs are never
+	 * cached.
+	 * @param sourceCode The source code to parse.
+	 * @param sourceName The name of the source file.
+	 * @return The root node of the AST.
+	 */
+	public ScriptableObject buildLazy(String sourceCode, String sourceName)
+	{
+		if (ast != null || root != null) {
+			reset();
+		}
+
+		CompilerEnvirons ce = getCompilerEnvirons();
+		parser = new Parser(ce, ce.getErrorReporter());
+
+		root = parser.parse(sourceCode, sourceName, 1);
+		lineIndex = new LineIndex(sourceCode);
+
+		return getLazyNode(root);
+	}
+
+	/**
+	 * Walk the AST from the last call to build() or buildLazy(), and call a function for each node
+	 * of the requested types. The function receives the same lazily converted node that
+	 * buildLazy() would return for the Rhino node, so only the nodes that match, and the nodes that
+	 * the function goes on to use, are converted. If the function returns <code>false</code>, the
+	 * walk skips the node's descendants.
+	 *
+	 * Node types are the names of Rhino's AST classes, such as <code>FunctionNode</code>,
+	 * <code>Assignment</code>, <code>ObjectProperty</code> or <code>VariableInitializer</code>,
+	 * because a Rhino node's class is known without converting the node. Parenthesized
+	 * expressions never match, because the converted AST leaves them out.
+	 *
+	 * After build(), the nodes are not registered again: each node has the same
+	 * <code>nodeId</code> as the node that build() converted from the same Rhino node.
+	 * @param nodeTypes The names of the Rhino node types to report. A JavaScript array works.
+	 * @param callback The function to call with each matching node.
+	 * @throws IllegalArgumentException If a node type is not a Rhino AST class that AstBuilder
+	 * converts.
+	 */
+	public void walk(Collection<?> nodeTypes, final Function callback)
+	{
+		if (root == null) {
+			throw new IllegalStateException("walk() can only follow a call to build() or " +
+				"buildLazy() that parsed the source code");
+		}
+
+		final Set<NodeTypes> types = EnumSet.noneOf(NodeTypes.class);
+		for (Object nodeType : nodeTypes) {
+			try {
+				types.add(NodeTypes.valueOf(String.valueOf(nodeType)));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Unrecognized node type " + nodeType);
+			}
+		}
+		types.remove(NodeTypes.ParenthesizedExpression);
+
+		root.visit(new NodeVisitor() {
+			public boolean visit(AstNode node) {
+				if (!types.contains(NodeTypes.forNode(node))) {
+					return true;
+				}
+
+				Object result = callback.call(cx, scope, scope, new Object[] { getLazyNode(node) });
+				return !Boolean.FALSE.equals(result);
+			}
+		});
+	}
+
+	/**
+	 * Write the ASTs for a list of source files as newline-delimited JSON, with one line per file
+	 * in the same order as sourceNames.
+	 * @param sourceNames The paths or URLs of the source files.
+	 * @param encoding The encoding to use if a file's encoding cannot be detected.
+	 * @param out The stream that receives the JSON. The caller is responsible for closing it.
+	 */
+	public void buildNdjson(List<String> sourceNames, String encoding, Writer out)
+		throws IOException
+	{
+		for (String sourceName : sourceNames) {
+			String sourceCode = (String)SourceReader.readFileOrUrl(sourceName, true, encoding);
+
+			buildJson(sourceCode, sourceName, out);
+			out.write('\n');
+			// don't hold on to the Rhino AST while we read the next file
+			reset();
+		}
+		out.flush();
+	}
+
+	protected Context getContext()
 	{
 		return cx;
 	}
 
-	protected static ScriptableObject getCurrentScope()
+	protected ScriptableObject getScope()
 	{
 		return scope;
 	}
 
-	protected static NativeObject newObject() {
+	protected NativeObject createObject() {
 		return (NativeObject)cx.newObject(scope);
 	}
 
-	protected static NativeArray newArray(List<?> list) {
+	protected NativeArray createArray(List<?> list) {
 		return (NativeArray)cx.newArray(scope, list.toArray());
 	}
 
-	protected static NativeArray newArray(int capacity) {
+	protected NativeArray createArray(int capacity) {
 		return (NativeArray)cx.newArray(scope, capacity);
 	}
 
-	private static Parser getParser()
+	/**
+	 * @deprecated Use {@link #getContext()}, which returns the Context of a specific builder.
+	 * This method returns the Context of the AstBuilder that was created last.
+	 */
+	@Deprecated
+	protected static Context getCurrentContext()
+	{
+		return lastContext;
+	}
+
+	/**
+	 * @deprecated Use {@link #getScope()}, which returns the scope of a specific builder. This
+	 * method returns the scope of the AstBuilder that was created last.
+	 */
+	@Deprecated
+	protected static ScriptableObject getCurrentScope()
+	{
+		return lastScope;
+	}
+
+	/**
+	 * @deprecated Use {@link #createObject()}. This method creates the object in the scope of
+	 * the AstBuilder that was created last.
+	 */
+	@Deprecated
+	protected static NativeObject newObject() {
+		return (NativeObject)lastContext.newObject(lastScope);
+	}
+
+	/**
+	 * @deprecated Use {@link #createArray(List)}. This method creates the array in the scope of
+	 * the AstBuilder that was created last.
+	 */
+	@Deprecated
+	protected static NativeArray newArray(List<?> list) {
+		return (NativeArray)lastContext.newArray(lastScope, list.toArray());
+	}
+
+	/**
+	 * @deprecated Use {@link #createArray(int)}. This method creates the array in the scope of
+	 * the AstBuilder that was created last.
+	 */
+	@Deprecated
+	protected static NativeArray newArray(int capacity) {
+		return (NativeArray)lastContext.newArray(lastScope, capacity);
+	}
+
+	// the options that change the converted AST, for the cache key
+	private String getCacheOptions()
+	{
+		return (isParsingJsDocTags() ? "jsdoc" : "") + "," + (resolvingScopes ? "scopes" : "");
+	}
+
+	private CompilerEnvirons getCompilerEnvirons()
 	{
 		CompilerEnvirons ce = new CompilerEnvirons();
 
@@ -178,40 +764,53 @@ public class AstBuilder
 		ce.setRecordingLocalJsDocComments(true);
 		ce.setLanguageVersion(180);
 		ce.initFromContext(cx);
+		ce.setStringPool(stringPool);
+
+		return ce;
+	}
 
-		return new Parser(ce, ce.getErrorReporter());
+	private int getStart(AstNode rhinoNode)
+	{
+		return rhinoNode.getAbsolutePosition();
 	}
 
-	private NativeArray getRange(AstNode rhinoNode)
+	private NativeArray getRange(int start, int end)
 	{
 		List<Integer> range = new ArrayList<Integer>();
 
-		Integer start = rhinoNode.getAbsolutePosition();
-		Integer end = start + rhinoNode.getLength();
 		range.add(start);
 		range.add(end);
 
-		return newArray(range);
+		return createArray(range);
 	}
 
 	/**
-	 * Provide the node's location in an Esprima-compatible format. Rhino doesn't store
-	 * start.column, end.line, or end.column, but fortunately we don't really need them.
-	 * @param rhinoNode
+	 * Provide the node's location in an Esprima-compatible format. Rhino doesn't store columns or
+	 * end positions, so we look up the line and column of the node's start and end offsets.
+	 * @param start The node's start offset.
+	 * @param end The node's end offset.
 	 * @return Esprima-compatible location info.
 	 */
-	private NativeObject getLocation(AstNode rhinoNode)
+	private NativeObject getLocation(int start, int end)
 	{
-		NativeObject loc = newObject();
-		NativeObject start = newObject();
+		NativeObject loc = createObject();
 
-		start.put("line", start, rhinoNode.getLineno());
-		loc.put("start", loc, start);
-		loc.put("end", loc, newObject());
+		loc.put("start", loc, getPosition(start));
+		loc.put("end", loc, getPosition(end));
 
 		return loc;
 	}
 
+	private NativeObject getPosition(int offset)
+	{
+		NativeObject position = createObject();
+
+		position.put("line", position, lineIndex.getLine(offset));
+		position.put("column", position, lineIndex.getColumn(offset));
+
+		return position;
+	}
+
 	private Integer getSyntaxStart()
 	{
 		AstNode node = (AstNode)root.getFirstChild();
@@ -232,28 +831,40 @@ public class AstBuilder
 		return comment.getCommentType() == Token.CommentType.JSDOC;
 	}
 
-	private void attachLeadingComments(AstNode rhinoNode, Entry info)
+	/**
+	 * Get the JSDoc comment that precedes a node, and remember that the comment is attached to
+	 * a node.
+	 * @return The comment, or null if there is no JSDoc comment for the node.
+	 */
+	private Comment getLeadingComment(AstNode rhinoNode)
 	{
-		List<NativeObject> leadingComments = new ArrayList<NativeObject>();
 		Comment comment = rhinoNode.getJsDocNode();
 		if (comment != null) {
 			seenComments.add(comment);
+		}
+
+		return comment;
+	}
 
+	private void attachLeadingComments(AstNode rhinoNode, Entry info)
+	{
+		List<NativeObject> leadingComments = new ArrayList<NativeObject>();
+		Comment comment = getLeadingComment(rhinoNode);
+		if (comment != null) {
 			leadingComments.add(comments.get(comment));
-			info.put("leadingComments", newArray(leadingComments));
+			info.put("leadingComments", createArray(leadingComments));
 		};
 	}
 
-	@SuppressWarnings("unchecked")
-	private void attachRemainingComments()
+	/**
+	 * Find the JSDoc comments that are not attached to a node, and sort them into comments that
+	 * precede and follow the first syntax node. Must be called after every node has been
+	 * converted.
+	 */
+	private void getRemainingComments(List<Comment> leadingComments,
+		List<Comment> trailingComments)
 	{
-		NativeObject nativeComment;
-		List<Integer> range;
-		Integer start;
-
 		Integer syntaxStart = getSyntaxStart();
-		List<NativeObject> leadingComments = new ArrayList<NativeObject>();
-		List<NativeObject> trailingComments = new ArrayList<NativeObject>();
 
 		Set<Comment> allComments = root.getComments();
 		if (allComments == null) {
@@ -262,37 +873,63 @@ public class AstBuilder
 
 		for (Comment commentNode : allComments) {
 			if (seenComments.contains(commentNode) == false && isJsDocComment(commentNode)) {
-				nativeComment = comments.get(commentNode);
-				range = (List<Integer>)nativeComment.get("range", nativeComment);
-				start = range.get(0);
-
-				if (syntaxStart != null && start < syntaxStart) {
-					leadingComments.add(nativeComment);
+				if (syntaxStart != null && getStart(commentNode) < syntaxStart) {
+					leadingComments.add(commentNode);
 				} else {
-					trailingComments.add(nativeComment);
+					trailingComments.add(commentNode);
 				}
 			}
 		}
+	}
+
+	private void attachRemainingComments()
+	{
+		List<Comment> leadingComments = new ArrayList<Comment>();
+		List<Comment> trailingComments = new ArrayList<Comment>();
+
+		getRemainingComments(leadingComments, trailingComments);
 
 		if (leadingComments.size() > 0) {
-			ast.put("leadingComments", ast, newArray(leadingComments));
+			ast.put("leadingComments", ast, getNativeComments(leadingComments));
 		}
 
 		if (trailingComments.size() > 0) {
-			ast.put("trailingComments", ast, newArray(trailingComments));
+			ast.put("trailingComments", ast, getNativeComments(trailingComments));
 		}
 	}
 
-	private NativeObject createNode(Entry info)
+	private NativeArray getNativeComments(List<Comment> commentNodes)
 	{
-		JsDocNode node;
+		List<NativeObject> nativeCommentList = new ArrayList<NativeObject>();
+		for (Comment commentNode : commentNodes) {
+			nativeCommentList.add(comments.get(commentNode));
+		}
 
-		String nodeId = (String)info.get("nodeId");
-		AstNode rhinoNode = rhinoNodes.get(nodeId);
+		return createArray(nativeCommentList);
+	}
 
-		NativeArray range = getRange(rhinoNode);
-		info.put("range", range);
-		info.put("loc", getLocation(rhinoNode));
+	@SuppressWarnings("unchecked")
+	private NativeObject createNode(AstNode rhinoNode, Entry info)
+	{
+		JsDocNode node;
+		Object value;
+
+		// convert the child nodes that the node's properties refer to
+		for (Map.Entry<Object, Object> item : info.entrySet()) {
+			value = item.getValue();
+			if (value instanceof AstNode) {
+				item.setValue(processNode((AstNode)value));
+			} else if (value instanceof List) {
+				item.setValue(processNodeList((List<? extends AstNode>)value));
+			} else if (value instanceof Map || value instanceof Object[]) {
+				item.setValue(getPlainValue(value));
+			}
+		}
+
+		int start = getStart(rhinoNode);
+		int end = start + rhinoNode.getLength();
+		info.put("range", getRange(start, end));
+		info.put("loc", getLocation(start, end));
 
 		attachLeadingComments(rhinoNode, info);
 
@@ -316,11 +953,6 @@ public class AstBuilder
 		ast.visitComments(visitor);
 	}
 
-	private String getRhinoNodeId(Node rhinoNode)
-	{
-		return "astnode" + rhinoNode.hashCode();
-	}
-
 	private NativeArray processNodeList(List<? extends AstNode> nodes)
 	{
 		List<NativeObject> newNodes = new ArrayList<NativeObject>();
@@ -328,10 +960,10 @@ public class AstBuilder
 			newNodes.add(processNode(node));
 		}
 
-		return newArray(newNodes);
+		return createArray(newNodes);
 	}
 
-	private NativeArray processNodeChildren(AstNode rhinoNode)
+	private List<AstNode> getChildren(AstNode rhinoNode)
 	{
 		List<AstNode> kids = new ArrayList<AstNode>();
 		Node current = rhinoNode.getFirstChild();
@@ -341,18 +973,574 @@ public class AstBuilder
 			current = current.getNext();
 		}
 
-		return processNodeList(kids);
+		return kids;
+	}
+
+	private int getEnd(AstNode rhinoNode)
+	{
+		return getStart(rhinoNode) + rhinoNode.getLength();
+	}
+
+	/**
+	 * Get every node whose parent is the specified node, including nodes that are stored in
+	 * properties rather than in the child list.
+	 */
+	private List<AstNode> getDirectChildren(final AstNode rhinoNode)
+	{
+		final List<AstNode> kids = new ArrayList<AstNode>();
+
+		rhinoNode.visit(new NodeVisitor() {
+			public boolean visit(AstNode node) {
+				if (node == rhinoNode) {
+					return true;
+				}
+
+				kids.add(node);
+				return false;
+			}
+		});
+
+		return kids;
+	}
+
+	/**
+	 * The statements of a program or function body that update() parses again.
+	 */
+	private static class Region
+	{
+		// the AstRoot or function body that contains the statements
+		AstNode container;
+		List<AstNode> statements;
+		// the indexes of the first and last statements to replace
+		int first;
+		int last;
+		// the offsets of the region in the old source code
+		int start;
+		int end;
+
+		AstRoot parsedRoot;
+		// the scope that the new statements were parsed in
+		Scope parsedScope;
+		List<AstNode> newStatements;
+		// the offset of the region in the text that we parsed
+		int parsedOffset;
+	}
+
+	/**
+	 * Find the function bodies that contain a range of the source code, from the outermost to the
+	 * innermost, preceded by the AstRoot.
+	 */
+	private List<AstNode> getContainers(int start, int end)
+	{
+		List<AstNode> containers = new ArrayList<AstNode>();
+		AstNode current = root;
+
+		containers.add(root);
+		while (current != null) {
+			AstNode next = null;
+			for (AstNode kid : getDirectChildren(current)) {
+				if (getStart(kid) <= start && end <= getEnd(kid)) {
+					next = kid;
+					break;
+				}
+			}
+
+			if (next instanceof FunctionNode) {
+				AstNode body = ((FunctionNode)next).getBody();
+				// the range must be inside the braces
+				if (body instanceof Block && getStart(body) < start && end < getEnd(body)) {
+					containers.add(body);
+				}
+			}
+			current = next;
+		}
+
+		return containers;
+	}
+
+	/**
+	 * Parse the statements of a program or function body that an edit touches. The region grows
+	 * until the code around it cannot affect how it is parsed, and vice versa.
+	 * @return The parsed region, or null if the region would have to grow beyond the container.
+	 * @throws RhinoException If the region has a syntax error.
+	 */
+	private Region parseRegion(AstNode container, int editStart, int editEnd, int delta,
+		String newSource, LineIndex newLineIndex)
+	{
+		boolean isRoot = container == root;
+		List<AstNode> statements = getChildren(container);
+		int count = statements.size();
+		int interiorStart = isRoot ? 0 : getStart(container) + 1;
+		int interiorEnd = isRoot ? sourceCode.length() : getEnd(container) - 1;
+
+		// Find the statements that the edit touches. The whitespace and comments before a
+		// statement belong to that statement.
+		int first = 0;
+		while (first < count && getEnd(statements.get(first)) < editStart) {
+			first++;
+		}
+		int last = first == count ? count - 1 : first;
+		while (last < count - 1 && getEnd(statements.get(last)) <= editEnd) {
+			last++;
+		}
+		boolean toEnd = count == 0 || editEnd >= getEnd(statements.get(count - 1));
+
+		while (true) {
+			int start = first > 0 ? getEnd(statements.get(first - 1)) : interiorStart;
+			int end = toEnd ? interiorEnd : getEnd(statements.get(last));
+
+			// The statement before the region must not continue into the region, and a JSDoc
+			// comment before the region must not be waiting for a node in the region.
+			if ((first > 0 && !isTerminated(statements.get(first - 1), sourceCode)) ||
+				hasPendingJsDoc(start)) {
+				if (first == 0) {
+					return null;
+				}
+				first--;
+				continue;
+			}
+
+			// Likewise, a JSDoc comment in the region must not belong to a node after the region.
+			Comment lastJsDoc = getLastJsDocComment(root.getComments(), start, end);
+			if (lastJsDoc != null && seenComments.contains(lastJsDoc) &&
+				!getJsDocComments(statements.subList(first, last + 1)).contains(lastJsDoc)) {
+				if (toEnd) {
+					return null;
+				}
+				if (last < count - 1) {
+					last++;
+				} else {
+					toEnd = true;
+				}
+				continue;
+			}
+
+			String text = newSource.substring(start, end + delta);
+			int lineno = newLineIndex.getLine(start);
+			CompilerEnvirons ce = getCompilerEnvirons();
+			Region region = new Region();
+
+			region.container = container;
+			region.statements = statements;
+			region.first = first;
+			region.last = last;
+			region.start = start;
+			region.end = end;
+
+			if (isRoot) {
+				region.parsedRoot = new Parser(ce, ce.getErrorReporter()).parse(text, sourceName,
+					lineno);
+				region.parsedScope = region.parsedRoot;
+				region.newStatements = getChildren(region.parsedRoot);
+				region.parsedOffset = 0;
+			} else {
+				// Parse the statements as the body of a function, so that return statements are
+				// allowed. If the text closes the function early, the edit changed the structure
+				// of the container.
+				text = FUNCTION_WRAPPER + text + "\n}";
+				region.parsedRoot = new Parser(ce, ce.getErrorReporter()).parse(text, sourceName,
+					lineno);
+				Node wrapper = region.parsedRoot.getFirstChild();
+				if (!(wrapper instanceof FunctionNode) || wrapper.getNext() != null ||
+					getEnd((AstNode)wrapper) != text.length()) {
+					return null;
+				}
+
+				region.parsedScope = (FunctionNode)wrapper;
+				region.newStatements = getChildren(((FunctionNode)wrapper).getBody());
+				region.parsedOffset = FUNCTION_WRAPPER.length();
+			}
+
+			if (!toEnd) {
+				// the last new statement must not continue into the code after the region
+				int newCount = region.newStatements.size();
+				if (newCount > 0 && !isTerminated(region.newStatements.get(newCount - 1), text)) {
+					if (last < count - 1) {
+						last++;
+					} else {
+						toEnd = true;
+					}
+					continue;
+				}
+			}
+
+			// a JSDoc comment that no new node uses would be used by a node after the region
+			lastJsDoc = getLastJsDocComment(region.parsedRoot.getComments(), 0, text.length());
+			if (lastJsDoc != null && !getJsDocComments(region.newStatements).contains(lastJsDoc)) {
+				if (toEnd) {
+					if (!isRoot) {
+						return null;
+					}
+				} else {
+					if (last < count - 1) {
+						last++;
+					} else {
+						toEnd = true;
+					}
+					continue;
+				}
+			}
+
+			return region;
+		}
+	}
+
+	/**
+	 * Check whether a statement ends in a way that prevents the code after it from continuing the
+	 * statement (for example, through automatic semicolon insertion).
+	 * @param statement The statement.
+	 * @param source The source code that contains the statement.
+	 */
+	private boolean isTerminated(AstNode statement, String source)
+	{
+		char lastChar = source.charAt(getEnd(statement) - 1);
+		if (lastChar == ';') {
+			return true;
+		} else if (lastChar != '}') {
+			return false;
+		}
+
+		// find the statement that contains the closing brace
+		AstNode current = statement;
+		while (true) {
+			if (current instanceof IfStatement) {
+				IfStatement ifStatement = (IfStatement)current;
+				current = ifStatement.getElsePart() != null ? ifStatement.getElsePart() :
+					ifStatement.getThenPart();
+			} else if (current instanceof Loop && !(current instanceof DoLoop)) {
+				current = ((Loop)current).getBody();
+			} else if (current instanceof LabeledStatement) {
+				current = ((LabeledStatement)current).getStatement();
+			} else if (current instanceof WithStatement) {
+				current = ((WithStatement)current).getStatement();
+			} else {
+				break;
+			}
+		}
+
+		// the brace ends a block, not an expression such as a function expression
+		return current instanceof Block || current instanceof FunctionNode ||
+			current instanceof TryStatement || current instanceof SwitchStatement ||
+			current.getClass() == Scope.class;
+	}
+
+	private Comment getLastJsDocComment(SortedSet<Comment> commentNodes, int start, int end)
+	{
+		Comment lastJsDoc = null;
+
+		if (commentNodes != null) {
+			// comments are sorted by position, and their parent is the AstRoot
+			Comment from = new Comment(start, 0, Token.CommentType.BLOCK_COMMENT, "");
+			Comment to = new Comment(end, 0, Token.CommentType.BLOCK_COMMENT, "");
+			for (Comment comment : commentNodes.subSet(from, to)) {
+				if (isJsDocComment(comment)) {
+					lastJsDoc = comment;
+				}
+			}
+		}
+
+		return lastJsDoc;
+	}
+
+	/**
+	 * Check whether the last JSDoc comment before an offset is not attached to a node, which means
+	 * that Rhino could attach it to a node after the offset.
+	 */
+	private boolean hasPendingJsDoc(int offset)
+	{
+		Comment lastJsDoc = getLastJsDocComment(root.getComments(), 0, offset);
+
+		return lastJsDoc != null && !seenComments.contains(lastJsDoc);
+	}
+
+	/**
+	 * Get the JSDoc comments that are attached to the specified nodes or their descendants.
+	 */
+	private Set<Comment> getJsDocComments(List<AstNode> rhinoNodes)
+	{
+		final Set<Comment> jsDocComments = new HashSet<Comment>();
+		NodeVisitor visitor = new NodeVisitor() {
+			public boolean visit(AstNode node) {
+				if (node.getJsDocNode() != null) {
+					jsDocComments.add(node.getJsDocNode());
+				}
+
+				return true;
+			}
+		};
+
+		for (AstNode rhinoNode : rhinoNodes) {
+			rhinoNode.visit(visitor);
+		}
+
+		return jsDocComments;
+	}
+
+	/**
+	 * Replace the statements in a region of the Rhino AST with the newly parsed statements, and
+	 * move the nodes after the region.
+	 */
+	private void patchRhinoAst(Region region, int delta)
+	{
+		AstNode container = region.container;
+		Scope scope = container == root ? root : (Scope)container.getParent();
+		List<AstNode> statements = region.statements;
+
+		// replace the scopes that the old statements created
+		List<Scope> childScopes = scope.getChildScopes();
+		if (childScopes != null) {
+			for (int i = childScopes.size() - 1; i >= 0; i--) {
+				int start = getStart(childScopes.get(i));
+				if (start >= region.start && start < region.end) {
+					childScopes.remove(i);
+				}
+			}
+		}
+		if (region.parsedScope.getChildScopes() != null) {
+			for (Scope childScope : region.parsedScope.getChildScopes()) {
+				scope.addChildScope(childScope);
+				adoptScope(childScope, region.parsedScope, scope.getTop());
+			}
+		}
+		if (region.parsedScope.getSymbolTable() != null) {
+			for (Symbol symbol : region.parsedScope.getSymbolTable().values()) {
+				if (scope.getDefiningScope(symbol.getName()) == null) {
+					scope.putSymbol(symbol);
+				}
+			}
+		}
+
+		// Move the nodes after the region in each of the container's ancestors. Node positions
+		// are relative to the parent, so we only have to move the ancestors' children.
+		AstNode current = container;
+		while (current != root) {
+			AstNode parent = current.getParent();
+			int currentEnd = current.getPosition() + current.getLength();
+
+			for (AstNode kid : getDirectChildren(parent)) {
+				if (kid.getParent() == parent && kid.getPosition() >= currentEnd) {
+					kid.setPosition(kid.getPosition() + delta);
+				}
+			}
+			current.setLength(current.getLength() + delta);
+			current = parent;
+		}
+
+		// replace the comments in the region, and move the comments after it
+		SortedSet<Comment> allComments = root.getComments();
+		if (allComments != null) {
+			Comment from = new Comment(region.start, 0, Token.CommentType.BLOCK_COMMENT, "");
+			Comment to = new Comment(region.end, 0, Token.CommentType.BLOCK_COMMENT, "");
+			List<Comment> oldComments = new ArrayList<Comment>(allComments.subSet(from, to));
+
+			for (Comment comment : oldComments) {
+				allComments.remove(comment);
+				comments.remove(comment);
+				seenComments.remove(comment);
+			}
+			// this keeps the comments in order, so we can change their positions in place
+			for (Comment comment : allComments.tailSet(to)) {
+				comment.setPosition(comment.getPosition() + delta);
+			}
+		}
+		if (region.parsedRoot.getComments() != null) {
+			for (Comment comment : region.parsedRoot.getComments()) {
+				comment.setPosition(comment.getPosition() - region.parsedOffset + region.start);
+				root.addComment(comment);
+			}
+		}
+
+		// replace the statements
+		int containerStart = getStart(container);
+		List<AstNode> newStatements = region.newStatements;
+		int[] newStarts = new int[newStatements.size()];
+		for (int i = 0; i < newStarts.length; i++) {
+			newStarts[i] = getStart(newStatements.get(i)) - region.parsedOffset + region.start;
+		}
+
+		container.removeChildren();
+		for (int i = 0; i < region.first; i++) {
+			container.addChildToBack(statements.get(i));
+		}
+		for (int i = 0; i < newStarts.length; i++) {
+			AstNode statement = newStatements.get(i);
+			statement.setParent(container);
+			statement.setPosition(newStarts[i] - containerStart);
+			container.addChildToBack(statement);
+		}
+		for (int i = region.last + 1; i < statements.size(); i++) {
+			AstNode statement = statements.get(i);
+			statement.setPosition(statement.getPosition() + delta);
+			container.addChildToBack(statement);
+		}
+
+		// the AstRoot ends with its last statement or comment
+		int rootEnd = root.getLastChild() != null ? getEnd((AstNode)root.getLastChild()) : 0;
+		if (allComments != null && !allComments.isEmpty()) {
+			rootEnd = Math.max(rootEnd, getEnd(allComments.last()));
+		}
+		root.setLength(rootEnd - root.getPosition());
+	}
+
+	/**
+	 * Attach a scope that was parsed on its own to the scope that contains it in the full AST.
+	 */
+	private void adoptScope(Scope childScope, Scope parsedScope, ScriptNode top)
+	{
+		// a function's nested scopes stay in the function
+		if (childScope.getChildScopes() == null || childScope instanceof ScriptNode) {
+			return;
+		}
+
+		for (Scope nestedScope : childScope.getChildScopes()) {
+			if (nestedScope.getTop() == parsedScope) {
+				nestedScope.setTop(top);
+			}
+			adoptScope(nestedScope, parsedScope, top);
+		}
+	}
+
+	private void replaceConvertedStatements(Scriptable node, Region region,
+		List<NativeObject> newNodes)
+	{
+		NativeArray body = (NativeArray)node.get("body", node);
+		List<Object> statements = new ArrayList<Object>();
+
+		for (int i = 0; i < region.first; i++) {
+			statements.add(body.get(i, body));
+		}
+		statements.addAll(newNodes);
+		for (int i = region.last + 1, l = (int)body.getLength(); i < l; i++) {
+			statements.add(body.get(i, body));
+		}
+
+		node.put("body", node, createArray(statements));
+	}
+
+	private void setConvertedPosition(Scriptable node, int start, int end, LineIndex lines)
+	{
+		NativeArray range = (NativeArray)node.get("range", node);
+		range.put(0, range, start);
+		range.put(1, range, end);
+
+		Scriptable loc = (Scriptable)node.get("loc", node);
+		Scriptable position = (Scriptable)loc.get("start", loc);
+		position.put("line", position, lines.getLine(start));
+		position.put("column", position, lines.getColumn(start));
+		position = (Scriptable)loc.get("end", loc);
+		position.put("line", position, lines.getLine(end));
+		position.put("column", position, lines.getColumn(end));
+	}
+
+	/**
+	 * Skip over the Rhino nodes that have no equivalent in the Esprima AST.
+	 */
+	private AstNode getSyntaxNode(AstNode rhinoNode)
+	{
+		// we need the expression, but not the node itself
+		while (rhinoNode instanceof ParenthesizedExpression) {
+			rhinoNode = ((ParenthesizedExpression)rhinoNode).getExpression();
+		}
+
+		return rhinoNode;
+	}
+
+	private LazyNode getLazyNode(AstNode rhinoNode)
+	{
+		rhinoNode = getSyntaxNode(rhinoNode);
+
+		LazyNode node = lazyNodes.get(rhinoNode);
+		if (node == null) {
+			node = new LazyNode(rhinoNode);
+			lazyNodes.put(rhinoNode, node);
+		}
+
+		return node;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object getLazyValue(Object value)
+	{
+		if (value instanceof AstNode) {
+			return getLazyNode((AstNode)value);
+		} else if (value instanceof List) {
+			List<LazyNode> nodes = new ArrayList<LazyNode>();
+			for (AstNode node : (List<? extends AstNode>)value) {
+				nodes.add(getLazyNode(node));
+			}
+
+			return createArray(nodes);
+		} else if (value instanceof Map || value instanceof Object[]) {
+			return getPlainValue(value);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Visit a node and its descendants in the same way as the other outputs, and remember which
+	 * JSDoc comments are attached to a node.
+	 */
+	@SuppressWarnings("unchecked")
+	private void collectLeadingComments(AstNode rhinoNode)
+	{
+		rhinoNode = getSyntaxNode(rhinoNode);
+
+		Entry info = new Entry();
+		describeNode(rhinoNode, info);
+		getLeadingComment(rhinoNode);
+
+		for (Object value : info.values()) {
+			if (value instanceof AstNode) {
+				collectLeadingComments((AstNode)value);
+			} else if (value instanceof List) {
+				for (AstNode node : (List<? extends AstNode>)value) {
+					collectLeadingComments(node);
+				}
+			}
+		}
 	}
 
 	private NativeObject processNode(AstNode rhinoNode)
 	{
-		NativeObject node = null;
-		String nodeId = getRhinoNodeId(rhinoNode);
+		rhinoNode = getSyntaxNode(rhinoNode);
+
+		// if we've already seen this comment, use the comment object we already created
+		if (rhinoNode instanceof Comment) {
+			NativeObject nativeComment = comments.get(rhinoNode);
+			if (nativeComment != null) {
+				return nativeComment;
+			}
+		}
+
 		Entry info = new Entry();
-		NodeTypes type = NodeTypes.valueOf(rhinoNode.shortName());
 
+		int nodeId = rhinoNodes.register(rhinoNode);
 		info.put(NODE_ID, nodeId);
-		rhinoNodes.put(nodeId, rhinoNode);
+		describeNode(rhinoNode, info);
+
+		NativeObject node = createNode(rhinoNode, info);
+		rhinoNodes.setConvertedNode(nodeId, node);
+		if (rhinoNode.getParent() instanceof FunctionNode &&
+			((FunctionNode)rhinoNode.getParent()).getBody() == rhinoNode) {
+			convertedBodies.put(rhinoNode, node);
+		}
+
+		return node;
+	}
+
+	/**
+	 * Add the Esprima properties for a Rhino node to an Entry. Properties that refer to other nodes
+	 * are stored as the Rhino node, or a list of Rhino nodes, so that each output format can convert
+	 * the children in its own way.
+	 */
+	private void describeNode(AstNode rhinoNode, Entry info)
+	{
+		NodeTypes type = NodeTypes.forNode(rhinoNode);
+		if (type == null) {
+			throw new IllegalArgumentException("Unrecognized node type " +
+				rhinoNode.shortName() + " with source: " + rhinoNode.toSource());
+		}
 
 		// this is clumsy but effective. could potentially use reflection instead, at the risk of
 		// a performance hit.
@@ -382,15 +1570,7 @@ public class AstBuilder
 				processCatchClause((CatchClause)rhinoNode, info);
 				break;
 			case Comment:
-				// if we've already seen this comment, use the comment object we already created
-				NativeObject nativeComment = comments.get(rhinoNode);
-
-				if (nativeComment != null) {
-					node = nativeComment;
-				} else {
-					processComment((Comment)rhinoNode, info);
-				}
-
+				processComment((Comment)rhinoNode, info);
 				break;
 			case ConditionalExpression:
 				processConditionalExpression((ConditionalExpression)rhinoNode, info);
@@ -458,11 +1638,6 @@ public class AstBuilder
 			case ObjectProperty:
 				processObjectProperty((ObjectProperty)rhinoNode, info);
 				break;
-			case ParenthesizedExpression:
-				// we need the expression, but not the node itself
-				ParenthesizedExpression expr = (ParenthesizedExpression)rhinoNode;
-				node = processNode(expr.getExpression());
-				break;
 			case PropertyGet:
 				processPropertyGet((PropertyGet)rhinoNode, info);
 				break;
@@ -513,11 +1688,159 @@ public class AstBuilder
 					rhinoNode.shortName() + " with source: " + rhinoNode.toSource());
 		}
 
-		if (node == null) {
-			node = createNode(info);
+		if (resolvingScopes) {
+			describeScope(rhinoNode, info);
 		}
+	}
 
-		return node;
+	private void describeScope(AstNode rhinoNode, Entry info)
+	{
+		if (rhinoNode instanceof Scope) {
+			Integer scopeId = getScopeIds().get(rhinoNode);
+			if (scopeId != null) {
+				info.put("scopeId", scopeId);
+			}
+			if (rhinoNode instanceof AstRoot) {
+				info.put("scopes", describeScopes());
+			}
+		} else if (rhinoNode instanceof Name && isVariableName((Name)rhinoNode)) {
+			Integer scopeId = getScopeIds().get(getDefiningScope((Name)rhinoNode));
+			if (scopeId != null) {
+				info.put("definingScopeId", scopeId);
+			}
+		}
+	}
+
+	/**
+	 * Find the scope that declares a name. Rhino doesn't link a function's scope to the scope that
+	 * contains the function, so we follow the AST rather than Scope.getParentScope().
+	 */
+	private static Scope getDefiningScope(Name name)
+	{
+		AstNode parent = name.getParent();
+		Scope scope;
+
+		// a function's name belongs to the scope that contains the function
+		if (parent instanceof FunctionNode && ((FunctionNode)parent).getFunctionName() == name) {
+			scope = getEnclosingScope(parent);
+		} else {
+			scope = getEnclosingScope(name);
+		}
+
+		for (; scope != null; scope = getEnclosingScope(scope)) {
+			if (scope.getSymbolTable() != null &&
+				scope.getSymbolTable().containsKey(name.getIdentifier())) {
+				return scope;
+			}
+		}
+
+		return null;
+	}
+
+	private static Scope getEnclosingScope(AstNode node)
+	{
+		AstNode parent = node.getParent();
+		while (parent != null && !(parent instanceof Scope)) {
+			parent = parent.getParent();
+		}
+
+		return (Scope)parent;
+	}
+
+	/**
+	 * Whether a name refers to a variable, rather than to a property or a label.
+	 */
+	private static boolean isVariableName(Name name)
+	{
+		AstNode parent = name.getParent();
+
+		if (parent instanceof PropertyGet) {
+			return ((PropertyGet)parent).getProperty() != name;
+		} else if (parent instanceof ObjectProperty) {
+			return ((ObjectProperty)parent).getLeft() != name;
+		}
+
+		return !(parent instanceof BreakStatement || parent instanceof ContinueStatement);
+	}
+
+	/**
+	 * Number the scopes that have their own symbols, plus the program and each function, in source
+	 * order. The program is always scope 0.
+	 */
+	private Map<Scope, Integer> getScopeIds()
+	{
+		if (scopeIds == null) {
+			scopeIds = new IdentityHashMap<Scope, Integer>();
+			scopes = new ArrayList<Scope>();
+
+			root.visit(new NodeVisitor() {
+				public boolean visit(AstNode node) {
+					if (node instanceof ScriptNode || (node instanceof Scope &&
+						((Scope)node).getSymbolTable() != null &&
+						!((Scope)node).getSymbolTable().isEmpty())) {
+						scopeIds.put((Scope)node, scopes.size());
+						scopes.add((Scope)node);
+					}
+					return true;
+				}
+			});
+		}
+
+		return scopeIds;
+	}
+
+	private Object[] describeScopes()
+	{
+		getScopeIds();
+		Object[] scopeList = new Object[scopes.size()];
+
+		for (int i = 0; i < scopeList.length; i++) {
+			Scope scope = scopes.get(i);
+			Map<String, Object> scopeInfo = new LinkedHashMap<String, Object>();
+			int start = getStart(scope);
+
+			// skip the scopes that have no symbols
+			Scope parent = getEnclosingScope(scope);
+			while (parent != null && !scopeIds.containsKey(parent)) {
+				parent = getEnclosingScope(parent);
+			}
+			if (parent != null) {
+				scopeInfo.put("parent", scopeIds.get(parent));
+			}
+			scopeInfo.put("range", new Object[] { start, start + scope.getLength() });
+
+			Map<String, Symbol> symbolTable = scope.getSymbolTable();
+			List<Object> symbols = new ArrayList<Object>();
+			if (symbolTable != null) {
+				for (Symbol symbol : symbolTable.values()) {
+					Map<String, Object> symbolInfo = new LinkedHashMap<String, Object>();
+					symbolInfo.put("name", symbol.getName());
+					symbolInfo.put("kind", getSymbolKind(symbol));
+					symbols.add(symbolInfo);
+				}
+			}
+			scopeInfo.put("symbols", symbols.toArray());
+
+			scopeList[i] = scopeInfo;
+		}
+
+		return scopeList;
+	}
+
+	private static String getSymbolKind(Symbol symbol)
+	{
+		switch (symbol.getDeclType()) {
+			case Token.LET:
+				return "let";
+			case Token.CONST:
+				return "const";
+			case Token.FUNCTION:
+				return "function";
+			case Token.LP:
+				return "param";
+			default:
+				return "var";
+		}
 	}
 
 	private void processArrayComprehension(ArrayComprehension rhinoNode, Entry info)
@@ -526,17 +1849,17 @@ public class AstBuilder
 
 		info.put(TYPE, JsDocNode.COMPREHENSION_EXPRESSION);
 
-		info.put("body", processNode(rhinoNode.getResult()));
-		info.put("blocks", processNodeList(rhinoNode.getLoops()));
-		info.put("filter", filter == null ? filter : processNode(filter));
+		info.put("body", rhinoNode.getResult());
+		info.put("blocks", rhinoNode.getLoops());
+		info.put("filter", filter);
 	}
 
 	private void processArrayComprehensionLoop(ArrayComprehensionLoop rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.COMPREHENSION_BLOCK);
 
-		info.put("left", processNode(rhinoNode.getIterator()));
-		info.put("right", processNode(rhinoNode.getIteratedObject()));
+		info.put("left", rhinoNode.getIterator());
+		info.put("right", rhinoNode.getIteratedObject());
 		info.put("each", rhinoNode.isForEach());
 	}
 
@@ -548,7 +1871,7 @@ public class AstBuilder
 			info.put(TYPE, JsDocNode.ARRAY_EXPRESSION);
 		}
 
-		info.put("elements", processNodeList(rhinoNode.getElements()));
+		info.put("elements", rhinoNode.getElements());
 	}
 
 	private void processAssignment(Assignment rhinoNode, Entry info)
@@ -556,22 +1879,22 @@ public class AstBuilder
 		info.put(TYPE, JsDocNode.ASSIGNMENT_EXPRESSION);
 
 		info.put("operator", AstNode.operatorToString(rhinoNode.getOperator()));
-		info.put("left", processNode(rhinoNode.getLeft()));
-		info.put("right", processNode(rhinoNode.getRight()));
+		info.put("left", rhinoNode.getLeft());
+		info.put("right", rhinoNode.getRight());
 	}
 
 	private void processAstRoot(AstRoot rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.PROGRAM);
 
-		info.put("body", processNodeChildren((AstNode)rhinoNode));
+		info.put("body", getChildren(rhinoNode));
 	}
 
 	private void processBlock(Block rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.BLOCK_STATEMENT);
 
-		info.put("body", processNodeChildren((AstNode)rhinoNode));
+		info.put("body", getChildren(rhinoNode));
 	}
 
 	private void processBreakStatement(BreakStatement rhinoNode, Entry info)
@@ -580,15 +1903,15 @@ public class AstBuilder
 
 		info.put(TYPE, JsDocNode.BREAK_STATEMENT);
 
-		info.put("label", label == null ? label : processNode(label));
+		info.put("label", label);
 	}
 
 	private void processCatchClause(CatchClause rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.CATCH_CLAUSE);
 
-		info.put("param", processNode(rhinoNode.getVarName()));
-		info.put("body", processNode(rhinoNode.getBody()));
+		info.put("param", rhinoNode.getVarName());
+		info.put("body", rhinoNode.getBody());
 	}
 
 	private void processComment(Comment rhinoNode, Entry info)
@@ -602,15 +1925,84 @@ public class AstBuilder
 			"");
 		// Esprima doesn't provide this, but it's useful
 		info.put("raw", rhinoNode.getValue());
+
+		if (tagParser != null && isJsDocComment(rhinoNode)) {
+			info.put("jsdoc", describeParsedComment(tagParser.parse(comment)));
+		}
+	}
+
+	/**
+	 * Describe the parts of a JSDoc comment as plain data. Each tag includes only the parts that
+	 * it has.
+	 */
+	private Map<String, Object> describeParsedComment(JsDocTagParser.ParsedComment parsed)
+	{
+		Map<String, Object> jsdoc = new LinkedHashMap<String, Object>();
+		List<JsDocTagParser.Tag> tags = parsed.getTags();
+		Object[] tagList = new Object[tags.size()];
+
+		for (int i = 0; i < tagList.length; i++) {
+			JsDocTagParser.Tag tag = tags.get(i);
+			Map<String, Object> tagInfo = new LinkedHashMap<String, Object>();
+			tagInfo.put("title", tag.getTitle());
+			putIfPresent(tagInfo, "text", tag.getText());
+			putIfPresent(tagInfo, "type", tag.getType());
+			putIfPresent(tagInfo, "name", tag.getName());
+			if (tag.isOptional()) {
+				tagInfo.put("optional", Boolean.TRUE);
+			}
+			putIfPresent(tagInfo, "defaultvalue", tag.getDefaultValue());
+			putIfPresent(tagInfo, "description", tag.getDescription());
+			tagList[i] = tagInfo;
+		}
+
+		putIfPresent(jsdoc, "description", parsed.getDescription());
+		jsdoc.put("tags", tagList);
+
+		return jsdoc;
+	}
+
+	private static void putIfPresent(Map<String, Object> map, String key, Object value)
+	{
+		if (value != null) {
+			map.put(key, value);
+		}
+	}
+
+	/**
+	 * Convert a value that describes plain data rather than nodes: a Map becomes an object, an
+	 * array becomes an array, and anything else is used as is.
+	 */
+	@SuppressWarnings("unchecked")
+	private Object getPlainValue(Object value)
+	{
+		if (value instanceof Map) {
+			NativeObject object = createObject();
+			for (Map.Entry<String, Object> item : ((Map<String, Object>)value).entrySet()) {
+				object.put(item.getKey(), object, getPlainValue(item.getValue()));
+			}
+
+			return object;
+		} else if (value instanceof Object[]) {
+			Object[] items = (Object[])value;
+			NativeArray array = createArray(items.length);
+			for (int i = 0; i < items.length; i++) {
+				array.put(i, array, getPlainValue(items[i]));
+			}
+
+			return array;
+		}
+
+		return value;
 	}
 
 	private void processConditionalExpression(ConditionalExpression rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.CONDITIONAL_EXPRESSION);
 
-		info.put("test", processNode(rhinoNode.getTestExpression()));
-		info.put("consequent", processNode(rhinoNode.getTrueExpression()));
-		info.put("alternate", processNode(rhinoNode.getFalseExpression()));
+		info.put("test", rhinoNode.getTestExpression());
+		info.put("consequent", rhinoNode.getTrueExpression());
+		info.put("alternate", rhinoNode.getFalseExpression());
 	}
 
 	private void processContinueStatement(ContinueStatement rhinoNode, Entry info)
@@ -619,15 +2011,15 @@ public class AstBuilder
 
 		info.put(TYPE, JsDocNode.CONTINUE_STATEMENT);
 
-		info.put("label", label == null ? label : processNode(label));
+		info.put("label", label);
 	}
 
 	private void processDoLoop(DoLoop rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.DO_WHILE_STATEMENT);
 
-		info.put("body", processNode(rhinoNode.getBody()));
-		info.put("test", processNode(rhinoNode.getCondition()));
+		info.put("body", rhinoNode.getBody());
+		info.put("test", rhinoNode.getCondition());
 	}
 
 	private void processElementGet(ElementGet rhinoNode, Entry info)
@@ -635,8 +2027,8 @@ public class AstBuilder
 		info.put(TYPE, JsDocNode.MEMBER_EXPRESSION);
 
 		info.put("computed", true);
-		info.put("object", processNode(rhinoNode.getTarget()));
-		info.put("property", processNode(rhinoNode.getElement()));
+		info.put("object", rhinoNode.getTarget());
+		info.put("property", rhinoNode.getElement());
 	}
 
 	private void processEmptyExpression(EmptyExpression rhinoNode, Entry info)
@@ -655,16 +2047,16 @@ public class AstBuilder
 	{
 		info.put(TYPE, JsDocNode.EXPRESSION_STATEMENT);
 
-		info.put("expression", processNode(rhinoNode.getExpression()));
+		info.put("expression", rhinoNode.getExpression());
 	}
 
 	private void processForInLoop(ForInLoop rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.FOR_IN_STATEMENT);
 
-		info.put("left", processNode(rhinoNode.getIterator()));
-		info.put("right", processNode(rhinoNode.getIteratedObject()));
-		info.put("body", processNode(rhinoNode.getBody()));
+		info.put("left", rhinoNode.getIterator());
+		info.put("right", rhinoNode.getIteratedObject());
+		info.put("body", rhinoNode.getBody());
 		info.put("each", rhinoNode.isForEach());
 	}
 
@@ -672,18 +2064,18 @@ public class AstBuilder
 	{
 		info.put(TYPE, JsDocNode.FOR_STATEMENT);
 
-		info.put("init", processNode(rhinoNode.getInitializer()));
-		info.put("test", processNode(rhinoNode.getCondition()));
-		info.put("update", processNode(rhinoNode.getIncrement()));
-		info.put("body", processNode(rhinoNode.getBody()));
+		info.put("init", rhinoNode.getInitializer());
+		info.put("test", rhinoNode.getCondition());
+		info.put("update", rhinoNode.getIncrement());
+		info.put("body", rhinoNode.getBody());
 	}
 
 	private void processFunctionCall(FunctionCall rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.CALL_EXPRESSION);
 
-		info.put("callee", processNode(rhinoNode.getTarget()));
-		info.put("arguments", processNodeList(rhinoNode.getArguments()));
+		info.put("callee", rhinoNode.getTarget());
+		info.put("arguments", rhinoNode.getArguments());
 	}
 
 	private void processFunctionNode(FunctionNode rhinoNode, Entry info)
@@ -693,10 +2085,10 @@ public class AstBuilder
 		info.put(TYPE, (rhinoNode.getFunctionType() == FunctionNode.FUNCTION_EXPRESSION) ?
 			JsDocNode.FUNCTION_EXPRESSION : JsDocNode.FUNCTION_DECLARATION);
 
-		info.put("id", id == null ? id : processNode(id));
-		info.put("params", processNodeList(rhinoNode.getParams()));
-		info.put("defaults", newArray(0));
-		info.put("body", processNode(rhinoNode.getBody()));
+		info.put("id", id);
+		info.put("params", rhinoNode.getParams());
+		info.put("defaults", new ArrayList<AstNode>());
+		info.put("body", rhinoNode.getBody());
 		info.put("rest", null);
 		info.put("generator", rhinoNode.isGenerator());
 		info.put("expression", rhinoNode.isExpressionClosure());
@@ -708,9 +2100,9 @@ public class AstBuilder
 
 		info.put(TYPE, JsDocNode.IF_STATEMENT);
 
-		info.put("test", processNode(rhinoNode.getCondition()));
-		info.put("consequent", processNode(rhinoNode.getThenPart()));
-		info.put("alternate", alternate == null ? alternate : processNode(alternate));
+		info.put("test", rhinoNode.getCondition());
+		info.put("consequent", rhinoNode.getThenPart());
+		info.put("alternate", alternate);
 	}
 
 	private void processInfixExpression(InfixExpression rhinoNode, Entry info)
@@ -718,8 +2110,8 @@ public class AstBuilder
 		info.put(TYPE, JsDocNode.BINARY_EXPRESSION);
 
 		info.put("operator", AstNode.operatorToString(rhinoNode.getOperator()));
-		info.put("left", processNode(rhinoNode.getLeft()));
-		info.put("right", processNode(rhinoNode.getRight()));
+		info.put("left", rhinoNode.getLeft());
+		info.put("right", rhinoNode.getRight());
 	}
 
 	private void processKeywordLiteral(KeywordLiteral rhinoNode, Entry info)
@@ -772,16 +2164,16 @@ public class AstBuilder
 
 		// does Rhino ever think that a node has multiple labels? if so, this may not work correctly
 		List<Label> labels = rhinoNode.getLabels();
-		info.put("label", processNode(labels.get(labels.size() - 1)));
-		info.put("body", processNode(rhinoNode.getStatement()));
+		info.put("label", labels.get(labels.size() - 1));
+		info.put("body", rhinoNode.getStatement());
 	}
 
 	private void processLetNode(LetNode rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.LET_STATEMENT);
 
-		info.put("head", processNode(rhinoNode.getVariables()));
-		info.put("body", processNode(rhinoNode.getBody()));
+		info.put("head", rhinoNode.getVariables());
+		info.put("body", rhinoNode.getBody());
 	}
 
 	private void processName(Name rhinoNode, Entry info)
@@ -795,8 +2187,8 @@ public class AstBuilder
 	{
 		info.put(TYPE, JsDocNode.NEW_EXPRESSION);
 
-		info.put("callee", processNode(rhinoNode.getTarget()));
-		info.put("arguments", processNodeList(rhinoNode.getArguments()));
+		info.put("callee", rhinoNode.getTarget());
+		info.put("arguments", rhinoNode.getArguments());
 	}
 
 	private void processNumberLiteral(NumberLiteral rhinoNode, Entry info)
@@ -804,7 +2196,7 @@ public class AstBuilder
 		info.put(TYPE, JsDocNode.LITERAL);
 
 		info.put("value", rhinoNode.getNumber());
-		info.put("raw", rhinoNode.getValue());
+		info.put("raw", intern(rhinoNode.getValue()));
 	}
 
 	private void processObjectLiteral(ObjectLiteral rhinoNode, Entry info)
@@ -815,15 +2207,15 @@ public class AstBuilder
 			info.put(TYPE, JsDocNode.OBJECT_EXPRESSION);
 		}
 
-		info.put("properties", processNodeList(rhinoNode.getElements()));
+		info.put("properties", rhinoNode.getElements());
 	}
 
 	private void processObjectProperty(ObjectProperty rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.PROPERTY);
 
-		info.put("key", processNode(rhinoNode.getLeft()));
-		info.put("value", processNode(rhinoNode.getRight()));
+		info.put("key", rhinoNode.getLeft());
+		info.put("value", rhinoNode.getRight());
 		info.put("kind",
 			rhinoNode.isGetter() ? "get" :
 			rhinoNode.isSetter() ? "set" :
@@ -835,8 +2227,8 @@ public class AstBuilder
 		info.put(TYPE, JsDocNode.MEMBER_EXPRESSION);
 
 		info.put("computed", false);
-		info.put("object", processNode(rhinoNode.getTarget()));
-		info.put("property", processNode(rhinoNode.getProperty()));
+		info.put("object", rhinoNode.getTarget());
+		info.put("property", rhinoNode.getProperty());
 	}
 
 	private void processRegExpLiteral(RegExpLiteral rhinoNode, Entry info)
@@ -854,14 +2246,14 @@ public class AstBuilder
 
 		info.put(TYPE, JsDocNode.RETURN_STATEMENT);
 
-		info.put("argument", argument == null ? argument : processNode(argument));
+		info.put("argument", argument);
 	}
 
 	private void processScope(Scope rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.BLOCK_STATEMENT);
 
-		info.put("body", processNodeChildren(rhinoNode));
+		info.put("body", getChildren(rhinoNode));
 	}
 
 	private void processStringLiteral(StringLiteral rhinoNode, Entry info)
@@ -869,24 +2261,21 @@ public class AstBuilder
 		info.put(TYPE, JsDocNode.LITERAL);
 
 		info.put("value", rhinoNode.getValue(false));
-		info.put("raw", rhinoNode.getValue(true));
+		info.put("raw", intern(rhinoNode.getValue(true)));
 	}
 
 	private void processSwitchCase(SwitchCase rhinoNode, Entry info)
 	{
 		AstNode test = rhinoNode.getExpression();
 
-		NativeArray consequent;
-		List<AstNode> statements = rhinoNode.getStatements();
-		if (statements == null) {
-			consequent = newArray(0);
-		} else {
-			consequent = processNodeList(statements);
+		List<AstNode> consequent = rhinoNode.getStatements();
+		if (consequent == null) {
+			consequent = new ArrayList<AstNode>();
 		}
 
 		info.put(TYPE, JsDocNode.SWITCH_CASE);
 
-		info.put("test", test == null ? test : processNode(test));
+		info.put("test", test);
 		info.put("consequent", consequent);
 	}
 
@@ -894,8 +2283,8 @@ public class AstBuilder
 	{
 		info.put(TYPE, JsDocNode.SWITCH_STATEMENT);
 
-		info.put("discriminant", processNode(rhinoNode.getExpression()));
-		info.put("cases", processNodeList(rhinoNode.getCases()));
+		info.put("discriminant", rhinoNode.getExpression());
+		info.put("cases", rhinoNode.getCases());
 		// omitting the "lexical" property for now, as Rhino doesn't seem to provide it
 	}
 
@@ -903,24 +2292,20 @@ public class AstBuilder
 	{
 		info.put(TYPE, JsDocNode.THROW_STATEMENT);
 
-		info.put("argument", processNode(rhinoNode.getExpression()));
+		info.put("argument", rhinoNode.getExpression());
 	}
 
 	private void processTryStatement(TryStatement rhinoNode, Entry info)
 	{
-		CatchClause current;
 		AstNode finalizer = rhinoNode.getFinallyBlock();
 
 		AstNode handler = null;
-		List<CatchClause> catchClauses = rhinoNode.getCatchClauses();
 		List<AstNode> guardedHandlers = new ArrayList<AstNode>();
-		Iterator<CatchClause> iterator = catchClauses.iterator();
 
-		while (iterator.hasNext()) {
-			current = iterator.next();
+		// leave the Rhino node's list of catch clauses alone, so the node can be described again
+		for (CatchClause current : rhinoNode.getCatchClauses()) {
 			if (current.getIfPosition() == -1) {
 				handler = current;
-				iterator.remove();
 			} else {
 				guardedHandlers.add(current);
 			}
@@ -928,10 +2313,10 @@ public class AstBuilder
 
 		info.put(TYPE, JsDocNode.TRY_STATEMENT);
 
-		info.put("block", processNode(rhinoNode.getTryBlock()));
-		info.put("handler", handler == null ? handler : processNode(handler));
-		info.put("guardedHandlers", processNodeList(guardedHandlers));
-		info.put("finalizer", finalizer == null ? finalizer : processNode(finalizer));
+		info.put("block", rhinoNode.getTryBlock());
+		info.put("handler", handler);
+		info.put("guardedHandlers", guardedHandlers);
+		info.put("finalizer", finalizer);
 	}
 
 	private void processUnaryExpression(UnaryExpression rhinoNode, Entry info)
@@ -955,14 +2340,14 @@ public class AstBuilder
 		}
 
 		info.put("operator", opString);
-		info.put("argument", processNode(rhinoNode.getOperand()));
+		info.put("argument", rhinoNode.getOperand());
 	}
 
 	private void processVariableDeclaration(VariableDeclaration rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.VARIABLE_DECLARATION);
 
-		info.put("declarations", processNodeList(rhinoNode.getVariables()));
+		info.put("declarations", rhinoNode.getVariables());
 		info.put("kind", Token.typeToName(rhinoNode.getType()).toLowerCase());
 	}
 
@@ -972,24 +2357,24 @@ public class AstBuilder
 
 		info.put(TYPE, JsDocNode.VARIABLE_DECLARATOR);
 
-		info.put("id", processNode(rhinoNode.getTarget()));
-		info.put("init", initializer == null ? initializer : processNode(initializer));
+		info.put("id", rhinoNode.getTarget());
+		info.put("init", initializer);
 	}
 
 	private void processWhileLoop(WhileLoop rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.WHILE_STATEMENT);
 
-		info.put("test", processNode(rhinoNode.getCondition()));
-		info.put("body", processNode(rhinoNode.getBody()));
+		info.put("test", rhinoNode.getCondition());
+		info.put("body", rhinoNode.getBody());
 	}
 
 	private void processWithStatement(WithStatement rhinoNode, Entry info)
 	{
 		info.put(TYPE, JsDocNode.WITH_STATEMENT);
 
-		info.put("object", processNode(rhinoNode.getExpression()));
-		info.put("body", processNode(rhinoNode.getStatement()));
+		info.put("object", rhinoNode.getExpression());
+		info.put("body", rhinoNode.getStatement());
 	}
 
 	private void processYield(Yield rhinoNode, Entry info)
@@ -998,9 +2383,438 @@ public class AstBuilder
 
 		info.put(TYPE, JsDocNode.YIELD_EXPRESSION);
 
-		info.put("argument", argument == null ? argument : processNode(argument));
+		info.put("argument", argument);
+	}
+
+
+	/**
+	 * Writes the AST as JSON while walking the Rhino AST, so that the converted AST never exists in
+	 * memory. The output matches the result of calling JSON.stringify() on the AST from build().
+	 */
+	private class JsonWriter
+	{
+		private final Writer out;
+
+		JsonWriter(Writer out)
+		{
+			this.out = out;
+		}
+
+		void writeAst() throws IOException
+		{
+			List<Comment> allComments = new ArrayList<Comment>();
+			List<Comment> leadingComments = new ArrayList<Comment>();
+			List<Comment> trailingComments = new ArrayList<Comment>();
+
+			if (root.getComments() != null) {
+				allComments.addAll(root.getComments());
+			}
+
+			out.write('{');
+			writeProperties(root);
+
+			writeKey("comments");
+			writeNodeList(allComments);
+
+			getRemainingComments(leadingComments, trailingComments);
+			if (leadingComments.size() > 0) {
+				writeKey("leadingComments");
+				writeNodeList(leadingComments);
+			}
+			if (trailingComments.size() > 0) {
+				writeKey("trailingComments");
+				writeNodeList(trailingComments);
+			}
+
+			out.write('}');
+		}
+
+		private void writeNode(AstNode rhinoNode) throws IOException
+		{
+			out.write('{');
+			writeProperties(getSyntaxNode(rhinoNode));
+			out.write('}');
+		}
+
+		private void writeNodeList(List<? extends AstNode> nodes) throws IOException
+		{
+			boolean first = true;
+
+			out.write('[');
+			for (AstNode node : nodes) {
+				if (!first) {
+					out.write(',');
+				}
+				writeNode(node);
+				first = false;
+			}
+			out.write(']');
+		}
+
+		private void writePlainObject(Map<String, Object> object) throws IOException
+		{
+			boolean first = true;
+
+			out.write('{');
+			for (Map.Entry<String, Object> item : object.entrySet()) {
+				if (!first) {
+					out.write(',');
+				}
+				writeString(item.getKey());
+				out.write(':');
+				writeValue(item.getValue());
+				first = false;
+			}
+			out.write('}');
+		}
+
+		private void writePlainArray(Object[] items) throws IOException
+		{
+			out.write('[');
+			for (int i = 0; i < items.length; i++) {
+				if (i > 0) {
+					out.write(',');
+				}
+				writeValue(items[i]);
+			}
+			out.write(']');
+		}
+
+		private void writeProperties(AstNode rhinoNode) throws IOException
+		{
+			Entry info = new Entry();
+			describeNode(rhinoNode, info);
+
+			// the type always comes first, just as it does in a JsDocNode
+			writeString(TYPE);
+			out.write(':');
+			writeValue(info.get(TYPE));
+
+			for (Map.Entry<Object, Object> item : info.entrySet()) {
+				if (!TYPE.equals(item.getKey())) {
+					writeKey((String)item.getKey());
+					writeValue(item.getValue());
+				}
+			}
+
+			int start = getStart(rhinoNode);
+			int end = start + rhinoNode.getLength();
+			writeKey("range");
+			out.write("[" + start + "," + end + "]");
+			writeKey("loc");
+			out.write("{\"start\":");
+			writePosition(start);
+			out.write(",\"end\":");
+			writePosition(end);
+			out.write('}');
+
+			Comment comment = getLeadingComment(rhinoNode);
+			if (comment != null) {
+				writeKey("leadingComments");
+				out.write('[');
+				writeNode(comment);
+				out.write(']');
+			}
+		}
+
+		private void writePosition(int offset) throws IOException
+		{
+			out.write("{\"line\":" + lineIndex.getLine(offset) + ",\"column\":" +
+				lineIndex.getColumn(offset) + "}");
+		}
+
+		private void writeKey(String key) throws IOException
+		{
+			out.write(',');
+			writeString(key);
+			out.write(':');
+		}
+
+		@SuppressWarnings("unchecked")
+		private void writeValue(Object value) throws IOException
+		{
+			if (value == null) {
+				out.write("null");
+			} else if (value instanceof AstNode) {
+				writeNode((AstNode)value);
+			} else if (value instanceof List) {
+				writeNodeList((List<? extends AstNode>)value);
+			} else if (value instanceof Map) {
+				writePlainObject((Map<String, Object>)value);
+			} else if (value instanceof Object[]) {
+				writePlainArray((Object[])value);
+			} else if (value instanceof Boolean || value instanceof Integer) {
+				out.write(value.toString());
+			} else if (value instanceof Number) {
+				double number = ((Number)value).doubleValue();
+				// JSON has no representation for NaN or Infinity
+				if (Double.isNaN(number) || Double.isInfinite(number)) {
+					out.write("null");
+				} else {
+					out.write(ScriptRuntime.toString(number));
+				}
+			} else {
+				writeString(value.toString());
+			}
+		}
+
+		private void writeString(String str) throws IOException
+		{
+			int length = str.length();
+
+			out.write('"');
+			for (int i = 0; i < length; i++) {
+				char c = str.charAt(i);
+				switch (c) {
+					case '"':
+						out.write("\\\"");
+						break;
+					case '\\':
+						out.write("\\\\");
+						break;
+					case '\b':
+						out.write("\\b");
+						break;
+					case '\f':
+						out.write("\\f");
+						break;
+					case '\n':
+						out.write("\\n");
+						break;
+					case '\r':
+						out.write("\\r");
+						break;
+					case '\t':
+						out.write("\\t");
+						break;
+					default:
+						if (c < ' ') {
+							out.write(String.format("\\u%04x", (int)c));
+						} else {
+							out.write(c);
+						}
+						break;
+				}
+			}
+			out.write('"');
+		}
+	}
+
+	/**
+	 * A converted node that catches up with the edits that update() made after it was converted.
+	 * The edits are replayed on the node's range and location the next time that one of its
+	 * properties is used, so an edit does not have to visit the nodes that it moves.
+	 */
+	private class ConvertedNode extends NativeObject
+	{
+		private static final long serialVersionUID = -3169216585618377152L;
+
+		private final EditLog nodeEdits;
+		private int version;
+
+		ConvertedNode()
+		{
+			ScriptRuntime.setBuiltinProtoAndParent(this, scope, TopLevel.Builtins.Object);
+			nodeEdits = edits;
+			version = edits.getVersion();
+		}
+
+		@Override
+		public Object get(String name, Scriptable start)
+		{
+			if (version != nodeEdits.getVersion()) {
+				move();
+			}
+
+			return super.get(name, start);
+		}
+
+		@Override
+		public void put(String name, Scriptable start, Object value)
+		{
+			if (version != nodeEdits.getVersion()) {
+				move();
+			}
+
+			super.put(name, start, value);
+		}
+
+		private void move()
+		{
+			int oldVersion = version;
+			version = nodeEdits.getVersion();
+
+			Object range = super.get("range", this);
+			if (!(range instanceof NativeArray)) {
+				return;
+			}
+
+			NativeArray rangeArray = (NativeArray)range;
+			int start = ((Number)rangeArray.get(0, rangeArray)).intValue();
+			int end = ((Number)rangeArray.get(1, rangeArray)).intValue();
+			setConvertedPosition(this, nodeEdits.move(start, oldVersion),
+				nodeEdits.move(end, oldVersion), nodeEdits.getLineIndex());
+		}
 	}
 
+	/**
+	 * A native JavaScript object that wraps a Rhino node and converts it the first time that one of
+	 * its properties is used. Properties that refer to other nodes contain LazyNode objects, so a
+	 * script that walks part of the AST only pays for the nodes it visits.
+	 */
+	private class LazyNode extends ScriptableObject
+	{
+		private static final long serialVersionUID = 1696738396498340342L;
+
+		private static final String LEADING_COMMENTS = "leadingComments";
+		private static final String TRAILING_COMMENTS = "trailingComments";
+
+		private final AstNode rhinoNode;
+		private final int nodeId;
+		private boolean materialized;
+		private boolean hasRemainingComments;
+
+		LazyNode(AstNode rhinoNode)
+		{
+			super(scope, ScriptableObject.getObjectPrototype(scope));
+			this.rhinoNode = rhinoNode;
+			// after build(), use the node's id in the built AST rather than registering it again
+			int id = ast != null ? rhinoNodes.getId(rhinoNode) : -1;
+			this.nodeId = id >= 0 ? id : rhinoNodes.register(rhinoNode);
+		}
+
+		@Override
+		public String getClassName()
+		{
+			return "Object";
+		}
+
+		private void materialize()
+		{
+			if (materialized) {
+				return;
+			}
+			materialized = true;
+
+			Entry info = new Entry();
+			describeNode(rhinoNode, info);
+
+			// define the properties in the same order as a JsDocNode
+			defineProperty(TYPE, info.get(TYPE), EMPTY);
+			defineProperty(NODE_ID, nodeId, DONTENUM);
+			for (Map.Entry<Object, Object> item : info.entrySet()) {
+				if (!TYPE.equals(item.getKey())) {
+					defineProperty((String)item.getKey(), getLazyValue(item.getValue()), EMPTY);
+				}
+			}
+
+			int start = getStart(rhinoNode);
+			int end = start + rhinoNode.getLength();
+			defineProperty("range", getRange(start, end), EMPTY);
+			defineProperty("loc", getLocation(start, end), EMPTY);
+
+			Comment comment = getLeadingComment(rhinoNode);
+			if (comment != null) {
+				List<LazyNode> leadingComments = new ArrayList<LazyNode>();
+				leadingComments.add(getLazyNode(comment));
+				defineProperty(LEADING_COMMENTS, createArray(leadingComments), EMPTY);
+			}
+
+			if (rhinoNode == root) {
+				List<LazyNode> allComments = new ArrayList<LazyNode>();
+				if (root.getComments() != null) {
+					for (Comment commentNode : root.getComments()) {
+						allComments.add(getLazyNode(commentNode));
+					}
+				}
+				defineProperty("comments", createArray(allComments), EMPTY);
+			}
+		}
+
+		/**
+		 * Add the JSDoc comments that are not attached to any node to the root node. We have to
+		 * visit the whole AST to find them, so we only do this when a script asks for them.
+		 */
+		private void materializeRemainingComments()
+		{
+			materialize();
+			if (rhinoNode != root || hasRemainingComments) {
+				return;
+			}
+			hasRemainingComments = true;
+
+			List<Comment> leadingComments = new ArrayList<Comment>();
+			List<Comment> trailingComments = new ArrayList<Comment>();
+
+			collectLeadingComments(root);
+			getRemainingComments(leadingComments, trailingComments);
+
+			if (leadingComments.size() > 0) {
+				defineProperty(LEADING_COMMENTS, getLazyValue(leadingComments), EMPTY);
+			}
+			if (trailingComments.size() > 0) {
+				defineProperty(TRAILING_COMMENTS, getLazyValue(trailingComments), EMPTY);
+			}
+		}
+
+		private void materialize(String name)
+		{
+			if (LEADING_COMMENTS.equals(name) || TRAILING_COMMENTS.equals(name)) {
+				materializeRemainingComments();
+			} else {
+				materialize();
+			}
+		}
+
+		@Override
+		public boolean has(String name, Scriptable start)
+		{
+			materialize(name);
+			return super.has(name, start);
+		}
+
+		@Override
+		public Object get(String name, Scriptable start)
+		{
+			materialize(name);
+			return super.get(name, start);
+		}
+
+		@Override
+		public void put(String name, Scriptable start, Object value)
+		{
+			materialize(name);
+			super.put(name, start, value);
+		}
+
+		@Override
+		public void delete(String name)
+		{
+			materialize(name);
+			super.delete(name);
+		}
+
+		@Override
+		public Object[] getIds()
+		{
+			materializeRemainingComments();
+			return super.getIds();
+		}
+
+		@Override
+		public Object[] getAllIds()
+		{
+			materializeRemainingComments();
+			return super.getAllIds();
+		}
+
+		@Override
+		protected ScriptableObject getOwnPropertyDescriptor(Context cx, Object id)
+		{
+			materialize(id instanceof String ? (String)id : null);
+			return super.getOwnPropertyDescriptor(cx, id);
+		}
+	}
 
 	enum Properties
 	{
@@ -1098,7 +2912,7 @@ public class AstBuilder
 
 		public JsDocNode()
 		{
-			node = AstBuilder.newObject();
+			node = new ConvertedNode();
 
 			for (Properties prop : Properties.values()) {
 				node.defineProperty(prop.getPropertyName(), UNDEFINED, EMPTY);
@@ -1136,7 +2950,7 @@ public class AstBuilder
 	}
 
 	// just for convenience
-	class Entry extends HashMap<Object, Object>
+	class Entry extends LinkedHashMap<Object, Object>
 	{
 		private static final long serialVersionUID = -2407765489150389060L;
 	}
@@ -0,0 +1,602 @@
+package org.jsdoc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.mozilla.javascript.CompilerEnvirons;
+import org.mozilla.javascript.NativeArray;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.Undefined;
+
+/**
+ * An on-disk cache of the ASTs created by AstBuilder. Each entry is keyed by a hash of the source
+ * code and the parser settings that affect the AST, and it is stored in a compact binary format
+ * that can be turned back into native JavaScript objects without parsing the source code again.
+ *
+ * When the total size of the cache exceeds its limit, the least recently used entries are deleted.
+ * A single AstCache can be shared by several threads.
+ */
+public class AstCache
+{
+	private static final String FILE_EXTENSION = ".ast";
+	private static final int MAGIC = 0x4a534443; // "JSDC"
+	// increment this whenever the binary format or the structure of the AST changes
+	private static final int FORMAT_VERSION = 3;
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_UNDEFINED = 1;
+	private static final byte TAG_TRUE = 2;
+	private static final byte TAG_FALSE = 3;
+	private static final byte TAG_INTEGER = 4;
+	private static final byte TAG_NUMBER = 5;
+	private static final byte TAG_STRING = 6;
+	private static final byte TAG_STRING_REF = 7;
+	private static final byte TAG_OBJECT = 8;
+	private static final byte TAG_ARRAY = 9;
+	private static final byte TAG_OBJECT_REF = 10;
+
+	private final File directory;
+	private final long maxSize;
+	private long size;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Create a cache that stores its entries in the specified directory.
+	 * @param directory The cache directory. It is created if it does not exist.
+	 * @param maxSize The maximum total size of the cache entries, in bytes.
+	 */
+	public AstCache(File directory, long maxSize) throws IOException
+	{
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Unable to create the AST cache directory " + directory);
+		}
+
+		this.directory = directory;
+		this.maxSize = maxSize;
+
+		for (File entry : listEntries()) {
+			size += entry.length();
+		}
+	}
+
+	/**
+	 * Get the cache key for the source code, given the settings that will be used to parse it.
+	 */
+	public String getKey(String sourceCode, CompilerEnvirons compilerEnv)
+	{
+		return getKey(sourceCode, compilerEnv, "");
+	}
+
+	/**
+	 * Get the cache key for the source code, given the settings that will be used to parse it and
+	 * the options that change how the AST is converted.
+	 */
+	public String getKey(String sourceCode, CompilerEnvirons compilerEnv, String options)
+	{
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+
+		String settings = FORMAT_VERSION + ":" +
+			compilerEnv.getLanguageVersion() + ":" +
+			compilerEnv.isRecordingComments() + ":" +
+			compilerEnv.isRecordingLocalJsDocComments() + ":" +
+			options + ":";
+		digest.update(getBytes(settings));
+		digest.update(getBytes(sourceCode));
+
+		StringBuilder key = new StringBuilder();
+		for (byte b : digest.digest()) {
+			key.append(Character.forDigit((b >> 4) & 0xf, 16));
+			key.append(Character.forDigit(b & 0xf, 16));
+		}
+
+		return key.toString();
+	}
+
+	/**
+	 * Retrieve a cached AST.
+	 * @param key The cache key returned by getKey().
+	 * @param builder The builder whose Context and scope will own the rehydrated objects.
+	 * @return The AST, or null if it is not in the cache.
+	 */
+	public NativeObject get(String key, AstBuilder builder)
+	{
+		File entry = getEntryFile(key);
+		NativeObject ast = null;
+
+		if (entry.isFile()) {
+			boolean corrupt = false;
+			try {
+				CountingInputStream counter = new CountingInputStream(new BufferedInputStream(
+					new FileInputStream(entry)));
+				DataInputStream in = new DataInputStream(counter);
+				try {
+					ast = new Reader(in, counter, entry.length(), builder).readAst();
+				} finally {
+					in.close();
+				}
+				// keep track of the most recent use for the eviction policy
+				entry.setLastModified(System.currentTimeMillis());
+			} catch (IOException e) {
+				corrupt = true;
+			} catch (RuntimeException e) {
+				// for example, property attributes that Rhino rejects
+				corrupt = true;
+			}
+
+			if (corrupt) {
+				// treat a corrupt or truncated entry as a miss
+				remove(entry);
+				ast = null;
+			}
+		}
+
+		if (ast == null) {
+			misses.incrementAndGet();
+		} else {
+			hits.incrementAndGet();
+		}
+
+		return ast;
+	}
+
+	/**
+	 * Store an AST in the cache, evicting older entries if the cache is too large.
+	 * @param key The cache key returned by getKey().
+	 * @param ast The AST to store.
+	 */
+	public void put(String key, NativeObject ast) throws IOException
+	{
+		File entry = getEntryFile(key);
+		File temp = File.createTempFile(key, ".tmp", directory);
+
+		try {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(temp)));
+			try {
+				new Writer(out).writeAst(ast);
+			} finally {
+				out.close();
+			}
+
+			synchronized (this) {
+				if (entry.exists() && !remove(entry)) {
+					return;
+				}
+				if (temp.renameTo(entry)) {
+					size += entry.length();
+				}
+				evict();
+			}
+		} finally {
+			temp.delete();
+		}
+	}
+
+	/**
+	 * Delete every entry in the cache.
+	 */
+	public synchronized void clear()
+	{
+		for (File entry : listEntries()) {
+			remove(entry);
+		}
+	}
+
+	public long getHits()
+	{
+		return hits.get();
+	}
+
+	public long getMisses()
+	{
+		return misses.get();
+	}
+
+	public long getEvictions()
+	{
+		return evictions.get();
+	}
+
+	public synchronized long getSize()
+	{
+		return size;
+	}
+
+	public long getMaxSize()
+	{
+		return maxSize;
+	}
+
+	private File getEntryFile(String key)
+	{
+		return new File(directory, key + FILE_EXTENSION);
+	}
+
+	private File[] listEntries()
+	{
+		File[] entries = directory.listFiles(new FileFilter() {
+			public boolean accept(File file) {
+				return file.isFile() && file.getName().endsWith(FILE_EXTENSION);
+			}
+		});
+
+		return entries == null ? new File[0] : entries;
+	}
+
+	private synchronized boolean remove(File entry)
+	{
+		long length = entry.length();
+		if (!entry.delete()) {
+			return false;
+		}
+
+		size -= length;
+		return true;
+	}
+
+	private synchronized void evict()
+	{
+		// total the directory again rather than trusting our running total, which misses entries
+		// that other processes add or delete
+		File[] entries = listEntries();
+		final Map<File, Long> lastUsed = new HashMap<File, Long>();
+		size = 0;
+		for (File entry : entries) {
+			lastUsed.put(entry, entry.lastModified());
+			size += entry.length();
+		}
+
+		if (size <= maxSize) {
+			return;
+		}
+
+		Arrays.sort(entries, new Comparator<File>() {
+			public int compare(File a, File b) {
+				return lastUsed.get(a).compareTo(lastUsed.get(b));
+			}
+		});
+
+		for (int i = 0; i < entries.length && size > maxSize; i++) {
+			remove(entries[i]);
+			evictions.incrementAndGet();
+		}
+	}
+
+	private static byte[] getBytes(String str)
+	{
+		try {
+			return str.getBytes("UTF-8");
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Writes an AST in the cache's binary format. Repeated strings are written once and then
+	 * referred to by index, and objects that appear more than once in the AST (such as comments,
+	 * which are in the comments array and also attached to nodes) are written once.
+	 */
+	private static class Writer
+	{
+		private final DataOutputStream out;
+		private final Map<String, Integer> strings = new HashMap<String, Integer>();
+		private final Map<Object, Integer> objects = new IdentityHashMap<Object, Integer>();
+
+		Writer(DataOutputStream out)
+		{
+			this.out = out;
+		}
+
+		void writeAst(NativeObject ast) throws IOException
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			writeValue(ast);
+		}
+
+		private void writeValue(Object value) throws IOException
+		{
+			if (value == null) {
+				out.writeByte(TAG_NULL);
+			} else if (value == Undefined.instance) {
+				out.writeByte(TAG_UNDEFINED);
+			} else if (value instanceof Boolean) {
+				out.writeByte(((Boolean)value).booleanValue() ? TAG_TRUE : TAG_FALSE);
+			} else if (value instanceof Integer) {
+				out.writeByte(TAG_INTEGER);
+				out.writeInt(((Integer)value).intValue());
+			} else if (value instanceof Number) {
+				out.writeByte(TAG_NUMBER);
+				out.writeDouble(((Number)value).doubleValue());
+			} else if (value instanceof CharSequence) {
+				writeString(value.toString());
+			} else if (value instanceof NativeArray || value instanceof NativeObject) {
+				Integer index = objects.get(value);
+				if (index != null) {
+					out.writeByte(TAG_OBJECT_REF);
+					out.writeInt(index);
+				} else {
+					objects.put(value, objects.size());
+					if (value instanceof NativeArray) {
+						writeArray((NativeArray)value);
+					} else {
+						writeObject((NativeObject)value);
+					}
+				}
+			} else {
+				throw new IOException("Cannot cache a value of type " + value.getClass().getName());
+			}
+		}
+
+		private void writeString(String str) throws IOException
+		{
+			Integer index = strings.get(str);
+			if (index != null) {
+				out.writeByte(TAG_STRING_REF);
+				out.writeInt(index);
+			} else {
+				byte[] bytes = getBytes(str);
+
+				strings.put(str, strings.size());
+				out.writeByte(TAG_STRING);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+		}
+
+		private void writeArray(NativeArray array) throws IOException
+		{
+			int length = (int)array.getLength();
+
+			out.writeByte(TAG_ARRAY);
+			out.writeInt(length);
+			for (int i = 0; i < length; i++) {
+				writeValue(array.get(i, array));
+			}
+		}
+
+		private void writeObject(NativeObject obj) throws IOException
+		{
+			Object[] ids = obj.getAllIds();
+
+			out.writeByte(TAG_OBJECT);
+			out.writeInt(ids.length);
+			for (Object id : ids) {
+				if (!(id instanceof String)) {
+					throw new IOException("Cannot cache a property named " + id);
+				}
+				String name = (String)id;
+
+				writeString(name);
+				out.writeByte(obj.getAttributes(name));
+				writeValue(obj.get(name, obj));
+			}
+		}
+	}
+
+	/**
+	 * Reads an AST that was written by the Writer class.
+	 */
+	private static class Reader
+	{
+		private final DataInputStream in;
+		private final CountingInputStream counter;
+		private final long entryLength;
+		private final AstBuilder builder;
+		private final List<String> strings = new ArrayList<String>();
+		private final List<Object> objects = new ArrayList<Object>();
+
+		/**
+		 * @param in The stream to read.
+		 * @param counter The stream that counts the bytes read so far, underneath <code>in</code>.
+		 * @param length The length of the entry, in bytes.
+		 * @param builder The builder whose Context and scope will own the objects.
+		 */
+		Reader(DataInputStream in, CountingInputStream counter, long length, AstBuilder builder)
+		{
+			this.in = in;
+			this.counter = counter;
+			this.entryLength = length;
+			this.builder = builder;
+		}
+
+		NativeObject readAst() throws IOException
+		{
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				throw new IOException("Unrecognized AST cache entry");
+			}
+
+			Object ast = readValue();
+			if (!(ast instanceof NativeObject)) {
+				throw new IOException("Unrecognized AST cache entry");
+			}
+
+			return (NativeObject)ast;
+		}
+
+		private Object readValue() throws IOException
+		{
+			byte tag = in.readByte();
+
+			switch (tag) {
+				case TAG_NULL:
+					return null;
+				case TAG_UNDEFINED:
+					return Undefined.instance;
+				case TAG_TRUE:
+					return Boolean.TRUE;
+				case TAG_FALSE:
+					return Boolean.FALSE;
+				case TAG_INTEGER:
+					return Integer.valueOf(in.readInt());
+				case TAG_NUMBER:
+					return Double.valueOf(in.readDouble());
+				case TAG_STRING:
+				case TAG_STRING_REF:
+					return readString(tag);
+				case TAG_OBJECT:
+					return readObject();
+				case TAG_ARRAY:
+					return readArray();
+				case TAG_OBJECT_REF:
+					return getIndexed(objects, in.readInt());
+				default:
+					throw new IOException("Unrecognized tag " + tag + " in AST cache entry");
+			}
+		}
+
+		private String readString(byte tag) throws IOException
+		{
+			if (tag == TAG_STRING_REF) {
+				return getIndexed(strings, in.readInt());
+			}
+
+			byte[] bytes = new byte[readLength()];
+			in.readFully(bytes);
+
+			String str = builder.intern(new String(bytes, "UTF-8"));
+			strings.add(str);
+
+			return str;
+		}
+
+		private NativeArray readArray() throws IOException
+		{
+			int length = readLength();
+			int index = objects.size();
+			// reserve our slot before reading the elements, which may be objects too
+			objects.add(null);
+
+			Object[] elements = new Object[length];
+			for (int i = 0; i < length; i++) {
+				elements[i] = readValue();
+			}
+
+			NativeArray array = builder.createArray(Arrays.asList(elements));
+			objects.set(index, array);
+
+			return array;
+		}
+
+		private NativeObject readObject() throws IOException
+		{
+			NativeObject obj = builder.createObject();
+			objects.add(obj);
+
+			int count = readLength();
+			for (int i = 0; i < count; i++) {
+				byte tag = in.readByte();
+				if (tag != TAG_STRING && tag != TAG_STRING_REF) {
+					throw new IOException("Unrecognized property name in AST cache entry");
+				}
+
+				String name = readString(tag);
+				int attributes = in.readByte();
+				obj.defineProperty(name, readValue(), attributes);
+			}
+
+			return obj;
+		}
+
+		/**
+		 * Read the length of a string, array or object. Each byte, element or property takes at
+		 * least one byte of the entry, so a length that is larger than the rest of the entry is
+		 * corrupt, and we don't allocate room for it.
+		 */
+		private int readLength() throws IOException
+		{
+			int count = in.readInt();
+			if (count < 0 || count > entryLength - counter.getCount()) {
+				throw new IOException("Invalid length " + count + " in AST cache entry");
+			}
+
+			return count;
+		}
+
+		private static <T> T getIndexed(List<T> list, int index) throws IOException
+		{
+			if (index < 0 || index >= list.size() || list.get(index) == null) {
+				throw new IOException("Invalid reference in AST cache entry");
+			}
+
+			return list.get(index);
+		}
+	}
+
+	/**
+	 * Counts the bytes that are read from a stream, so that the lengths in a cache entry can be
+	 * checked against the rest of the entry.
+	 */
+	private static class CountingInputStream extends FilterInputStream
+	{
+		private long count;
+
+		CountingInputStream(InputStream in)
+		{
+			super(in);
+		}
+
+		long getCount()
+		{
+			return count;
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			int b = super.read();
+			if (b >= 0) {
+				count++;
+			}
+
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				count += n;
+			}
+
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException
+		{
+			long skipped = super.skip(n);
+			count += skipped;
+
+			return skipped;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package org.jsdoc;
+
+/**
+ * Records the text edits that AstBuilder has applied to a source file since it was built, so that
+ * the offsets of the converted nodes can be moved when the nodes are next used, rather than when
+ * the edit is made. Each edit advances the log's version; a node that was last moved at an older
+ * version replays the edits after that version.
+ *
+ * Every edit replaces a region of the source code, and the nodes in the region are converted
+ * again. An offset at or after the end of the region moves by the change in length, and any other
+ * offset stays where it is. This covers the nodes after the region, and the nodes that contain
+ * the region, whose end moves but whose start does not.
+ */
+class EditLog
+{
+	private int[] ends = new int[16];
+	private int[] deltas = new int[16];
+	private int count;
+	private LineIndex lineIndex;
+
+	EditLog(LineIndex lineIndex)
+	{
+		this.lineIndex = lineIndex;
+	}
+
+	/**
+	 * Record an edit.
+	 * @param end The offset at which the replaced region ended, before the edit.
+	 * @param delta The change in the length of the source code.
+	 * @param newLineIndex The line index for the source code after the edit.
+	 */
+	void add(int end, int delta, LineIndex newLineIndex)
+	{
+		if (count == ends.length) {
+			int[] newEnds = new int[count * 2];
+			System.arraycopy(ends, 0, newEnds, 0, count);
+			ends = newEnds;
+
+			int[] newDeltas = new int[count * 2];
+			System.arraycopy(deltas, 0, newDeltas, 0, count);
+			deltas = newDeltas;
+		}
+
+		ends[count] = end;
+		deltas[count] = delta;
+		count++;
+		lineIndex = newLineIndex;
+	}
+
+	/**
+	 * Get the number of edits in the log.
+	 */
+	int getVersion()
+	{
+		return count;
+	}
+
+	/**
+	 * Get the line index for the source code after the last edit.
+	 */
+	LineIndex getLineIndex()
+	{
+		return lineIndex;
+	}
+
+	/**
+	 * Move an offset through the edits that were made after a version of the source code.
+	 * @param offset The offset in that version of the source code.
+	 * @param version The version of the source code.
+	 * @return The offset in the current source code.
+	 */
+	int move(int offset, int version)
+	{
+		for (int i = version; i < count; i++) {
+			if (offset >= ends[i]) {
+				offset += deltas[i];
+			}
+		}
+
+		return offset;
+	}
+}
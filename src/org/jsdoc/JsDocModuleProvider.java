@@ -2,8 +2,13 @@ package org.jsdoc;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Serializable;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jsdoc.SourceReader;
 import org.mozilla.javascript.commonjs.module.provider.UrlModuleSourceProvider;
 import org.mozilla.javascript.json.JsonParser;
@@ -15,6 +20,11 @@ import org.mozilla.javascript.NativeObject;
 
 /**
  * An extension of Rhino's UrlModuleSourceProvider that supports Node.js/CommonJS packages.
+ *
+ * Module resolution results are cached by base URI, module URI, and working directory, including
+ * lookups that found nothing. Each result remembers the modification times of the directories and
+ * package files it depended on, and it is thrown away as soon as any of them changes. The "main"
+ * property of each package file is cached in the same way.
  * @author Jeff Williams
  */
 public class JsDocModuleProvider extends UrlModuleSourceProvider {
@@ -27,10 +37,21 @@ public class JsDocModuleProvider extends UrlModuleSourceProvider {
 	private static final String MODULE_INDEX = "index" + JS_EXTENSION;
 	private static final String SUBMODULE_DIRECTORY = "node_modules";
 
+	private final Map<String, Resolution> resolutions = new ConcurrentHashMap<String, Resolution>();
+	private final Map<File, PackageMain> packageMains = new ConcurrentHashMap<File, PackageMain>();
+
 	public JsDocModuleProvider(Iterable<URI> privilegedUris, Iterable<URI> fallbackUris) {
 		super(privilegedUris, fallbackUris);
 	}
 
+	/**
+	 * Discard all cached module resolution results and package files.
+	 */
+	public void clearCache() {
+		resolutions.clear();
+		packageMains.clear();
+	}
+
 	@Override
 	protected ModuleSource loadFromPathList(String moduleId, Object validator, Iterable<URI> paths)
 		throws IOException, URISyntaxException {
@@ -93,10 +114,23 @@ public class JsDocModuleProvider extends UrlModuleSourceProvider {
 
 	private URI getModuleUri(URI uri, URI base)
 		throws SecurityException, IOException, ParseException, URISyntaxException {
-		return getModuleUri(uri, base, true);
+		// The submodule search depends on the current module, so it's part of the key
+		String key = base + "\n" + uri + "\n" + getCurrentModuleUri();
+		Resolution resolution = resolutions.get(key);
+
+		if (resolution == null || !resolution.isCurrent()) {
+			List<FileStamp> dependencies = new ArrayList<FileStamp>();
+			URI moduleUri = getModuleUri(uri, base, true, dependencies);
+
+			resolution = new Resolution(moduleUri, dependencies);
+			resolutions.put(key, resolution);
+		}
+
+		return resolution.moduleUri;
 	}
 
-	private URI getModuleUri(URI uri, URI base, boolean checkForSubmodules)
+	private URI getModuleUri(URI uri, URI base, boolean checkForSubmodules,
+		List<FileStamp> dependencies)
 		throws SecurityException, IOException, ParseException, URISyntaxException {
 		URI moduleUri = null;
 		String uriString = uri.toString();
@@ -113,12 +147,22 @@ public class JsDocModuleProvider extends UrlModuleSourceProvider {
 		// 3. The file indexFile.
 		// 4. A submodule of the current module that matches #1, #2, or #3 (if checkForSubmodules
 		//    is true).
-		if (new File(jsUri).isFile()) {
+		//
+		// Adding or removing any of these files changes the modification time of the directory
+		// that contains it, so the directories are all we need to watch (plus the package file,
+		// whose contents we use).
+		File jsFile = new File(jsUri);
+		File packageFile = new File(packageUri);
+		dependencies.add(new FileStamp(jsFile.getParentFile()));
+		dependencies.add(new FileStamp(packageFile.getParentFile()));
+
+		if (jsFile.isFile()) {
 			moduleUri = jsUri;
-		} 
+		}
 
-		if (moduleUri == null && new File(packageUri).isFile()) {
-			moduleUri = getPackageMain(packageUri);
+		if (moduleUri == null && packageFile.isFile()) {
+			dependencies.add(new FileStamp(packageFile));
+			moduleUri = getPackageMain(packageFile);
 		}
 
 		if (moduleUri == null && new File(indexUri).isFile()) {
@@ -126,13 +170,13 @@ public class JsDocModuleProvider extends UrlModuleSourceProvider {
 		}
 
 		if (moduleUri == null && checkForSubmodules) {
-			moduleUri = getSubmoduleUri(uri, base);
+			moduleUri = getSubmoduleUri(uri, base, dependencies);
 		}
 
 		return moduleUri;
 	}
 
-	private URI getSubmoduleUri(URI uri, URI base)
+	private URI getSubmoduleUri(URI uri, URI base, List<FileStamp> dependencies)
 		throws SecurityException, IOException, ParseException, URISyntaxException {
 		URI submoduleUri = null;
 		String currentModule = getCurrentModuleUri().toString();
@@ -140,10 +184,11 @@ public class JsDocModuleProvider extends UrlModuleSourceProvider {
 		// Find the child submodule, if any.
 		URI childSubmoduleUri = new URI(currentModule + SUBMODULE_DIRECTORY);
 		File childSubmoduleDir = new File(childSubmoduleUri);
+		dependencies.add(new FileStamp(childSubmoduleDir));
 
 		if (childSubmoduleDir.isDirectory()) {
 			submoduleUri = getModuleUri(new URI(childSubmoduleUri.toString() + PATH_SEPARATOR +
-				base.relativize(uri).toString()), childSubmoduleUri, false);
+				base.relativize(uri).toString()), childSubmoduleUri, false, dependencies);
 		}
 		
 		if (submoduleUri == null) {
@@ -158,7 +203,7 @@ public class JsDocModuleProvider extends UrlModuleSourceProvider {
 
 					URI submoduleSearchUri = new URI(submoduleDir + PATH_SEPARATOR +
 						base.relativize(uri).toString());
-					submoduleUri = getModuleUri(submoduleSearchUri, base, false);
+					submoduleUri = getModuleUri(submoduleSearchUri, base, false, dependencies);
 				}
 			}
 		}
@@ -166,11 +211,19 @@ public class JsDocModuleProvider extends UrlModuleSourceProvider {
 		return submoduleUri;
 	}
 
-	private URI getPackageMain(URI packageUri) throws IOException, ParseException {
-		return getPackageMain(new File(packageUri));
+	private URI getPackageMain(File packageFile) throws IOException, ParseException {
+		long modified = packageFile.lastModified();
+		PackageMain packageMain = packageMains.get(packageFile);
+
+		if (packageMain == null || packageMain.modified != modified) {
+			packageMain = new PackageMain(readPackageMain(packageFile), modified);
+			packageMains.put(packageFile, packageMain);
+		}
+
+		return packageMain.main;
 	}
 
-	private URI getPackageMain(File packageFile) throws IOException, ParseException {
+	private URI readPackageMain(File packageFile) throws IOException, ParseException {
 		NativeObject packageJson = parsePackageFile(packageFile);
 		String mainFile = (String) packageJson.get("main");
 		if (mainFile != null) {
@@ -198,8 +251,71 @@ public class JsDocModuleProvider extends UrlModuleSourceProvider {
 			toString();
 
 		Context cx = Context.enter();
-		JsonParser parser = new JsonParser(cx, cx.initStandardObjects());
-		NativeObject json = (NativeObject) parser.parseValue(packageJson);
-		return json;
+		try {
+			JsonParser parser = new JsonParser(cx, cx.initStandardObjects());
+			NativeObject json = (NativeObject) parser.parseValue(packageJson);
+			return json;
+		} finally {
+			Context.exit();
+		}
+	}
+
+	/**
+	 * A file and its modification time when we looked at it. The modification time of a file that
+	 * does not exist is 0.
+	 */
+	private static class FileStamp implements Serializable {
+		private static final long serialVersionUID = 2960419137451553412L;
+
+		private final File file;
+		private final long modified;
+
+		FileStamp(File file) {
+			this.file = file;
+			this.modified = file.lastModified();
+		}
+
+		boolean isCurrent() {
+			return file.lastModified() == modified;
+		}
+	}
+
+	/**
+	 * The result of resolving a module URI, which may be null, and the files that it depends on.
+	 */
+	private static class Resolution implements Serializable {
+		private static final long serialVersionUID = -1472953860834911245L;
+
+		private final URI moduleUri;
+		private final FileStamp[] dependencies;
+
+		Resolution(URI moduleUri, List<FileStamp> dependencies) {
+			this.moduleUri = moduleUri;
+			this.dependencies = dependencies.toArray(new FileStamp[dependencies.size()]);
+		}
+
+		boolean isCurrent() {
+			for (FileStamp dependency : dependencies) {
+				if (!dependency.isCurrent()) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * The "main" property of a package file, resolved against the file's location.
+	 */
+	private static class PackageMain implements Serializable {
+		private static final long serialVersionUID = 7290638311452027359L;
+
+		private final URI main;
+		private final long modified;
+
+		PackageMain(URI main, long modified) {
+			this.main = main;
+			this.modified = modified;
+		}
 	}
 }
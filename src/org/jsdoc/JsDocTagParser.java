@@ -0,0 +1,361 @@
+package org.jsdoc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits a JSDoc comment into its description and its tags, and splits each tag's text into a
+ * type expression, a name and a description, in a single pass over the comment. JSDoc does the
+ * same thing in JavaScript with a series of regular expressions; when AstBuilder is asked to parse
+ * tags, it adds the result to each JSDoc comment as the <code>jsdoc</code> property.
+ *
+ * The comment is unwrapped the way JSDoc unwraps it: the delimiters are removed, along with the
+ * whitespace, asterisk and single space that start each line. A tag starts with an <code>@</code>
+ * that is the first non-whitespace character on a line. Only the tags that take a type, such as
+ * <code>@returns</code>, have a type split from their text, and only the tags that document a
+ * name, such as <code>@param</code>, have their name split from their description. The text of
+ * an <code>@example</code> is kept as it was written. The parser does not otherwise know what any
+ * tag means, and it does not resolve synonyms.
+ */
+public class JsDocTagParser
+{
+	// the tags whose text may start with a type
+	private static final Set<String> TYPED_TAGS = new HashSet<String>(Arrays.asList(
+		"arg", "argument", "const", "constant", "define", "enum", "exception", "implements",
+		"member", "package", "param", "private", "prop", "property", "protected", "public",
+		"return", "returns", "this", "throws", "type", "typedef", "var", "yield", "yields"));
+
+	// the tags whose text is a type, a name and a description
+	private static final Set<String> NAMED_TAGS = new HashSet<String>(Arrays.asList(
+		"arg", "argument", "const", "constant", "member", "param", "prop", "property",
+		"typedef", "var"));
+
+	// the tags whose description keeps its line breaks and indentation
+	private static final Set<String> VERBATIM_TAGS = new HashSet<String>(Arrays.asList(
+		"example"));
+
+	/**
+	 * A tag, with its text split into parts. The parts that a tag does not have are null.
+	 */
+	public static class Tag
+	{
+		private final String title;
+		private final String text;
+		private String type;
+		private String name;
+		private String description;
+		private boolean optional;
+		private String defaultValue;
+
+		Tag(String title, String text)
+		{
+			this.title = title;
+			this.text = text;
+		}
+
+		/**
+		 * The tag's title, as written, without the <code>@</code>.
+		 */
+		public String getTitle()
+		{
+			return title;
+		}
+
+		/**
+		 * All of the tag's text, trimmed.
+		 */
+		public String getText()
+		{
+			return text;
+		}
+
+		/**
+		 * The type expression, without its braces.
+		 */
+		public String getType()
+		{
+			return type;
+		}
+
+		public String getName()
+		{
+			return name;
+		}
+
+		public String getDescription()
+		{
+			return description;
+		}
+
+		/**
+		 * Whether the name was in square brackets.
+		 */
+		public boolean isOptional()
+		{
+			return optional;
+		}
+
+		/**
+		 * The default value that followed the name in square brackets.
+		 */
+		public String getDefaultValue()
+		{
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * The parts of a JSDoc comment.
+	 */
+	public static class ParsedComment
+	{
+		private final String description;
+		private final List<Tag> tags;
+
+		ParsedComment(String description, List<Tag> tags)
+		{
+			this.description = description;
+			this.tags = Collections.unmodifiableList(tags);
+		}
+
+		/**
+		 * The text before the first tag, trimmed, or null if there is none.
+		 */
+		public String getDescription()
+		{
+			return description;
+		}
+
+		public List<Tag> getTags()
+		{
+			return tags;
+		}
+	}
+
+	/**
+	 * Parse a JSDoc comment.
+	 * @param comment The comment, with its delimiters.
+	 * @return The parts of the comment.
+	 */
+	public ParsedComment parse(String comment)
+	{
+		int start = 0;
+		int end = comment.length();
+
+		// Remove the opening slash and asterisks, and the closing asterisks and slash. The closing
+		// slash goes first, so that the asterisk before it in a comment such as /***/ is not taken
+		// for part of the opening.
+		boolean opened = comment.startsWith("/*");
+		boolean closed = end >= (opened ? 4 : 2) && comment.endsWith("*/");
+		if (closed) {
+			end -= 2;
+		}
+		if (opened) {
+			start = 2;
+			while (start < end && comment.charAt(start) == '*') {
+				start++;
+			}
+		}
+		if (closed) {
+			while (end > start && comment.charAt(end - 1) == '*') {
+				end--;
+			}
+		}
+
+		String description = null;
+		List<Tag> tags = new ArrayList<Tag>();
+		StringBuilder section = new StringBuilder();
+		boolean inTag = false;
+		boolean firstLine = true;
+		int i = start;
+
+		while (i <= end) {
+			// find the line's margin
+			int lineEnd = i;
+			while (lineEnd < end && comment.charAt(lineEnd) != '\n' &&
+				comment.charAt(lineEnd) != '\r') {
+				lineEnd++;
+			}
+			int contentStart = i;
+			while (contentStart < lineEnd && Character.isWhitespace(comment.charAt(contentStart))) {
+				contentStart++;
+			}
+			int textStart = firstLine ? i : contentStart;
+			if (contentStart < lineEnd && comment.charAt(contentStart) == '*') {
+				textStart = contentStart + 1;
+				if (textStart < lineEnd && comment.charAt(textStart) == ' ') {
+					textStart++;
+				}
+				contentStart = textStart;
+				while (contentStart < lineEnd &&
+					Character.isWhitespace(comment.charAt(contentStart))) {
+					contentStart++;
+				}
+			}
+
+			// a new tag ends the current section
+			if (contentStart + 1 < lineEnd && comment.charAt(contentStart) == '@' &&
+				!Character.isWhitespace(comment.charAt(contentStart + 1))) {
+				if (inTag) {
+					tags.add(createTag(section));
+				} else {
+					description = trim(section);
+				}
+				section.setLength(0);
+				section.append(comment, contentStart + 1, lineEnd);
+				inTag = true;
+			} else {
+				if (!firstLine) {
+					section.append('\n');
+				}
+				section.append(comment, Math.min(textStart, lineEnd), lineEnd);
+			}
+			firstLine = false;
+
+			// skip the line terminator
+			i = lineEnd + 1;
+			if (lineEnd < end && comment.charAt(lineEnd) == '\r' && i < end &&
+				comment.charAt(i) == '\n') {
+				i++;
+			}
+		}
+
+		if (inTag) {
+			tags.add(createTag(section));
+		} else {
+			description = trim(section);
+		}
+
+		return new ParsedComment(description, tags);
+	}
+
+	private static String trim(CharSequence text)
+	{
+		String trimmed = text.toString().trim();
+		return trimmed.length() > 0 ? trimmed : null;
+	}
+
+	private Tag createTag(CharSequence section)
+	{
+		int length = section.length();
+		int titleEnd = 0;
+		while (titleEnd < length && !Character.isWhitespace(section.charAt(titleEnd))) {
+			titleEnd++;
+		}
+
+		String title = section.subSequence(0, titleEnd).toString();
+		String text = trim(section.subSequence(titleEnd, length));
+		Tag tag = new Tag(title, text);
+		if (text == null) {
+			return tag;
+		}
+
+		if (VERBATIM_TAGS.contains(title)) {
+			tag.description = verbatim(section, titleEnd);
+			return tag;
+		}
+
+		// the type expression; an inline tag such as {@link Foo} is not one
+		int i = 0;
+		if (TYPED_TAGS.contains(title) && text.charAt(0) == '{' &&
+			!(text.length() > 1 && text.charAt(1) == '@')) {
+			int typeEnd = findClosing(text, 0, '{', '}');
+			if (typeEnd > 0) {
+				tag.type = text.substring(1, typeEnd).trim();
+				i = skipWhitespace(text, typeEnd + 1);
+			}
+		}
+
+		// the name, which may be optional and have a default value
+		if (NAMED_TAGS.contains(title) && i < text.length()) {
+			int nameEnd;
+			if (text.charAt(i) == '[' && (nameEnd = findClosing(text, i, '[', ']')) > 0) {
+				String name = text.substring(i + 1, nameEnd);
+				int equals = name.indexOf('=');
+				if (equals >= 0) {
+					tag.defaultValue = name.substring(equals + 1).trim();
+					name = name.substring(0, equals);
+				}
+				tag.name = name.trim();
+				tag.optional = true;
+				i = nameEnd + 1;
+			} else {
+				nameEnd = i;
+				while (nameEnd < text.length() && !Character.isWhitespace(text.charAt(nameEnd))) {
+					nameEnd++;
+				}
+				tag.name = text.substring(i, nameEnd);
+				i = nameEnd;
+			}
+
+			// the name and description may be separated by a hyphen
+			i = skipWhitespace(text, i);
+			if (i < text.length() && text.charAt(i) == '-' &&
+				(i + 1 == text.length() || Character.isWhitespace(text.charAt(i + 1)))) {
+				i = skipWhitespace(text, i + 1);
+			}
+		}
+
+		tag.description = i < text.length() ? text.substring(i) : null;
+
+		return tag;
+	}
+
+	/**
+	 * Get a tag's description with its line breaks and indentation. If the tag's first line has
+	 * nothing after the title, the description starts on the next line.
+	 */
+	private static String verbatim(CharSequence section, int titleEnd)
+	{
+		int start = titleEnd;
+		while (start < section.length() && section.charAt(start) != '\n' &&
+			Character.isWhitespace(section.charAt(start))) {
+			start++;
+		}
+		if (start < section.length() && section.charAt(start) == '\n') {
+			start++;
+		}
+
+		int end = section.length();
+		while (end > start && Character.isWhitespace(section.charAt(end - 1))) {
+			end--;
+		}
+
+		return end > start ? section.subSequence(start, end).toString() : null;
+	}
+
+	private static int skipWhitespace(String text, int i)
+	{
+		while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Find the bracket that closes the bracket at an offset, skipping nested brackets and
+	 * characters escaped with a backslash.
+	 * @return The offset of the closing bracket, or -1 if it is missing.
+	 */
+	private static int findClosing(String text, int offset, char open, char close)
+	{
+		int depth = 0;
+
+		for (int i = offset; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\\') {
+				i++;
+			} else if (c == open) {
+				depth++;
+			} else if (c == close && --depth == 0) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+}
@@ -0,0 +1,168 @@
+package org.jsdoc;
+
+import org.mozilla.javascript.ScriptRuntime;
+
+/**
+ * A table of the offsets at which each line of a source file starts. The table is built with a
+ * single pass over the source, and it converts a character offset to a line and column with a
+ * binary search, so that Esprima-style location info can be provided for every node without
+ * rescanning the source.
+ *
+ * Lines are numbered from 1 and columns from 0, as in Esprima. A line ends with a line feed, a
+ * carriage return, a carriage return followed by a line feed, or one of the other JavaScript line
+ * terminators.
+ */
+public class LineIndex
+{
+	private final int[] lineStarts;
+	private final int lineCount;
+
+	public LineIndex(CharSequence source)
+	{
+		int length = source.length();
+		int[] starts = new int[Math.max(16, length / 32)];
+		int count = 1;
+
+		starts[0] = 0;
+		for (int i = 0; i < length; i++) {
+			char c = source.charAt(i);
+			if (c == '\r' && i + 1 < length && source.charAt(i + 1) == '\n') {
+				continue;
+			}
+
+			if (c == '\n' || c == '\r' || (c > 127 && ScriptRuntime.isJSLineTerminator(c))) {
+				if (count == starts.length) {
+					int[] newStarts = new int[count * 2];
+					System.arraycopy(starts, 0, newStarts, 0, count);
+					starts = newStarts;
+				}
+				starts[count++] = i + 1;
+			}
+		}
+
+		lineStarts = starts;
+		lineCount = count;
+	}
+
+	private LineIndex(int[] lineStarts, int lineCount)
+	{
+		this.lineStarts = lineStarts;
+		this.lineCount = lineCount;
+	}
+
+	/**
+	 * Create the line index for a source file that was changed by a text edit. Only the inserted
+	 * text, and the characters on either side of it, are scanned; the other line starts are copied
+	 * from this index.
+	 * @param newSource The source after the edit.
+	 * @param offset The offset at which the edit starts.
+	 * @param removedLength The number of characters that the edit removed.
+	 * @param insertedLength The number of characters that the edit inserted.
+	 * @return The line index for the new source.
+	 */
+	public LineIndex update(CharSequence newSource, int offset, int removedLength,
+		int insertedLength)
+	{
+		int delta = insertedLength - removedLength;
+		int length = newSource.length();
+		int[] starts = new int[lineCount + 16];
+		int count = 0;
+
+		// A line start depends on the two characters before it (a carriage return followed by a
+		// line feed ends one line, not two), so the starts on either side of the edit are scanned
+		// again.
+		while (count == 0 || (count < lineCount && lineStarts[count] < offset)) {
+			starts[count] = lineStarts[count];
+			count++;
+		}
+		int next = count;
+		while (next < lineCount && lineStarts[next] <= offset + removedLength + 1) {
+			next++;
+		}
+
+		int scanEnd = Math.min(length, offset + insertedLength + 1);
+		for (int i = Math.max(0, offset - 1); i < scanEnd; i++) {
+			char c = newSource.charAt(i);
+			if (c == '\r' && i + 1 < length && newSource.charAt(i + 1) == '\n') {
+				continue;
+			}
+
+			if (c == '\n' || c == '\r' || (c > 127 && ScriptRuntime.isJSLineTerminator(c))) {
+				if (count == starts.length) {
+					int[] newStarts = new int[starts.length * 2];
+					System.arraycopy(starts, 0, newStarts, 0, count);
+					starts = newStarts;
+				}
+				starts[count++] = i + 1;
+			}
+		}
+
+		if (count + lineCount - next > starts.length) {
+			int[] newStarts = new int[count + lineCount - next];
+			System.arraycopy(starts, 0, newStarts, 0, count);
+			starts = newStarts;
+		}
+		for (; next < lineCount; next++) {
+			starts[count++] = lineStarts[next] + delta;
+		}
+
+		return new LineIndex(starts, count);
+	}
+
+	public int getLineCount()
+	{
+		return lineCount;
+	}
+
+	/**
+	 * Get the offset at which a line starts.
+	 * @param line The one-based line number.
+	 * @return The zero-based character offset.
+	 */
+	public int getLineStart(int line)
+	{
+		if (line < 1 || line > lineCount) {
+			throw new IndexOutOfBoundsException("No line " + line);
+		}
+
+		return lineStarts[line - 1];
+	}
+
+	/**
+	 * Get the line that contains a character offset.
+	 * @param offset The zero-based character offset.
+	 * @return The one-based line number.
+	 */
+	public int getLine(int offset)
+	{
+		return getLineIndex(offset) + 1;
+	}
+
+	/**
+	 * Get the column of a character offset.
+	 * @param offset The zero-based character offset.
+	 * @return The zero-based column number.
+	 */
+	public int getColumn(int offset)
+	{
+		return offset - lineStarts[getLineIndex(offset)];
+	}
+
+	private int getLineIndex(int offset)
+	{
+		// find the last line that starts at or before the offset
+		int low = 0;
+		int high = lineCount - 1;
+
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (lineStarts[mid] <= offset) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+
+		return low;
+	}
+}
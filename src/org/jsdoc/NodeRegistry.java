@@ -0,0 +1,112 @@
+package org.jsdoc;
+
+import java.util.AbstractList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ast.AstNode;
+
+/**
+ * Assigns sequential ids to Rhino nodes as AstBuilder converts them, and maps each id back to its
+ * node. The ids are indexes into an array, so registering and looking up a node costs no more than
+ * an array store or load. Because nodes are registered in traversal order, the ids are the same
+ * each time the same source is converted.
+ *
+ * The registry is a read-only list of nodes, indexed by node id. It also keeps the node that each
+ * Rhino node was converted to, if any, so that AstBuilder can update converted nodes without
+ * walking the converted AST.
+ *
+ * Looking up the id of a node is less common, so the index that it needs is only built the first
+ * time that it is used.
+ */
+class NodeRegistry extends AbstractList<AstNode> implements RandomAccess
+{
+	private AstNode[] nodes = new AstNode[64];
+	private Scriptable[] convertedNodes = new Scriptable[64];
+	private int count;
+	// null until getId() is called
+	private Map<AstNode, Integer> ids;
+
+	/**
+	 * Add a node to the registry.
+	 * @param node The node to add.
+	 * @return The node's id.
+	 */
+	int register(AstNode node)
+	{
+		if (count == nodes.length) {
+			AstNode[] newNodes = new AstNode[count * 2];
+			System.arraycopy(nodes, 0, newNodes, 0, count);
+			nodes = newNodes;
+
+			Scriptable[] newConvertedNodes = new Scriptable[count * 2];
+			System.arraycopy(convertedNodes, 0, newConvertedNodes, 0, count);
+			convertedNodes = newConvertedNodes;
+		}
+
+		nodes[count] = node;
+		if (ids != null && !ids.containsKey(node)) {
+			ids.put(node, count);
+		}
+		return count++;
+	}
+
+	/**
+	 * Get the id of a registered node. If a node was registered more than once, the id is the one
+	 * from its first registration.
+	 * @param node The node.
+	 * @return The node's id, or -1 if the node is not registered.
+	 */
+	int getId(AstNode node)
+	{
+		if (ids == null) {
+			ids = new IdentityHashMap<AstNode, Integer>(count * 2);
+			for (int i = count - 1; i >= 0; i--) {
+				ids.put(nodes[i], i);
+			}
+		}
+
+		Integer id = ids.get(node);
+		return id == null ? -1 : id.intValue();
+	}
+
+	@Override
+	public AstNode get(int nodeId)
+	{
+		if (nodeId < 0 || nodeId >= count) {
+			throw new IndexOutOfBoundsException("No node with the id " + nodeId);
+		}
+
+		return nodes[nodeId];
+	}
+
+	/**
+	 * Record the node that a registered node was converted to.
+	 * @param nodeId The id of the Rhino node.
+	 * @param convertedNode The converted node.
+	 */
+	void setConvertedNode(int nodeId, Scriptable convertedNode)
+	{
+		get(nodeId);
+		convertedNodes[nodeId] = convertedNode;
+	}
+
+	/**
+	 * Get the node that a registered node was converted to.
+	 * @param nodeId The id of the Rhino node.
+	 * @return The converted node, or null if the node has not been converted.
+	 */
+	Scriptable getConvertedNode(int nodeId)
+	{
+		get(nodeId);
+		return convertedNodes[nodeId];
+	}
+
+	@Override
+	public int size()
+	{
+		return count;
+	}
+}
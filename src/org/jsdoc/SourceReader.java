@@ -1,125 +1,191 @@
-package org.jsdoc;
-
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLConnection;
-
-import org.mozilla.javascript.Kit;
-import org.mozilla.javascript.commonjs.module.provider.ParsedContentType;
-
-/**
- * Copied from org.mozilla.javascript.tools.SourceReader to avoid circular
- * build dependencies between src/ and toolsrc/.
- */
-public class SourceReader
-{
-    public static Object readFileOrUrl(String path, boolean convertToString, 
-            String defaultEncoding) throws IOException
-    {
-        URL url = null;
-        // Assume path is URL if it contains dot and there are at least
-        // 2 characters in the protocol part. The later allows under Windows
-        // to interpret paths with driver letter as file, not URL.
-        if (path.indexOf(':') >= 2) {
-            try {
-                url = new URL(path);
-            } catch (MalformedURLException ex) {
-            }
-        }
-
-        InputStream is = null;
-        int capacityHint = 0;
-        String encoding;
-        final String contentType;
-        byte[] data;
-        try {
-            if (url == null) {
-                File file = new File(path);
-                contentType = encoding = null;
-                capacityHint = (int)file.length();
-                is = new FileInputStream(file);
-            } else {
-                URLConnection uc = url.openConnection();
-                is = uc.getInputStream();
-                if(convertToString) {
-                    ParsedContentType pct = new ParsedContentType(uc.getContentType());
-                    contentType = pct.getContentType();
-                    encoding = pct.getEncoding();
-                }
-                else {
-                    contentType = encoding = null;
-                }
-                capacityHint = uc.getContentLength();
-                // Ignore insane values for Content-Length
-                if (capacityHint > (1 << 20)) {
-                    capacityHint = -1;
-                }
-            }
-            if (capacityHint <= 0) {
-                capacityHint = 4096;
-            }
-    
-            data = Kit.readStream(is, capacityHint);
-        } finally {
-            if(is != null) {
-                is.close();
-            }
-        }
-    
-        Object result;
-        if (!convertToString) {
-            result = data;
-        } else {
-            if(encoding == null) {
-                // None explicitly specified in Content-type header. Use RFC-4329
-                // 4.2.2 section to autodetect
-                if(data.length > 3 && data[0] == -1 && data[1] == -2 && data[2] == 0 && data[3] == 0) {
-                    encoding = "UTF-32LE";
-                }
-                else if(data.length > 3 && data[0] == 0 && data[1] == 0 && data[2] == -2 && data[3] == -1) {
-                    encoding = "UTF-32BE";
-                }
-                else if(data.length > 2 && data[0] == -17 && data[1] == -69 && data[2] == -65) {
-                    encoding = "UTF-8";
-                }
-                else if(data.length > 1 && data[0] == -1 && data[1] == -2) {
-                    encoding = "UTF-16LE";
-                }
-                else if(data.length > 1 && data[0] == -2 && data[1] == -1) {
-                    encoding = "UTF-16BE";
-                }
-                else {
-                    // No autodetect. See if we have explicit value on command line
-                    encoding = defaultEncoding;
-                    if(encoding == null) {
-                        // No explicit encoding specification
-                        if(url == null) {
-                            // Local files default to system encoding
-                            encoding = System.getProperty("file.encoding");
-                        }
-                        else if(contentType != null && contentType.startsWith("application/")) {
-                            // application/* types default to UTF-8
-                            encoding = "UTF-8";
-                        }
-                        else {
-                            // text/* MIME types default to US-ASCII
-                            encoding = "US-ASCII";
-                        }
-                    }
-                }
-            }
-            String strResult = new String(data, encoding);
-            // Skip BOM
-            if(strResult.length() > 0 && strResult.charAt(0) == '\uFEFF')
-            {
-                strResult = strResult.substring(1);
-            }
-            result = strResult;
-        }
-        return result;
-    }
-}
+package org.jsdoc;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.mozilla.javascript.Kit;
+import org.mozilla.javascript.commonjs.module.provider.ParsedContentType;
+
+/**
+ * Copied from org.mozilla.javascript.tools.SourceReader to avoid circular
+ * build dependencies between src/ and toolsrc/.
+ */
+public class SourceReader
+{
+    public static Object readFileOrUrl(String path, boolean convertToString, 
+            String defaultEncoding) throws IOException
+    {
+        URL url = null;
+        // Assume path is URL if it contains dot and there are at least
+        // 2 characters in the protocol part. The later allows under Windows
+        // to interpret paths with driver letter as file, not URL.
+        if (path.indexOf(':') >= 2) {
+            try {
+                url = new URL(path);
+            } catch (MalformedURLException ex) {
+            }
+        }
+
+        if (url == null && convertToString) {
+            byte[] data = readBytes(new File(path));
+            String encoding = detectEncoding(data, defaultEncoding, true, null);
+            return decodeString(data, encoding);
+        }
+
+        InputStream is = null;
+        int capacityHint = 0;
+        String encoding;
+        final String contentType;
+        byte[] data;
+        try {
+            if (url == null) {
+                File file = new File(path);
+                contentType = encoding = null;
+                capacityHint = (int)file.length();
+                is = new FileInputStream(file);
+            } else {
+                URLConnection uc = url.openConnection();
+                is = uc.getInputStream();
+                if(convertToString) {
+                    ParsedContentType pct = new ParsedContentType(uc.getContentType());
+                    contentType = pct.getContentType();
+                    encoding = pct.getEncoding();
+                }
+                else {
+                    contentType = encoding = null;
+                }
+                capacityHint = uc.getContentLength();
+                // Ignore insane values for Content-Length
+                if (capacityHint > (1 << 20)) {
+                    capacityHint = -1;
+                }
+            }
+            if (capacityHint <= 0) {
+                capacityHint = 4096;
+            }
+    
+            data = Kit.readStream(is, capacityHint);
+        } finally {
+            if(is != null) {
+                is.close();
+            }
+        }
+    
+        Object result;
+        if (!convertToString) {
+            result = data;
+        } else {
+            if(encoding == null) {
+                encoding = detectEncoding(data, defaultEncoding, false, contentType);
+            }
+            result = decodeString(data, encoding);
+        }
+        return result;
+    }
+
+    // A regular file is read straight into a byte array of the right size, and anything else
+    // (such as a pipe) is read until it ends
+    private static byte[] readBytes(File file) throws IOException
+    {
+        FileInputStream is = new FileInputStream(file);
+        try {
+            FileChannel channel = is.getChannel();
+            long size = channel.size();
+            // Pipes, FIFOs and files such as those in /proc don't know their size (they report
+            // 0), so read them until they end
+            if (size == 0 || !file.isFile()) {
+                return Kit.readStream(is, 4096);
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large: " + file);
+            }
+
+            ByteBuffer bytes = ByteBuffer.allocate((int)size);
+            while (bytes.hasRemaining() && channel.read(bytes) != -1) {
+            }
+            if (bytes.hasRemaining()) {
+                // the file was truncated while we read it
+                byte[] data = new byte[bytes.position()];
+                System.arraycopy(bytes.array(), 0, data, 0, data.length);
+                return data;
+            }
+            return bytes.array();
+        } finally {
+            is.close();
+        }
+    }
+
+    private static String getBomEncoding(byte[] data)
+    {
+        // Use RFC-4329 4.2.2 section to autodetect
+        if(data.length > 3 && data[0] == -1 && data[1] == -2 && data[2] == 0 && data[3] == 0) {
+            return "UTF-32LE";
+        }
+        else if(data.length > 3 && data[0] == 0 && data[1] == 0 && data[2] == -2 && data[3] == -1) {
+            return "UTF-32BE";
+        }
+        else if(data.length > 2 && data[0] == -17 && data[1] == -69 && data[2] == -65) {
+            return "UTF-8";
+        }
+        else if(data.length > 1 && data[0] == -1 && data[1] == -2) {
+            return "UTF-16LE";
+        }
+        else if(data.length > 1 && data[0] == -2 && data[1] == -1) {
+            return "UTF-16BE";
+        }
+        return null;
+    }
+
+    private static String detectEncoding(byte[] data, String defaultEncoding, boolean isFile,
+            String contentType)
+    {
+        // None explicitly specified in Content-type header
+        String encoding = getBomEncoding(data);
+        if(encoding != null) {
+            return encoding;
+        }
+        else if(defaultEncoding != null) {
+            // No autodetect. Use the explicit value from the command line
+            return defaultEncoding;
+        }
+        // No explicit encoding specification
+        else if(isFile) {
+            // Local files default to system encoding
+            return System.getProperty("file.encoding");
+        }
+        else if(contentType != null && contentType.startsWith("application/")) {
+            // application/* types default to UTF-8
+            return "UTF-8";
+        }
+        else {
+            // text/* MIME types default to US-ASCII
+            return "US-ASCII";
+        }
+    }
+
+    private static String decodeString(byte[] data, String encoding)
+            throws UnsupportedEncodingException
+    {
+        // Skip a BOM that we detected by skipping its bytes, so the text is only copied once
+        int offset = 0;
+        if(encoding.equals(getBomEncoding(data))) {
+            offset = encoding.startsWith("UTF-32") ? 4 : encoding.equals("UTF-8") ? 3 : 2;
+        }
+
+        String strResult = new String(data, offset, data.length - offset, encoding);
+        // Skip BOM
+        if(strResult.length() > 0 && strResult.charAt(0) == '\uFEFF')
+        {
+            strResult = strResult.substring(1);
+        }
+        return strResult;
+    }
+}
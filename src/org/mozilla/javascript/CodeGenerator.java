@@ -11,6 +11,10 @@ import org.mozilla.javascript.ast.ScriptNode;
 import org.mozilla.javascript.ast.Jump;
 import org.mozilla.javascript.ast.FunctionNode;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
 /**
  * Generates bytecode for the Interpreter.
  */
@@ -25,12 +29,21 @@ class CodeGenerator extends Icode {
     private boolean itsInTryFlag;
 
     private InterpreterData itsData;
+    // the generators of the nested functions, when each function is
+    // generated by a task of its own
+    private CodeGenerator[] nestedGenerators;
 
     private ScriptNode scriptOrFn;
     private int iCodeTop;
+    // The opcode and pc of the last instruction, for the peephole pass in
+    // fuseWithLastOp(). lastOpStart is -1 when a jump or an exception
+    // handler refers to the pc after the last instruction.
+    private int lastOp;
+    private int lastOpStart = -1;
     private int stackDepth;
     private int lineNumber;
     private int doubleTableTop;
+    private int propertyCacheTop;
 
     private ObjToIntMap strings = new ObjToIntMap(20);
     private int localTop;
@@ -77,7 +90,10 @@ class CodeGenerator extends Icode {
                                       ((AstRoot)tree).isInStrictMode());
         itsData.topLevel = true;
 
-        if (returnFunction) {
+        Executor executor = compilerEnv.getCompilationExecutor();
+        if (executor != null) {
+            generateInParallel(executor, returnFunction);
+        } else if (returnFunction) {
             generateFunctionICode();
         } else {
             generateICodeFromTree(scriptOrFn);
@@ -85,6 +101,62 @@ class CodeGenerator extends Icode {
         return itsData;
     }
 
+    /**
+     * Generates the code of each function as a separate task. The
+     * generators of all of the functions are made first, so each task only
+     * fills in the InterpreterData of its own function.
+     */
+    private void generateInParallel(Executor executor,
+                                    final boolean returnFunction)
+    {
+        final List<CodeGenerator> generators = new ArrayList<CodeGenerator>();
+        generators.add(this);
+        prepareNestedFunctions(generators);
+
+        List<Runnable> tasks = new ArrayList<Runnable>(generators.size());
+        for (int i = 0; i != generators.size(); i++) {
+            final CodeGenerator gen = generators.get(i);
+            final boolean isFunction = i != 0 || returnFunction;
+            tasks.add(new Runnable() {
+                public void run() {
+                    if (isFunction) {
+                        gen.generateFunctionICode();
+                    } else {
+                        gen.generateICodeFromTree(gen.scriptOrFn);
+                    }
+                }
+            });
+        }
+        Kit.runTasks(executor, tasks);
+
+        // Regular expressions are compiled with the current Context, which
+        // only this thread has
+        for (CodeGenerator gen : generators) {
+            gen.generateRegExpLiterals();
+        }
+    }
+
+    private void prepareNestedFunctions(List<CodeGenerator> generators)
+    {
+        int functionCount = scriptOrFn.getFunctionCount();
+        nestedGenerators = new CodeGenerator[functionCount];
+        for (int i = 0; i != functionCount; i++) {
+            CodeGenerator gen = newNestedGenerator(i);
+            nestedGenerators[i] = gen;
+            generators.add(gen);
+            gen.prepareNestedFunctions(generators);
+        }
+    }
+
+    private CodeGenerator newNestedGenerator(int index)
+    {
+        CodeGenerator gen = new CodeGenerator();
+        gen.compilerEnv = compilerEnv;
+        gen.scriptOrFn = scriptOrFn.getFunctionNode(index);
+        gen.itsData = new InterpreterData(itsData);
+        return gen;
+    }
+
     private void generateFunctionICode()
     {
         itsInFunctionFlag = true;
@@ -96,6 +168,11 @@ class CodeGenerator extends Icode {
         if (theFunction.getFunctionName() != null) {
             itsData.itsName = theFunction.getName();
         }
+        if (theFunction.getLazySource() != null) {
+            itsData.lazySource = theFunction.getLazySource();
+            itsData.lazyLineno = theFunction.getBaseLineno();
+            itsData.lazyCompilerEnv = compilerEnv;
+        }
         if (theFunction.isGenerator()) {
           addIcode(Icode_GENERATOR);
           addUint16(theFunction.getBaseLineno() & 0xFFFF);
@@ -108,7 +185,9 @@ class CodeGenerator extends Icode {
     {
         generateNestedFunctions();
 
-        generateRegExpLiterals();
+        if (nestedGenerators == null) {
+            generateRegExpLiterals();
+        }
 
         visitStatement(tree, 0);
         fixLabelGotos();
@@ -136,6 +215,9 @@ class CodeGenerator extends Icode {
                 itsData.itsStringTable[index] = str;
             }
         }
+        if (propertyCacheTop != 0) {
+            itsData.itsPropertyCaches = new PropertyCache[propertyCacheTop];
+        }
         if (doubleTableTop == 0) {
             itsData.itsDoubleTable = null;
         } else if (itsData.itsDoubleTable.length != doubleTableTop) {
@@ -181,12 +263,14 @@ class CodeGenerator extends Icode {
 
         InterpreterData[] array = new InterpreterData[functionCount];
         for (int i = 0; i != functionCount; i++) {
-            FunctionNode fn = scriptOrFn.getFunctionNode(i);
-            CodeGenerator gen = new CodeGenerator();
-            gen.compilerEnv = compilerEnv;
-            gen.scriptOrFn = fn;
-            gen.itsData = new InterpreterData(itsData);
-            gen.generateFunctionICode();
+            CodeGenerator gen;
+            if (nestedGenerators != null) {
+                // generated by its own task
+                gen = nestedGenerators[i];
+            } else {
+                gen = newNestedGenerator(i);
+                gen.generateFunctionICode();
+            }
             array[i] = gen.itsData;
         }
         itsData.itsNestedFunctions = array;
@@ -393,7 +477,7 @@ class CodeGenerator extends Icode {
 
                 addIndexOp(Icode_SCOPE_SAVE, scopeLocal);
 
-                int tryStart = iCodeTop;
+                int tryStart = getTargetPC();
                 boolean savedFlag = itsInTryFlag;
                 itsInTryFlag = true;
                 while (child != null) {
@@ -628,6 +712,11 @@ class CodeGenerator extends Icode {
             break;
 
           case Token.GETPROP:
+            visitExpression(child, 0);
+            child = child.getNext();
+            addPropertyOp(type, child.getString());
+            break;
+
           case Token.GETPROPNOWARN:
             visitExpression(child, 0);
             child = child.getNext();
@@ -708,12 +797,12 @@ class CodeGenerator extends Icode {
                 if (type == Token.SETPROP_OP) {
                     addIcode(Icode_DUP);
                     stackChange(1);
-                    addStringOp(Token.GETPROP, property);
+                    addPropertyOp(Token.GETPROP, property);
                     // Compensate for the following USE_STACK
                     stackChange(-1);
                 }
                 visitExpression(child, 0);
-                addStringOp(Token.SETPROP, property);
+                addPropertyOp(Token.SETPROP, property);
                 stackChange(-1);
             }
             break;
@@ -926,7 +1015,7 @@ class CodeGenerator extends Icode {
                 visitExpression(child, 0);
                 addIcode(Icode_ENTERDQ);
                 stackChange(-1);
-                queryPC = iCodeTop;
+                queryPC = getTargetPC();
                 visitExpression(child.getNext(), 0);
                 addBackwardGoto(Icode_LEAVEDQ, queryPC);
             }
@@ -989,7 +1078,7 @@ class CodeGenerator extends Icode {
             if (type == Token.GETPROP) {
                 String property = id.getString();
                 // stack: ... target -> ... function thisObj
-                addStringOp(Icode_PROP_AND_THIS, property);
+                addPropertyOp(Icode_PROP_AND_THIS, property);
                 stackChange(1);
             } else {
                 visitExpression(id, 0);
@@ -1157,7 +1246,7 @@ class CodeGenerator extends Icode {
             // Can mark label only once
             Kit.codeBug();
         }
-        labelTable[label] = iCodeTop;
+        labelTable[label] = getTargetPC();
     }
 
     private void addGoto(Node target, int gotoOp)
@@ -1215,7 +1304,7 @@ class CodeGenerator extends Icode {
     {
         // Ensure that forward jump skips at least self bytecode
         if (iCodeTop < fromPC + 3) throw Kit.codeBug();
-        resolveGoto(fromPC, iCodeTop);
+        resolveGoto(fromPC, getTargetPC());
     }
 
     private void resolveGoto(int fromPC, int jumpPC)
@@ -1239,16 +1328,80 @@ class CodeGenerator extends Icode {
     private void addToken(int token)
     {
         if (!Icode.validTokenCode(token)) throw Kit.codeBug();
+        lastOp = token;
+        lastOpStart = iCodeTop;
         addUint8(token);
     }
 
     private void addIcode(int icode)
     {
         if (!Icode.validIcode(icode)) throw Kit.codeBug();
+        if (fuseWithLastOp(icode)) {
+            return;
+        }
+        lastOp = icode;
+        lastOpStart = iCodeTop;
         // Write negative icode as uint8 bits
         addUint8(icode & 0xFF);
     }
 
+    /**
+     * Peephole pass over the instructions as they are added. If the last
+     * instruction and the one being added are one of the frequent pairs
+     * that have a superinstruction, turns the last instruction into the
+     * superinstruction and returns true. The operands of the instruction
+     * being added, if any, then follow those of the last one.
+     */
+    private boolean fuseWithLastOp(int icode)
+    {
+        if (lastOpStart < 0) {
+            return false;
+        }
+        int fusedOp;
+        switch (icode) {
+          case Icode_POP:
+            switch (lastOp) {
+              case Icode_SETVAR1:
+                fusedOp = Icode_SETVAR1_POP;
+                break;
+              case Token.SETPROP:
+                fusedOp = Icode_SETPROP_POP;
+                break;
+              case Token.SETELEM:
+                fusedOp = Icode_SETELEM_POP;
+                break;
+              case Icode_VAR_INC_DEC:
+                fusedOp = Icode_VAR_INC_DEC_POP;
+                break;
+              default:
+                return false;
+            }
+            break;
+          case Icode_GETVAR1:
+            if (lastOp != Icode_GETVAR1) {
+                return false;
+            }
+            fusedOp = Icode_GETVAR1_GETVAR1;
+            break;
+          default:
+            return false;
+        }
+        itsData.itsICode[lastOpStart] = (byte)fusedOp;
+        lastOp = fusedOp;
+        return true;
+    }
+
+    /**
+     * Returns the pc of the next instruction, for a jump or an exception
+     * handler to refer to. The next instruction is not fused with the last
+     * one, since it has to start at that pc.
+     */
+    private int getTargetPC()
+    {
+        lastOpStart = -1;
+        return iCodeTop;
+    }
+
     private void addUint8(int value)
     {
         if ((value & ~0xFF) != 0) throw Kit.codeBug();
@@ -1311,6 +1464,7 @@ class CodeGenerator extends Icode {
             array = increaseICodeCapacity(3);
         }
         array[top] = (byte)gotoOp;
+        lastOpStart = -1;
         // Offset would written later
         iCodeTop = top + 1 + 2;
     }
@@ -1351,6 +1505,30 @@ class CodeGenerator extends Icode {
         }
     }
 
+    /**
+     * Adds a property access with a cache of its own, which the
+     * instruction finds by the index that follows it. Once the indexes
+     * run out, the rest of the instructions get {@link #NO_PROPERTY_CACHE}
+     * and are not cached. A GETPROP of one of the first 256 strings is
+     * added as Icode_GETPROP1, which has the string index inline instead
+     * of after a REG_STR instruction.
+     */
+    private void addPropertyOp(int op, String property)
+    {
+        int index = getStringIndex(property);
+        if (op == Token.GETPROP && index <= 0xFF) {
+            addIcode(Icode_GETPROP1);
+            addUint8(index);
+        } else {
+            addStringOp(op, property);
+        }
+        if (propertyCacheTop < NO_PROPERTY_CACHE) {
+            addUint16(propertyCacheTop++);
+        } else {
+            addUint16(NO_PROPERTY_CACHE);
+        }
+    }
+
     private void addIndexOp(int op, int index)
     {
         addIndexPrefix(index);
@@ -1361,13 +1539,19 @@ class CodeGenerator extends Icode {
         }
     }
 
-    private void addStringPrefix(String str)
+    private int getStringIndex(String str)
     {
         int index = strings.get(str, -1);
         if (index == -1) {
             index = strings.size();
             strings.put(str, index);
         }
+        return index;
+    }
+
+    private void addStringPrefix(String str)
+    {
+        int index = getStringIndex(str);
         if (index < 4) {
             addIcode(Icode_REG_STR_C0 - index);
         } else if (index <= 0xFF) {
@@ -0,0 +1,946 @@
+/* -*- Mode: java; tab-width: 8; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript;
+
+import org.mozilla.javascript.ast.Comment;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scans a script for its comments, and finds what each JSDoc comment
+ * documents, without building an AST.<p>
+ *
+ * The scanner reads the script's tokens from a {@link TokenStream}, and
+ * keeps only as much state as it needs to attach JSDoc comments by the
+ * rules that {@link Parser} uses for
+ * {@link org.mozilla.javascript.ast.AstNode#getJsDocNode}: a JSDoc comment
+ * belongs to the first function, parameter, variable declaration,
+ * assignment, object literal or property, function call, parenthesized
+ * expression, {@code try} or {@code with} statement that the parser reaches
+ * after the comment, or to an expression statement such as
+ * {@code C.prototype.x;}. Function bodies are scanned like the rest of the
+ * script, but no nodes are created for them. A scan is somewhat faster
+ * than a parse, and several times faster than building jsdoc's AST from the
+ * parse tree with {@code org.jsdoc.AstBuilder}.<p>
+ *
+ * Each documented {@link Target} has a kind, a name, and an absolute
+ * range. Functions, calls, parenthesized expressions, object literals and
+ * names end where their closing token or name ends, as in the parse tree.
+ * Assignments, declarations and expression statements end where the
+ * scanner sees the expression end: at a comma, a semicolon, a closing
+ * bracket, or a line break that ends the statement.<p>
+ *
+ * The scanner does not check the syntax of the script beyond what the
+ * token stream checks, and a script with syntax errors can get different
+ * targets than its parse tree. Comments are recorded only if the
+ * {@link CompilerEnvirons} records comments, and JSDoc comments get
+ * targets only if it records local JSDoc comments, as with the parser.
+ */
+public class CommentScanner
+{
+    /**
+     * The kinds of code that a JSDoc comment can document.
+     */
+    public enum TargetKind {
+        /** A function declaration or expression, named if it has a name. */
+        FUNCTION,
+        /** A function parameter, or the variable of a catch clause. */
+        PARAMETER,
+        /** A var, let or const statement, named after its first variable. */
+        DECLARATION,
+        /** A variable in a declaration, with its initializer. */
+        VARIABLE,
+        /** An assignment, named after the expression that is assigned to. */
+        ASSIGNMENT,
+        /** An object literal. */
+        OBJECT,
+        /** The name of a property or accessor in an object literal. */
+        PROPERTY,
+        /** A function call, named after the function expression. */
+        CALL,
+        /** A parenthesized expression, or an expression statement. */
+        EXPRESSION,
+        /** A try statement, with its catch and finally clauses. */
+        TRY,
+        /** A with statement. */
+        WITH
+    }
+
+    /**
+     * The code that a JSDoc comment documents.
+     */
+    public static class Target {
+        private final TargetKind kind;
+        private String name;
+        private int start;
+        private int end = -1;
+
+        Target(TargetKind kind, String name, int start) {
+            this.kind = kind;
+            this.name = name;
+            this.start = start;
+        }
+
+        public TargetKind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the target's name, or {@code null} if it has none.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the absolute offset at which the target starts.
+         */
+        public int getStart() {
+            return start;
+        }
+
+        /**
+         * Returns the absolute offset at which the target ends.
+         */
+        public int getEnd() {
+            return end;
+        }
+
+        // the first end that the scanner finds is the right one
+        void setEnd(int end) {
+            if (this.end < 0) {
+                this.end = end;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return kind + (name != null ? " " + name : "") +
+                " [" + start + ", " + end + "]";
+        }
+    }
+
+    // frame types
+    private static final int BLOCK = 0;
+    private static final int BODY = 1;
+    private static final int OBJECT = 2;
+    private static final int PAREN = 3;
+    private static final int BRACKET = 4;
+    private static final int PARAMS = 5;
+
+    // what the previous token leaves the scanner expecting
+    private static final int STATEMENT = 0;
+    private static final int OPERATOR = 1;
+    private static final int OPERAND = 2;
+
+    // where the scanner is in a function's header
+    private static final int NO_FUNCTION = 0;
+    private static final int FUNCTION_NAME = 1;
+    private static final int FUNCTION_BODY = 2;
+
+    /**
+     * A pair of brackets, or the script itself.
+     */
+    private static class Frame {
+        final int type;
+        final Frame parent;
+        final int start;
+        // the target that ends with the frame's closing bracket
+        Target target;
+        // for the body of a function expression
+        boolean expression;
+        // for the parentheses after if, for, catch and so on
+        boolean control;
+        boolean catchClause;
+        // for the parentheses of a parenthesized expression
+        boolean parenthesized;
+
+        // the offset at which the current expression started, or -1
+        int expressionStart = -1;
+        int hooks;
+        int pendingNews;
+        // a new expression that starts the current expression, and the
+        // offset at which its arguments end
+        int newStart = -1;
+        int newEnd = -1;
+        // for the arguments of a constructor
+        boolean constructorArguments;
+        // targets that end with the current expression or statement
+        List<Target> openTargets;
+
+        boolean inDeclaration;
+        boolean expectingDeclarator;
+        boolean afterDeclarator;
+        Target declaration;
+
+        boolean expectingKey;
+        boolean afterAccessorKeyword;
+        Target accessorKey;
+
+        // a try or with statement that ends with the block that follows
+        Target statementTarget;
+        boolean tryStatement;
+
+        Frame(int type, Frame parent, int start) {
+            this.type = type;
+            this.parent = parent;
+            this.start = start;
+        }
+
+        void addOpenTarget(Target target) {
+            if (target != null) {
+                if (openTargets == null) {
+                    openTargets = new ArrayList<Target>();
+                }
+                openTargets.add(target);
+            }
+        }
+
+        void endOpenTargets(int end) {
+            if (openTargets != null) {
+                for (Target target : openTargets) {
+                    target.setEnd(end);
+                }
+                openTargets.clear();
+            }
+        }
+
+        void endStatement(int end) {
+            endOpenTargets(end);
+            if (declaration != null) {
+                declaration.setEnd(end);
+                declaration = null;
+            }
+            inDeclaration = false;
+            expectingDeclarator = false;
+            afterDeclarator = false;
+            expressionStart = -1;
+            hooks = 0;
+            pendingNews = 0;
+            newStart = -1;
+            newEnd = -1;
+        }
+    }
+
+    private final CompilerEnvirons compilerEnv;
+    private final ErrorReporter errorReporter;
+
+    private String source;
+    private TokenStream ts;
+    private List<Comment> comments;
+    private Map<Comment, Target> targets;
+    private Comment currentJsDocComment;
+
+    private Frame frame;
+    private int previous;
+    private int previousToken;
+    private int previousEnd;
+    private boolean pendingControl;
+    private boolean pendingCatch;
+    private boolean pendingLabel;
+    private int functionState;
+    private int functionStart;
+    private String functionName;
+    private Target functionTarget;
+    private boolean functionExpression;
+
+    public CommentScanner(CompilerEnvirons compilerEnv) {
+        this(compilerEnv, compilerEnv.getErrorReporter());
+    }
+
+    public CommentScanner(CompilerEnvirons compilerEnv,
+                          ErrorReporter errorReporter)
+    {
+        this.compilerEnv = compilerEnv;
+        this.errorReporter = errorReporter;
+    }
+
+    /**
+     * Scans a script for its comments.
+     * @param sourceString the source code
+     * @param sourceURI the source's URI, for error messages
+     * @param lineno the line number of the first line
+     * @return the comments, in source order
+     */
+    public List<Comment> scan(String sourceString, String sourceURI,
+                              int lineno)
+    {
+        Parser parser = new Parser(compilerEnv, errorReporter);
+        ts = parser.initTokenStream(sourceString, sourceURI, lineno);
+        source = sourceString;
+        comments = new ArrayList<Comment>();
+        targets = new HashMap<Comment, Target>();
+        currentJsDocComment = null;
+
+        frame = new Frame(BLOCK, null, 0);
+        previous = STATEMENT;
+        previousToken = Token.EOF;
+        previousEnd = 0;
+        pendingControl = pendingCatch = pendingLabel = false;
+        functionState = NO_FUNCTION;
+
+        try {
+            scanTokens();
+        } catch (IOException iox) {
+            // Should never happen
+            throw new IllegalStateException();
+        } finally {
+            ts = null;
+        }
+
+        return comments;
+    }
+
+    /**
+     * Returns the comments found by the last scan, in source order.
+     */
+    public List<Comment> getComments() {
+        return comments;
+    }
+
+    /**
+     * Returns the code that a JSDoc comment from the last scan documents,
+     * or {@code null} if the comment is not a JSDoc comment or documents
+     * nothing.
+     */
+    public Target getTarget(Comment comment) {
+        return targets == null ? null : targets.get(comment);
+    }
+
+    private void scanTokens() throws IOException {
+        for (;;) {
+            // count lines as Parser.peekToken() does
+            int lineno = ts.getLineno();
+            int tt = ts.getToken();
+            boolean sawEOL = false;
+
+            while (tt == Token.EOL || tt == Token.COMMENT) {
+                if (tt == Token.EOL) {
+                    lineno++;
+                    sawEOL = true;
+                } else if (compilerEnv.isRecordingComments()) {
+                    String comment = ts.getAndResetCurrentComment();
+                    recordComment(lineno, comment);
+                    for (int i = comment.length() - 1; i >= 0; i--) {
+                        if (comment.charAt(i) == '\n') {
+                            lineno++;
+                        }
+                    }
+                }
+                tt = ts.getToken();
+            }
+
+            if (tt == Token.EOF) {
+                for (Frame f = frame; f != null; f = f.parent) {
+                    f.endStatement(previousEnd);
+                    if (f.target != null) {
+                        f.target.setEnd(previousEnd);
+                    }
+                }
+                return;
+            }
+            if (tt == Token.ERROR) {
+                // the token stream has reported it
+                continue;
+            }
+
+            if ((tt == Token.DIV || tt == Token.ASSIGN_DIV) &&
+                previous != OPERAND)
+            {
+                ts.readRegExp(tt);
+                tt = Token.REGEXP;
+            }
+
+            if (sawEOL && endsStatement(tt)) {
+                frame.endStatement(previousEnd);
+                pendingLabel = false;
+                previous = STATEMENT;
+            }
+
+            scanToken(tt);
+            previousToken = tt;
+            previousEnd = ts.tokenEnd;
+        }
+    }
+
+    private void recordComment(int lineno, String comment) {
+        Comment commentNode = new Comment(ts.tokenBeg,
+                                          ts.getTokenLength(),
+                                          ts.commentType,
+                                          comment);
+        if (ts.commentType == Token.CommentType.JSDOC &&
+            compilerEnv.isRecordingLocalJsDocComments()) {
+            currentJsDocComment = commentNode;
+        }
+        commentNode.setLineno(lineno);
+        comments.add(commentNode);
+    }
+
+    /**
+     * Attaches the current JSDoc comment, if any, to a new target.
+     */
+    private Target attachJsDoc(TargetKind kind, String name, int start) {
+        if (currentJsDocComment == null) {
+            return null;
+        }
+
+        Target target = new Target(kind, name, start);
+        targets.put(currentJsDocComment, target);
+        currentJsDocComment = null;
+        return target;
+    }
+
+    /**
+     * Returns whether a token that follows a line break ends the current
+     * statement by automatic semicolon insertion.
+     */
+    private boolean endsStatement(int tt) {
+        if (frame.type != BLOCK && frame.type != BODY) {
+            return false;
+        }
+        if (previousToken == Token.RETURN || previousToken == Token.BREAK ||
+            previousToken == Token.CONTINUE)
+        {
+            return true;
+        }
+        if (previous != OPERAND) {
+            return false;
+        }
+
+        switch (tt) {
+          case Token.NAME: case Token.NUMBER: case Token.STRING:
+          case Token.REGEXP: case Token.THIS: case Token.NULL:
+          case Token.TRUE: case Token.FALSE: case Token.LC:
+          case Token.INC: case Token.DEC: case Token.NOT: case Token.BITNOT:
+          case Token.VAR: case Token.LET: case Token.CONST:
+          case Token.FUNCTION: case Token.IF: case Token.FOR:
+          case Token.WHILE: case Token.DO: case Token.SWITCH:
+          case Token.TRY: case Token.THROW: case Token.RETURN:
+          case Token.BREAK: case Token.CONTINUE: case Token.WITH:
+          case Token.NEW: case Token.TYPEOF: case Token.DELPROP:
+          case Token.VOID: case Token.DEBUGGER:
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the source text of an expression that names a target, or
+     * {@code null} if the expression spans lines or contains braces, such
+     * as a function expression.
+     */
+    private String getName(int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c == '{' || c == '\n' || c == '\r' ||
+                (c > 127 && ScriptRuntime.isJSLineTerminator(c)))
+            {
+                return null;
+            }
+        }
+        return source.substring(start, end);
+    }
+
+    private void pushFrame(int type) {
+        frame = new Frame(type, frame, ts.tokenBeg);
+    }
+
+    private void scanToken(int tt) throws IOException {
+        Frame f = frame;
+
+        if (f.statementTarget != null && f.tryStatement &&
+            tt != Token.CATCH && tt != Token.FINALLY && tt != Token.LP &&
+            tt != Token.LC)
+        {
+            f.statementTarget = null;
+        }
+
+        if ((previousToken == Token.DOT || isPropertyKey(f, tt)) &&
+            (tt == Token.RESERVED || Token.keywordToName(tt) != null))
+        {
+            // a keyword used as a property name
+            tt = Token.NAME;
+        }
+
+        if (functionState == FUNCTION_NAME) {
+            if (tt == Token.NAME) {
+                functionName = ts.getString();
+                previous = OPERATOR;
+                return;
+            }
+            if (tt == Token.LP) {
+                functionTarget = attachJsDoc(TargetKind.FUNCTION,
+                                             functionName, functionStart);
+                functionState = NO_FUNCTION;
+                pushFrame(PARAMS);
+                previous = OPERATOR;
+                return;
+            }
+            functionState = NO_FUNCTION;
+        }
+
+        if (f.expressionStart < 0 || previous == STATEMENT) {
+            f.expressionStart = ts.tokenBeg;
+        }
+        if (f.declaration != null && f.declaration.start < 0) {
+            // the first variable of a let statement or expression
+            f.declaration.start = ts.tokenBeg;
+        }
+
+        if (f.type == OBJECT && scanObjectToken(f, tt)) {
+            return;
+        }
+        if (tt != Token.ASSIGN) {
+            f.afterDeclarator = false;
+        }
+
+        switch (tt) {
+          case Token.NAME:
+            scanName(f);
+            return;
+
+          case Token.NUMBER: case Token.STRING: case Token.REGEXP:
+          case Token.THIS: case Token.NULL: case Token.TRUE:
+          case Token.FALSE:
+            previous = OPERAND;
+            return;
+
+          case Token.FUNCTION:
+            functionState = FUNCTION_NAME;
+            functionStart = ts.tokenBeg;
+            functionName = null;
+            functionExpression = previous != STATEMENT;
+            previous = OPERATOR;
+            return;
+
+          case Token.VAR: case Token.LET: case Token.CONST:
+            if (tt == Token.LET && f.type != BLOCK && f.type != BODY &&
+                !f.control)
+            {
+                // a let expression
+                previous = OPERATOR;
+                return;
+            }
+            f.endStatement(previousEnd);
+            f.declaration = attachJsDoc(TargetKind.DECLARATION, null,
+                                        ts.tokenBeg);
+            f.inDeclaration = true;
+            f.expectingDeclarator = true;
+            previous = OPERATOR;
+            return;
+
+          case Token.LP:
+            scanOpenParen(f);
+            return;
+
+          case Token.RP: case Token.RB: case Token.RC:
+            scanCloseBracket(tt);
+            return;
+
+          case Token.LB:
+            f.expectingDeclarator = false;
+            pushFrame(BRACKET);
+            previous = OPERATOR;
+            return;
+
+          case Token.LC:
+            scanOpenBrace(f);
+            return;
+
+          case Token.SEMI:
+            if (currentJsDocComment != null && previous == OPERAND &&
+                f.expressionStart < ts.tokenBeg && !pendingLabel)
+            {
+                // dead code with a type, such as C.prototype.x; or a new
+                // expression, which is a call in the parse tree
+                boolean call = f.newStart == f.expressionStart &&
+                    (f.pendingNews > 0 || f.newEnd == previousEnd);
+                String text = getName(f.expressionStart, previousEnd);
+                Target target = attachJsDoc(call ? TargetKind.CALL
+                                                 : TargetKind.EXPRESSION,
+                                            text, f.expressionStart);
+                target.setEnd(previousEnd);
+            }
+            if (f.declaration != null && !f.control) {
+                // a var statement includes its semicolon
+                f.declaration.setEnd(ts.tokenEnd);
+            }
+            f.endStatement(previousEnd);
+            pendingLabel = false;
+            previous = f.control ? OPERATOR : STATEMENT;
+            return;
+
+          case Token.COMMA:
+            f.endOpenTargets(previousEnd);
+            if (f.inDeclaration) {
+                f.expectingDeclarator = true;
+            }
+            f.expressionStart = -1;
+            previous = OPERATOR;
+            return;
+
+          case Token.HOOK:
+            f.hooks++;
+            f.expressionStart = -1;
+            previous = OPERATOR;
+            return;
+
+          case Token.COLON:
+            f.expressionStart = -1;
+            if (f.hooks > 0) {
+                f.hooks--;
+                previous = OPERATOR;
+            } else {
+                // a label or a case
+                f.endStatement(previousEnd);
+                previous = STATEMENT;
+            }
+            return;
+
+          case Token.DOT:
+            previous = OPERATOR;
+            return;
+
+          case Token.INC: case Token.DEC:
+            if (previous != OPERAND) {
+                previous = OPERATOR;
+            }
+            return;
+
+          case Token.NEW:
+            if (f.expressionStart == ts.tokenBeg) {
+                f.newStart = ts.tokenBeg;
+            }
+            f.pendingNews++;
+            previous = OPERATOR;
+            return;
+
+          case Token.IF: case Token.WHILE: case Token.FOR:
+          case Token.SWITCH:
+            f.endStatement(previousEnd);
+            pendingControl = true;
+            previous = STATEMENT;
+            return;
+
+          case Token.CATCH:
+            pendingControl = true;
+            pendingCatch = true;
+            previous = STATEMENT;
+            return;
+
+          case Token.WITH:
+            f.endStatement(previousEnd);
+            f.statementTarget = attachJsDoc(TargetKind.WITH, null,
+                                            ts.tokenBeg);
+            f.tryStatement = false;
+            f.addOpenTarget(f.statementTarget);
+            pendingControl = true;
+            previous = STATEMENT;
+            return;
+
+          case Token.TRY:
+            f.endStatement(previousEnd);
+            f.statementTarget = attachJsDoc(TargetKind.TRY, null,
+                                            ts.tokenBeg);
+            f.tryStatement = true;
+            previous = STATEMENT;
+            return;
+
+          case Token.ELSE: case Token.DO: case Token.FINALLY:
+          case Token.DEBUGGER:
+            f.endStatement(previousEnd);
+            previous = STATEMENT;
+            return;
+
+          case Token.BREAK: case Token.CONTINUE:
+            f.endStatement(previousEnd);
+            pendingLabel = true;
+            previous = STATEMENT;
+            return;
+
+          case Token.RETURN: case Token.THROW: case Token.CASE:
+          case Token.DEFAULT:
+            f.endStatement(previousEnd);
+            previous = OPERATOR;
+            return;
+
+          case Token.IN:
+            if (f.control) {
+                // the end of the variable or expression in a for-in loop
+                f.endStatement(previousEnd);
+            }
+            previous = OPERATOR;
+            return;
+        }
+
+        if (Token.FIRST_ASSIGN <= tt && tt <= Token.LAST_ASSIGN) {
+            if (f.afterDeclarator && tt == Token.ASSIGN) {
+                // a variable's initializer
+                f.afterDeclarator = false;
+            } else if (f.expressionStart < ts.tokenBeg) {
+                String text = getName(f.expressionStart, previousEnd);
+                f.addOpenTarget(attachJsDoc(TargetKind.ASSIGNMENT, text,
+                                            f.expressionStart));
+            }
+            f.expressionStart = -1;
+            previous = OPERATOR;
+            return;
+        }
+
+        // any other operator or keyword
+        f.newStart = -1;
+        previous = OPERATOR;
+    }
+
+    private boolean isPropertyKey(Frame f, int tt) {
+        return f.type == OBJECT && (f.expectingKey || f.afterAccessorKeyword) &&
+            tt != Token.RC && tt != Token.COMMA && tt != Token.COLON &&
+            tt != Token.LP;
+    }
+
+    private void scanName(Frame f) {
+        if (pendingLabel) {
+            // the label of a break or continue statement
+            pendingLabel = false;
+            previous = STATEMENT;
+            return;
+        }
+
+        if (f.type == PARAMS ||
+            (f.catchClause && f.expressionStart == ts.tokenBeg))
+        {
+            Target target = attachJsDoc(TargetKind.PARAMETER, ts.getString(),
+                                        ts.tokenBeg);
+            if (target != null) {
+                target.setEnd(ts.tokenEnd);
+            }
+        } else if (f.expectingDeclarator) {
+            String name = ts.getString();
+            if (f.declaration != null && f.declaration.name == null) {
+                f.declaration.name = name;
+            }
+            f.addOpenTarget(attachJsDoc(TargetKind.VARIABLE, name,
+                                        ts.tokenBeg));
+            f.expectingDeclarator = false;
+            f.afterDeclarator = true;
+        }
+
+        previous = OPERAND;
+    }
+
+    /**
+     * Handles the tokens of an object literal that are not part of a
+     * property's value.
+     * @return whether the token was handled
+     */
+    private boolean scanObjectToken(Frame f, int tt) {
+        if (f.afterAccessorKeyword) {
+            f.afterAccessorKeyword = false;
+            if (tt != Token.COLON && tt != Token.COMMA && tt != Token.RC &&
+                tt != Token.LP)
+            {
+                // get or set was a keyword, and this is the property name
+                if (f.accessorKey != null) {
+                    f.accessorKey.name = getKeyName(tt);
+                    f.accessorKey.start = ts.tokenBeg;
+                    f.accessorKey.end = ts.tokenEnd;
+                }
+                functionState = FUNCTION_NAME;
+                functionStart = ts.tokenBeg;
+                functionName = null;
+                functionExpression = true;
+                previous = OPERATOR;
+                return true;
+            }
+        }
+
+        if (f.expectingKey && tt != Token.RC && tt != Token.COMMA) {
+            f.expectingKey = false;
+            Target target = attachJsDoc(TargetKind.PROPERTY, getKeyName(tt),
+                                        ts.tokenBeg);
+            if (target != null) {
+                target.setEnd(ts.tokenEnd);
+            }
+            if (tt == Token.NAME && ("get".equals(ts.getString()) ||
+                                     "set".equals(ts.getString())))
+            {
+                f.afterAccessorKeyword = true;
+                f.accessorKey = target;
+            }
+            previous = OPERAND;
+            return true;
+        }
+
+        if (tt == Token.COLON && f.hooks == 0) {
+            f.expressionStart = -1;
+            previous = OPERATOR;
+            return true;
+        }
+
+        if (tt == Token.COMMA) {
+            // the parser drops a comment after a property's value
+            currentJsDocComment = null;
+            f.endStatement(previousEnd);
+            f.expectingKey = true;
+            previous = OPERATOR;
+            return true;
+        }
+
+        return false;
+    }
+
+    private String getKeyName(int tt) {
+        if (tt == Token.NAME || tt == Token.STRING) {
+            return ts.getString();
+        }
+        return source.substring(ts.tokenBeg, ts.tokenEnd);
+    }
+
+    private void scanOpenParen(Frame f) {
+        Target target = null, declaration = null;
+        boolean control = false, catchClause = false, parenthesized = false;
+        boolean constructorArguments = false, letVariables = false;
+
+        if (pendingControl) {
+            control = true;
+            catchClause = pendingCatch;
+            pendingControl = pendingCatch = false;
+        } else if (previousToken == Token.LET) {
+            // the variables of a let statement or expression, which the
+            // parser declares from the first variable to the last
+            if (f.expectingDeclarator) {
+                // the let keyword started a declaration in this frame
+                declaration = f.declaration;
+                if (declaration != null) {
+                    declaration.start = -1;
+                }
+                f.declaration = null;
+                f.inDeclaration = false;
+                f.expectingDeclarator = false;
+            } else {
+                declaration = attachJsDoc(TargetKind.DECLARATION, null, -1);
+            }
+            letVariables = true;
+        } else if (previous == OPERAND) {
+            if (f.pendingNews > 0) {
+                // the arguments of a constructor
+                f.pendingNews--;
+                constructorArguments = true;
+            } else {
+                String text = getName(f.expressionStart, previousEnd);
+                target = attachJsDoc(TargetKind.CALL, text,
+                                     f.expressionStart);
+            }
+        } else {
+            target = attachJsDoc(TargetKind.EXPRESSION, null, ts.tokenBeg);
+            parenthesized = true;
+        }
+
+        pushFrame(PAREN);
+        frame.target = target;
+        frame.control = control;
+        frame.catchClause = catchClause;
+        frame.parenthesized = parenthesized;
+        frame.constructorArguments = constructorArguments;
+        frame.declaration = declaration;
+        frame.inDeclaration = letVariables;
+        frame.expectingDeclarator = letVariables;
+        previous = OPERATOR;
+    }
+
+    private void scanOpenBrace(Frame f) {
+        f.expectingDeclarator = false;
+
+        if (functionState == FUNCTION_BODY) {
+            functionState = NO_FUNCTION;
+            pushFrame(BODY);
+            frame.target = functionTarget;
+            frame.expression = functionExpression;
+            functionTarget = null;
+            previous = STATEMENT;
+        } else if (previous == OPERATOR) {
+            Target target = attachJsDoc(TargetKind.OBJECT, null, ts.tokenBeg);
+            pushFrame(OBJECT);
+            frame.target = target;
+            frame.expectingKey = true;
+            previous = OPERATOR;
+        } else {
+            pushFrame(BLOCK);
+            previous = STATEMENT;
+        }
+    }
+
+    private void scanCloseBracket(int tt) {
+        Frame f = frame;
+        if (f.parent == null) {
+            // unbalanced; the script has a syntax error
+            previous = OPERAND;
+            return;
+        }
+
+        f.endStatement(previousEnd);
+        frame = f.parent;
+
+        switch (f.type) {
+          case BODY:
+            // the parser drops a comment at the end of a function body
+            currentJsDocComment = null;
+            if (f.target != null) {
+                f.target.setEnd(ts.tokenEnd);
+            }
+            previous = f.expression ? OPERAND : STATEMENT;
+            break;
+
+          case OBJECT:
+            currentJsDocComment = null;
+            if (f.target != null) {
+                f.target.setEnd(ts.tokenEnd);
+            }
+            previous = OPERAND;
+            break;
+
+          case PARAMS:
+            functionState = FUNCTION_BODY;
+            previous = OPERATOR;
+            break;
+
+          case PAREN:
+            if (f.constructorArguments) {
+                frame.newEnd = ts.tokenEnd;
+            }
+            if (f.parenthesized && f.target == null) {
+                f.target = attachJsDoc(TargetKind.EXPRESSION, null, f.start);
+            }
+            if (f.target != null) {
+                f.target.setEnd(ts.tokenEnd);
+            }
+            previous = f.control ? STATEMENT : OPERAND;
+            break;
+
+          case BLOCK:
+            if (frame.statementTarget != null) {
+                if (frame.tryStatement) {
+                    // a catch or finally clause can follow
+                    frame.statementTarget.end = ts.tokenEnd;
+                } else {
+                    frame.statementTarget.setEnd(ts.tokenEnd);
+                    frame.statementTarget = null;
+                }
+            }
+            previous = STATEMENT;
+            break;
+
+          default:
+            previous = OPERAND;
+            break;
+        }
+    }
+}
@@ -7,6 +7,7 @@
 package org.mozilla.javascript;
 
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.mozilla.javascript.ast.ErrorCollector;
 
@@ -48,6 +49,10 @@ public class CompilerEnvirons
 
         generatingSource = cx.isGeneratingSource();
         activationNames = cx.activationNames;
+        lazyFunctionBodies
+            = cx.hasFeature(Context.FEATURE_LAZY_FUNCTION_BODIES)
+              && cx.getDebugger() == null;
+        compilationExecutor = cx.getCompilationExecutor();
 
         // Observer code generation in compiled code :
         generateObserverCount = cx.generateObserverCount;
@@ -236,6 +241,49 @@ public class CompilerEnvirons
         return ideMode;
     }
 
+    /**
+     * Sets the pool that the parser uses to share the strings of names and
+     * string literals. A pool that is shared by several parses also shares
+     * strings between their syntax trees. If no pool is set, each parse
+     * uses a pool of its own.
+     */
+    public void setStringPool(StringPool stringPool) {
+        this.stringPool = stringPool;
+    }
+
+    public StringPool getStringPool() {
+        return stringPool;
+    }
+
+    /**
+     * Sets whether function bodies are compiled lazily: see
+     * {@link Context#FEATURE_LAZY_FUNCTION_BODIES}. Only the interpreter
+     * compiles lazily, so this has no effect when the optimization level
+     * is 0 or more, or in IDE mode.
+     */
+    public void setLazyFunctionBodies(boolean lazy) {
+        lazyFunctionBodies = lazy;
+    }
+
+    public boolean isLazyFunctionBodies() {
+        return lazyFunctionBodies;
+    }
+
+    /**
+     * Sets the executor that the compilers use to work on several
+     * functions at once: the interpreter generates the code of each
+     * function as a separate task, and the optimizer analyzes each
+     * top-level function as a separate task. If no executor is set, the
+     * compilers work on one function at a time.
+     */
+    public void setCompilationExecutor(Executor executor) {
+        compilationExecutor = executor;
+    }
+
+    public Executor getCompilationExecutor() {
+        return compilationExecutor;
+    }
+
     public Set<String> getActivationNames() {
         return activationNames;
     }
@@ -291,5 +339,8 @@ public class CompilerEnvirons
     private boolean warnTrailingComma;
     private boolean ideMode;
     private boolean allowSharpComments;
+    private boolean lazyFunctionBodies;
+    private StringPool stringPool;
+    private Executor compilationExecutor;
     Set<String> activationNames;
 }
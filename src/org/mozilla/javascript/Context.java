@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.concurrent.Executor;
 
 import org.mozilla.javascript.ast.AstRoot;
 import org.mozilla.javascript.ast.ScriptNode;
@@ -283,6 +284,25 @@ public class Context
      */
     public static final int FEATURE_ENHANCED_JAVA_ACCESS = 13;
 
+    /**
+     * Controls whether the bodies of functions are compiled lazily.
+     * When the feature is on, the parser still checks the syntax of every
+     * function body, but it does not keep the parse tree of a body; the
+     * function is parsed again and compiled the first time it is called.
+     * This saves compilation time and memory for scripts that define many
+     * functions that are never called. Functions that are wrapped in
+     * parentheses, which are usually called at once, are compiled eagerly,
+     * and so are functions with assignments that the compiler has to check
+     * further, such as destructuring. Functions decompile the same way as
+     * with the feature off.
+     * <p>
+     * The feature only applies to interpreted code (optimization level -1),
+     * and is ignored while a debugger is set.
+     * <p>
+     * By default {@link #hasFeature(int)} returns false.
+     */
+    public static final int FEATURE_LAZY_FUNCTION_BODIES = 14;
+
     public static final String languageVersionProperty = "language version";
     public static final String errorReporterProperty   = "error reporter";
 
@@ -1847,6 +1867,33 @@ public class Context
         this.optimizationLevel = optimizationLevel;
     }
 
+    /**
+     * Returns the executor that compiling scripts and functions uses to
+     * work on several functions at once, or null if functions are
+     * compiled one at a time.
+     * @see CompilerEnvirons#setCompilationExecutor(Executor)
+     */
+    public final Executor getCompilationExecutor()
+    {
+        return compilationExecutor;
+    }
+
+    /**
+     * Sets the executor that compiling scripts and functions uses to work
+     * on several functions at once. This helps with large scripts that
+     * have many functions. The executor may be shared by many contexts;
+     * the thread that compiles also works on the functions, so a busy
+     * executor only makes compiling less parallel.
+     * @param executor the executor, or null to compile functions one at a
+     *        time
+     * @see CompilerEnvirons#setCompilationExecutor(Executor)
+     */
+    public final void setCompilationExecutor(Executor executor)
+    {
+        if (sealed) onSealedMutation();
+        this.compilationExecutor = executor;
+    }
+
     public static boolean isValidOptimizationLevel(int optimizationLevel)
     {
         return -1 <= optimizationLevel && optimizationLevel <= 9;
@@ -2206,6 +2253,36 @@ public class Context
         this.generateObserverCount = generateObserverCount;
     }
 
+    /**
+     * Returns the number of property accesses in scripts run with this
+     * context that found the property in the cache of their instruction.
+     * @see #getPropertyCacheMisses()
+     */
+    public final long getPropertyCacheHits()
+    {
+        return propertyCacheHits;
+    }
+
+    /**
+     * Returns the number of property accesses in scripts run with this
+     * context that looked up the property because it was not in the
+     * cache of their instruction.
+     * @see #getPropertyCacheHits()
+     */
+    public final long getPropertyCacheMisses()
+    {
+        return propertyCacheMisses;
+    }
+
+    /**
+     * Sets the property cache hits and misses back to zero.
+     */
+    public final void resetPropertyCacheStatistics()
+    {
+        propertyCacheHits = 0;
+        propertyCacheMisses = 0;
+    }
+
     /**
      * Allow application to monitor counter of executed script instructions
      * in Context subclasses.
@@ -2365,6 +2442,31 @@ public class Context
             }
         }
 
+        // eval passes its own compiler, and the debugger has to be told
+        // about every compilation
+        ScriptCache cache = null;
+        ScriptCache.Key cacheKey = null;
+        if (compiler == null && securityDomain == null && debugger == null) {
+            cache = factory.getScriptCache();
+        }
+        if (cache != null) {
+            cacheKey = ScriptCache.makeKey(compilerEnv, sourceString,
+                                           sourceName, lineno,
+                                           returnFunction);
+            Object cached = cache.get(cacheKey);
+            if (cached != null) {
+                if (!returnFunction) {
+                    return cached;
+                } else if (cached instanceof InterpreterData) {
+                    return InterpretedFunction.createFunction(
+                        this, scope, (InterpreterData)cached, null);
+                } else {
+                    return createCompiler().createFunctionObject(
+                        this, scope, cached, null);
+                }
+            }
+        }
+
         Parser p = new Parser(compilerEnv, compilationErrorReporter);
         if (returnFunction) {
             p.calledByCompileFunction = true;
@@ -2425,6 +2527,9 @@ public class Context
             result = compiler.createScriptObject(bytecode, securityDomain);
         }
 
+        if (cache != null) {
+            cache.put(cacheKey, returnFunction ? bytecode : result);
+        }
         return result;
     }
 
@@ -2615,6 +2720,7 @@ public class Context
     private boolean generatingSource=true;
     boolean useDynamicScope;
     private int optimizationLevel;
+    private Executor compilationExecutor;
     private int maximumInterpreterStackDepth;
     private WrapFactory wrapFactory;
     Debugger debugger;
@@ -2641,6 +2747,10 @@ public class Context
     int instructionCount;
     int instructionThreshold;
 
+    // For counting the accesses through property caches
+    long propertyCacheHits;
+    long propertyCacheMisses;
+
     // It can be used to return the second index-like result from function
     int scratchIndex;
 
@@ -118,6 +118,7 @@ public class ContextFactory
     private volatile Object listeners;
     private boolean disabledListening;
     private ClassLoader applicationClassLoader;
+    private volatile ScriptCache scriptCache;
 
     /**
      * Listener of {@link Context} creation and release events.
@@ -279,6 +280,9 @@ public class ContextFactory
 
           case Context.FEATURE_ENHANCED_JAVA_ACCESS:
             return false;
+
+          case Context.FEATURE_LAZY_FUNCTION_BODIES:
+            return false;
         }
         // It is a bug to call the method with unknown featureIndex
         throw new IllegalArgumentException(String.valueOf(featureIndex));
@@ -380,6 +384,30 @@ public class ContextFactory
         this.applicationClassLoader = loader;
     }
 
+    /**
+     * Returns the cache of compiled scripts and functions, or null if
+     * compiling does not use a cache.
+     *
+     * @see #setScriptCache(ScriptCache)
+     */
+    public final ScriptCache getScriptCache()
+    {
+        return scriptCache;
+    }
+
+    /**
+     * Set the cache of compiled scripts and functions that the contexts of
+     * this factory use when they compile sources.
+     *
+     * @param cache the cache, or null to compile every source again
+     * @see ScriptCache
+     */
+    public final void setScriptCache(ScriptCache cache)
+    {
+        checkNotSealed();
+        this.scriptCache = cache;
+    }
+
     /**
      * Execute top call to script or function.
      * When the runtime is about to execute a script or function that will
@@ -73,6 +73,10 @@ public class Decompiler
     // the last RC of object literals in case of function expressions
     private static final int FUNCTION_END = Token.LAST_TOKEN + 1;
 
+    // Marker for source text that is printed as it is, such as the body of
+    // a function that was parsed lazily
+    private static final int SOURCE_TEXT = Token.LAST_TOKEN + 2;
+
     String getEncodedSource()
     {
         return sourceToString(0);
@@ -127,6 +131,12 @@ public class Decompiler
         appendString(str);
     }
 
+    void addSourceText(String text)
+    {
+        append((char)SOURCE_TEXT);
+        appendString(text);
+    }
+
     void addRegexp(String regexp, String flags)
     {
         addToken(Token.REGEXP);
@@ -339,6 +349,15 @@ public class Decompiler
                 i = printSourceString(source, i + 1, true, result);
                 continue;
 
+            case SOURCE_TEXT: {
+                int end = getSourceStringEnd(source, i + 1);
+                StringBuffer text = new StringBuffer();
+                printSourceString(source, i + 1, false, text);
+                printSourceText(text.toString(), indent, result);
+                i = end;
+                continue;
+            }
+
             case Token.NUMBER:
                 i = printSourceNumber(source, i + 1, result);
                 continue;
@@ -808,6 +827,41 @@ public class Decompiler
         return result.toString();
     }
 
+    /**
+     * Prints source text, with the lines after the first moved to the
+     * current indentation, keeping their indentation relative to each
+     * other.
+     */
+    private static void printSourceText(String text, int indent,
+                                        StringBuffer sb)
+    {
+        String[] lines = text.split("\r\n|[\n\r\u2028\u2029]", -1);
+        int common = Integer.MAX_VALUE;
+        for (int i = 1; i < lines.length; i++) {
+            String line = lines[i];
+            int lineIndent = 0;
+            while (lineIndent < line.length()
+                   && Character.isWhitespace(line.charAt(lineIndent))) {
+                lineIndent++;
+            }
+            if (lineIndent < line.length()) {
+                common = Math.min(common, lineIndent);
+            }
+        }
+
+        sb.append(lines[0]);
+        for (int i = 1; i < lines.length; i++) {
+            String line = lines[i];
+            sb.append('\n');
+            if (line.trim().length() != 0) {
+                for (int j = 0; j < indent; j++) {
+                    sb.append(' ');
+                }
+                sb.append(line.substring(common));
+            }
+        }
+    }
+
     private static int getNext(String source, int length, int i)
     {
         return (i + 1 < length) ? source.charAt(i + 1) : Token.EOF;
@@ -521,6 +521,9 @@ public final class IRFactory extends Parser
             int lineno = fn.getBody().getLineno();
             ++nestingOfFunction;  // only for body, not params
             Node body = transform(fn.getBody());
+            if (fn.getLazySource() != null) {
+                decompileLazyBody(fn);
+            }
 
             if (!fn.isExpressionClosure()) {
                 decompiler.addToken(Token.RC);
@@ -2283,6 +2286,18 @@ public final class IRFactory extends Parser
         return mexpr;
     }
 
+    // The parse tree of a lazily parsed function has an empty body, so
+    // the body is decompiled as its source text.
+    private void decompileLazyBody(FunctionNode fn) {
+        String source = fn.getLazySource();
+        String body = source.substring(fn.getLazyBodyStart(),
+                                       source.length() - 1).trim();
+        if (body.length() != 0) {
+            decompiler.addSourceText(body);
+            decompiler.addToken(Token.EOL);
+        }
+    }
+
     void decompile(AstNode node) {
         switch (node.getType()) {
           case Token.ARRAYLIT:
@@ -135,8 +135,22 @@ abstract class Icode {
 
        Icode_DEBUGGER                   = -64,
 
+    // Superinstructions for frequent sequences: GETPROP with the string
+    // index as a ubyte, GETVAR1 twice, and stores followed by POP
+       Icode_GETPROP1                   = -65,
+       Icode_GETVAR1_GETVAR1            = -66,
+       Icode_SETVAR1_POP                = -67,
+       Icode_SETPROP_POP                = -68,
+       Icode_SETELEM_POP                = -69,
+       Icode_VAR_INC_DEC_POP            = -70,
+
        // Last icode
-        MIN_ICODE                       = -64;
+        MIN_ICODE                       = -70;
+
+    // The cache index that follows the GETPROP, SETPROP, Icode_GETPROP1,
+    // Icode_SETPROP_POP and Icode_PROP_AND_THIS instructions that have no
+    // cache of their own
+    static final int NO_PROPERTY_CACHE = 0xFFFF;
 
     static String bytecodeName(int bytecode)
     {
@@ -217,6 +231,12 @@ abstract class Icode {
           case Icode_GENERATOR:        return "GENERATOR";
           case Icode_GENERATOR_END:    return "GENERATOR_END";
           case Icode_DEBUGGER:         return "DEBUGGER";
+          case Icode_GETPROP1:         return "GETPROP1";
+          case Icode_GETVAR1_GETVAR1:  return "GETVAR1_GETVAR1";
+          case Icode_SETVAR1_POP:      return "SETVAR1_POP";
+          case Icode_SETPROP_POP:      return "SETPROP_POP";
+          case Icode_SETELEM_POP:      return "SETELEM_POP";
+          case Icode_VAR_INC_DEC_POP:  return "VAR_INC_DEC_POP";
         }
 
         // icode without name
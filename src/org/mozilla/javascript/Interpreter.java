@@ -11,6 +11,7 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.ArrayList;
 
+import org.mozilla.javascript.ast.AstRoot;
 import org.mozilla.javascript.ast.FunctionNode;
 import org.mozilla.javascript.ast.ScriptNode;
 import org.mozilla.javascript.ScriptRuntime.NoSuchMethodShim;
@@ -229,6 +230,25 @@ public final class Interpreter extends Icode implements Evaluator
         return ((iCode[pc] & 0xFF) << 8) | (iCode[pc + 1] & 0xFF);
     }
 
+    private static PropertyCache getPropertyCache(InterpreterData idata,
+                                                  int index)
+    {
+        if (index == NO_PROPERTY_CACHE) {
+            return PropertyCache.UNCACHED;
+        }
+        PropertyCache cache = idata.itsPropertyCaches[index];
+        return cache != null ? cache : newPropertyCache(idata, index);
+    }
+
+    private static PropertyCache newPropertyCache(InterpreterData idata,
+                                                  int index)
+    {
+        // a racing thread may make another one, which is harmless
+        PropertyCache cache = new PropertyCache();
+        idata.itsPropertyCaches[index] = cache;
+        return cache;
+    }
+
     private static int getInt(byte[] iCode, int pc) {
         return (iCode[pc] << 24) | ((iCode[pc + 1] & 0xFF) << 16)
                | ((iCode[pc + 2] & 0xFF) << 8) | (iCode[pc + 3] & 0xFF);
@@ -318,6 +338,7 @@ public final class Interpreter extends Icode implements Evaluator
                 break;
               }
               case Icode_VAR_INC_DEC :
+              case Icode_VAR_INC_DEC_POP :
               case Icode_NAME_INC_DEC :
               case Icode_PROP_INC_DEC :
               case Icode_ELEM_INC_DEC :
@@ -371,6 +392,22 @@ public final class Interpreter extends Icode implements Evaluator
                 pc += 2;
                 break;
               }
+              case Token.GETPROP :
+              case Token.SETPROP :
+              case Icode_SETPROP_POP :
+              case Icode_PROP_AND_THIS : {
+                int cacheIndex = getIndex(iCode, pc);
+                out.println(tname + " cache " + cacheIndex);
+                pc += 2;
+                break;
+              }
+              case Icode_GETPROP1 : {
+                String str = strings[0xFF & iCode[pc]];
+                int cacheIndex = getIndex(iCode, pc + 1);
+                out.println(tname + " \"" + str + "\" cache " + cacheIndex);
+                pc += 3;
+                break;
+              }
               case Icode_SHORTNUMBER : {
                 int value = getShort(iCode, pc);
                 out.println(tname + " " + value);
@@ -456,11 +493,17 @@ public final class Interpreter extends Icode implements Evaluator
               }
               case Icode_GETVAR1:
               case Icode_SETVAR1:
+              case Icode_SETVAR1_POP:
               case Icode_SETCONSTVAR1:
                 indexReg = iCode[pc];
                 out.println(tname+" "+indexReg);
                 ++pc;
                 break;
+              case Icode_GETVAR1_GETVAR1:
+                indexReg = iCode[pc + 1];
+                out.println(tname+" "+iCode[pc]+" "+indexReg);
+                pc += 2;
+                break;
             }
             if (old_pc + icodeLength != pc) Kit.codeBug();
         }
@@ -518,6 +561,7 @@ public final class Interpreter extends Icode implements Evaluator
                 return 1 + 1;
 
             case Icode_VAR_INC_DEC:
+            case Icode_VAR_INC_DEC_POP:
             case Icode_NAME_INC_DEC:
             case Icode_PROP_INC_DEC:
             case Icode_ELEM_INC_DEC:
@@ -525,6 +569,18 @@ public final class Interpreter extends Icode implements Evaluator
                 // type of ++/--
                 return 1 + 1;
 
+            case Token.GETPROP :
+            case Token.SETPROP :
+            case Icode_SETPROP_POP :
+            case Icode_PROP_AND_THIS :
+                // property cache index
+                return 1 + 2;
+
+            case Icode_GETPROP1 :
+                // ubyte string index
+                // property cache index
+                return 1 + 1 + 2;
+
             case Icode_SHORTNUMBER :
                 // short number
                 return 1 + 2;
@@ -559,10 +615,15 @@ public final class Interpreter extends Icode implements Evaluator
 
             case Icode_GETVAR1:
             case Icode_SETVAR1:
+            case Icode_SETVAR1_POP:
             case Icode_SETCONSTVAR1:
                 // byte var index
                 return 1 + 1;
 
+            case Icode_GETVAR1_GETVAR1:
+                // two byte var indexes
+                return 1 + 2;
+
             case Icode_LINE :
                 // line number
                 return 1 + 2;
@@ -776,8 +837,59 @@ public final class Interpreter extends Icode implements Evaluator
         if (idata.encodedSource == null) {
             return null;
         }
-        return idata.encodedSource.substring(idata.encodedSourceStart,
-                                             idata.encodedSourceEnd);
+        if (idata.lazySource == null && idata.lazyEncodedSource == null
+            && idata.itsNestedFunctions == null)
+        {
+            return idata.encodedSource.substring(idata.encodedSourceStart,
+                                                 idata.encodedSourceEnd);
+        }
+        StringBuilder sb = new StringBuilder();
+        appendEncodedSource(idata, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the encoded source of a function or script. The body of a
+     * lazy function is only source text in the encoded source of the
+     * code around it, so the function is compiled and its own encoded
+     * source is put in its place; it then decompiles the same way as if
+     * it had been compiled eagerly.
+     */
+    private static void appendEncodedSource(InterpreterData idata,
+                                            StringBuilder sb)
+    {
+        if (idata.lazySource != null) {
+            Context cx = Context.getCurrentContext();
+            if (cx != null) {
+                compileLazyFunction(cx, idata);
+            }
+        }
+        String source;
+        int start, end;
+        if (idata.lazySource == null && idata.lazyEncodedSource != null) {
+            source = idata.lazyEncodedSource;
+            start = idata.lazyEncodedSourceStart;
+            end = idata.lazyEncodedSourceEnd;
+        } else {
+            source = idata.encodedSource;
+            start = idata.encodedSourceStart;
+            end = idata.encodedSourceEnd;
+        }
+        InterpreterData[] nested = idata.itsNestedFunctions;
+        if (nested != null) {
+            // nested functions are in source order
+            for (InterpreterData fn : nested) {
+                if (fn.encodedSource == source
+                    && start <= fn.encodedSourceStart
+                    && fn.encodedSourceEnd <= end)
+                {
+                    sb.append(source, start, fn.encodedSourceStart);
+                    appendEncodedSource(fn, sb);
+                    start = fn.encodedSourceEnd;
+                }
+            }
+        }
+        sb.append(source, start, end);
     }
 
     private static void initFunction(Context cx, Scriptable scope,
@@ -1233,19 +1345,36 @@ switch (op) {
         stack[stackTop] = ScriptRuntime.getObjectPropNoWarn(lhs, stringReg, cx);
         continue Loop;
     }
+    case Icode_GETPROP1 :
+        stringReg = strings[0xFF & iCode[frame.pc]];
+        ++frame.pc;
+        // fallthrough
     case Token.GETPROP : {
         Object lhs = stack[stackTop];
         if (lhs == DBL_MRK) lhs = ScriptRuntime.wrapNumber(sDbl[stackTop]);
-        stack[stackTop] = ScriptRuntime.getObjectProp(lhs, stringReg, cx, frame.scope);
+        PropertyCache cache = getPropertyCache(frame.idata,
+                                               getIndex(iCode, frame.pc));
+        frame.pc += 2;
+        stack[stackTop] = cache.getObjectProp(lhs, stringReg, cx, frame.scope);
         continue Loop;
     }
-    case Token.SETPROP : {
+    case Token.SETPROP :
+    case Icode_SETPROP_POP : {
         Object rhs = stack[stackTop];
         if (rhs == DBL_MRK) rhs = ScriptRuntime.wrapNumber(sDbl[stackTop]);
         --stackTop;
         Object lhs = stack[stackTop];
         if (lhs == DBL_MRK) lhs = ScriptRuntime.wrapNumber(sDbl[stackTop]);
-        stack[stackTop] = ScriptRuntime.setObjectProp(lhs, stringReg, rhs, cx);
+        PropertyCache cache = getPropertyCache(frame.idata,
+                                               getIndex(iCode, frame.pc));
+        frame.pc += 2;
+        Object result = cache.setObjectProp(lhs, stringReg, rhs, cx);
+        if (op == Icode_SETPROP_POP) {
+            stack[stackTop] = null;
+            stackTop--;
+        } else {
+            stack[stackTop] = result;
+        }
         continue Loop;
     }
     case Icode_PROP_INC_DEC : {
@@ -1264,6 +1393,12 @@ switch (op) {
         stackTop = doSetElem(cx, stack, sDbl, stackTop);
         continue Loop;
     }
+    case Icode_SETELEM_POP : {
+        stackTop = doSetElem(cx, stack, sDbl, stackTop);
+        stack[stackTop] = null;
+        stackTop--;
+        continue Loop;
+    }
     case Icode_ELEM_INC_DEC: {
         stackTop = doElemIncDec(cx, frame, iCode, stack, sDbl, stackTop);
         continue Loop;
@@ -1314,8 +1449,11 @@ switch (op) {
         Object obj = stack[stackTop];
         if (obj == DBL_MRK) obj = ScriptRuntime.wrapNumber(sDbl[stackTop]);
         // stringReg: property
-        stack[stackTop] = ScriptRuntime.getPropFunctionAndThis(obj, stringReg,
-                                                               cx, frame.scope);
+        PropertyCache cache = getPropertyCache(frame.idata,
+                                               getIndex(iCode, frame.pc));
+        frame.pc += 2;
+        stack[stackTop] = cache.getPropFunctionAndThis(obj, stringReg,
+                                                       cx, frame.scope);
         ++stackTop;
         stack[stackTop] = ScriptRuntime.lastStoredScriptable(cx);
         continue Loop;
@@ -1570,6 +1708,20 @@ switch (op) {
         stackTop = doSetVar(frame, stack, sDbl, stackTop, vars, varDbls,
                             varAttributes, indexReg);
         continue Loop;
+    case Icode_SETVAR1_POP :
+        indexReg = iCode[frame.pc++];
+        stackTop = doSetVar(frame, stack, sDbl, stackTop, vars, varDbls,
+                            varAttributes, indexReg);
+        stack[stackTop] = null;
+        stackTop--;
+        continue Loop;
+    case Icode_GETVAR1_GETVAR1 :
+        stackTop = doGetVar(frame, stack, sDbl, stackTop, vars, varDbls,
+                            iCode[frame.pc]);
+        indexReg = iCode[frame.pc + 1];
+        frame.pc += 2;
+        stackTop = doGetVar(frame, stack, sDbl, stackTop, vars, varDbls, indexReg);
+        continue Loop;
     case Icode_GETVAR1:
         indexReg = iCode[frame.pc++];
         // fallthrough
@@ -1581,6 +1733,13 @@ switch (op) {
                                vars, varDbls, indexReg);
         continue Loop;
     }
+    case Icode_VAR_INC_DEC_POP : {
+        stackTop = doVarIncDec(cx, frame, stack, sDbl, stackTop,
+                               vars, varDbls, indexReg);
+        stack[stackTop] = null;
+        stackTop--;
+        continue Loop;
+    }
     case Icode_ZERO :
         ++stackTop;
         stack[stackTop] = DBL_MRK;
@@ -2696,6 +2855,44 @@ switch (op) {
         return frame;
     }
 
+    /**
+     * Compiles a function whose body was parsed lazily. The function's
+     * closures all share its InterpreterData, which is filled in.
+     */
+    private static void compileLazyFunction(Context cx, InterpreterData idata)
+    {
+        synchronized (idata) {
+            String source = idata.lazySource;
+            if (source == null) {
+                // another thread compiled it
+                return;
+            }
+            CompilerEnvirons compilerEnv = idata.lazyCompilerEnv;
+            if (compilerEnv == null) {
+                // the function was deserialized
+                compilerEnv = new CompilerEnvirons();
+                compilerEnv.initFromContext(cx);
+                compilerEnv.setLanguageVersion(idata.languageVersion);
+                compilerEnv.setOptimizationLevel(-1);
+                compilerEnv.setLazyFunctionBodies(true);
+            }
+            // The source parsed without errors when the script was
+            // compiled. Should an error come up anyway, it is thrown as
+            // a SyntaxError, as for eval(), since the script has already
+            // started to run.
+            ErrorReporter reporter = DefaultErrorReporter.forEval(
+                compilerEnv.getErrorReporter());
+            AstRoot ast = new Parser(compilerEnv, reporter).parseLazyFunction(
+                source, idata.itsSourceFile, idata.lazyLineno,
+                idata.itsFunctionType, idata.isStrict);
+            ScriptNode tree = new IRFactory(compilerEnv, reporter)
+                .transformTree(ast);
+            InterpreterData data = new CodeGenerator().compile(
+                compilerEnv, tree, tree.getEncodedSource(), true);
+            idata.setLazyCode(data);
+        }
+    }
+
     private static void initFrame(Context cx, Scriptable callerScope,
                                   Scriptable thisObj,
                                   Object[] args, double[] argsDbl,
@@ -2704,6 +2901,9 @@ switch (op) {
                                   CallFrame parentFrame, CallFrame frame)
     {
         InterpreterData idata = fnOrScript.idata;
+        if (idata.lazySource != null) {
+            compileLazyFunction(cx, idata);
+        }
 
         boolean useActivation = idata.itsNeedsActivation;
         DebugFrame debuggerFrame = null;
@@ -34,6 +34,7 @@ final class InterpreterData implements Serializable, DebuggableScript
         this.languageVersion = parent.languageVersion;
         this.itsSourceFile = parent.itsSourceFile;
         this.encodedSource = parent.encodedSource;
+        this.isStrict = parent.isStrict;
 
         init();
     }
@@ -56,6 +57,10 @@ final class InterpreterData implements Serializable, DebuggableScript
 
     byte[] itsICode;
 
+    // the caches of the property access instructions, made when each
+    // instruction first runs
+    PropertyCache[] itsPropertyCaches;
+
     int[] itsExceptionTable;
 
     int itsMaxVars;
@@ -89,6 +94,58 @@ final class InterpreterData implements Serializable, DebuggableScript
 
     boolean evalScriptFlag; // true if script corresponds to eval() code
 
+    // The source of a function whose body was parsed lazily, until the
+    // function is compiled from it when it is first called
+    volatile String lazySource;
+    int lazyLineno;
+    transient CompilerEnvirons lazyCompilerEnv;
+    // The encoded source of a lazy function once it is compiled, which its
+    // nested functions refer to. encodedSource keeps the function's place
+    // in the encoded source of its parent, where its body is source text.
+    String lazyEncodedSource;
+    int lazyEncodedSourceStart;
+    int lazyEncodedSourceEnd;
+
+    /**
+     * Takes the code of a lazily parsed function from the data that
+     * compiling its source produced. The encoded source is taken too, so
+     * that the function decompiles as if it had been compiled eagerly.
+     */
+    void setLazyCode(InterpreterData data)
+    {
+        lazyEncodedSource = data.encodedSource;
+        lazyEncodedSourceStart = data.encodedSourceStart;
+        lazyEncodedSourceEnd = data.encodedSourceEnd;
+        itsNeedsActivation = data.itsNeedsActivation;
+        itsStringTable = data.itsStringTable;
+        itsDoubleTable = data.itsDoubleTable;
+        itsNestedFunctions = data.itsNestedFunctions;
+        if (itsNestedFunctions != null) {
+            for (InterpreterData nested : itsNestedFunctions) {
+                nested.parentData = this;
+            }
+        }
+        itsRegExpLiterals = data.itsRegExpLiterals;
+        itsICode = data.itsICode;
+        itsPropertyCaches = data.itsPropertyCaches;
+        itsExceptionTable = data.itsExceptionTable;
+        itsMaxVars = data.itsMaxVars;
+        itsMaxLocals = data.itsMaxLocals;
+        itsMaxStack = data.itsMaxStack;
+        itsMaxFrameArray = data.itsMaxFrameArray;
+        argNames = data.argNames;
+        argIsConst = data.argIsConst;
+        argCount = data.argCount;
+        itsMaxCalleeArgs = data.itsMaxCalleeArgs;
+        literalIds = data.literalIds;
+        longJumps = data.longJumps;
+        firstLinePC = data.firstLinePC;
+        lazyCompilerEnv = null;
+        // written last, so that other threads see the code once they see
+        // that the source is gone
+        lazySource = null;
+    }
+
     public boolean isTopLevel()
     {
         return topLevel;
@@ -10,7 +10,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Collection of utilities
@@ -405,6 +410,70 @@ public class Kit
         return buffer;
     }
 
+    /**
+     * Runs the tasks on the threads of the executor and on the calling
+     * thread, and returns when all of them are done. The calling thread
+     * takes tasks too, so this does not wait forever when the executor is
+     * busy or is running the caller itself. If tasks fail, the exception of
+     * the first one in the list is rethrown.
+     */
+    public static void runTasks(Executor executor,
+                                final List<? extends Runnable> tasks)
+    {
+        final int count = tasks.size();
+        final Throwable[] errors = new Throwable[count];
+        final AtomicInteger next = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(count);
+        Runnable worker = new Runnable() {
+            public void run() {
+                int i;
+                while ((i = next.getAndIncrement()) < count) {
+                    try {
+                        tasks.get(i).run();
+                    } catch (Throwable ex) {
+                        errors[i] = ex;
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }
+        };
+
+        int helpers = Math.min(count - 1,
+                               Runtime.getRuntime().availableProcessors());
+        try {
+            for (int i = 0; i < helpers; i++) {
+                executor.execute(worker);
+            }
+        } catch (RejectedExecutionException ex) {
+            // the calling thread runs what is left
+        }
+        worker.run();
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                done.await();
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (Throwable ex : errors) {
+            if (ex instanceof RuntimeException) {
+                throw (RuntimeException)ex;
+            } else if (ex instanceof Error) {
+                throw (Error)ex;
+            } else if (ex != null) {
+                throw initCause(new RuntimeException(ex.toString()), ex);
+            }
+        }
+    }
+
     /**
      * Throws RuntimeException to indicate failed assertion.
      * The function never returns and its return type is RuntimeException
@@ -57,9 +57,11 @@ public class Parser
     private ErrorReporter errorReporter;
     private IdeErrorReporter errorCollector;
     private String sourceURI;
-    private char[] sourceChars;
+    private String sourceString;
 
     boolean calledByCompileFunction;  // ugly - set directly by Context
+    private boolean inLazyFunction;  // in the body of a lazy function
+    private boolean keepLazyBody;  // the lazy body has checks left to IRFactory
     private boolean parseFinished;  // set when finished to prevent reuse
 
     private TokenStream ts;
@@ -471,9 +473,10 @@ public class Parser
         if (parseFinished) throw new IllegalStateException("parser reused");
         this.sourceURI = sourceURI;
         if (compilerEnv.isIdeMode()) {
-            this.sourceChars = sourceString.toCharArray();
+            this.sourceString = sourceString;
         }
-        this.ts = new TokenStream(this, null, sourceString, lineno);
+        // the scanner reads the string in place
+        this.ts = new TokenStream(this, sourceString, lineno);
         try {
             return parse();
         } catch (IOException iox) {
@@ -485,7 +488,23 @@ public class Parser
     }
 
     /**
-     * Builds a parse tree from the given sourcereader.
+     * Creates a token stream for the given source string without parsing
+     * it, for tools that only need the tokens, such as {@link CommentScanner}.
+     * Errors in the tokens are reported as they would be during a parse.
+     */
+    TokenStream initTokenStream(String sourceString, String sourceURI,
+                                int lineno)
+    {
+        if (parseFinished) throw new IllegalStateException("parser reused");
+        this.sourceURI = sourceURI;
+        this.ts = new TokenStream(this, sourceString, lineno);
+        parseFinished = true;
+        return ts;
+    }
+
+    /**
+     * Builds a parse tree from the given sourcereader. The reader is read
+     * to its end, and its text is parsed as a string.
      * @see #parse(String,String,int)
      * @throws IOException if the {@link Reader} encounters an error
      */
@@ -493,16 +512,7 @@ public class Parser
         throws IOException
     {
         if (parseFinished) throw new IllegalStateException("parser reused");
-        if (compilerEnv.isIdeMode()) {
-            return parse(readFully(sourceReader), sourceURI, lineno);
-        }
-        try {
-            this.sourceURI = sourceURI;
-            ts = new TokenStream(this, sourceReader, null, lineno);
-            return parse();
-        } finally {
-            parseFinished = true;
-        }
+        return parse(readFully(sourceReader), sourceURI, lineno);
     }
 
     private AstRoot parse() throws IOException
@@ -745,6 +755,7 @@ public class Parser
         int syntheticType = type;
         int baseLineno = ts.lineno;  // line number where source starts
         int functionSourceStart = ts.tokenBeg;  // start of "function" kwd
+        boolean lazy = canParseLazily(functionSourceStart);
         Name name = null;
         AstNode memberExprNode = null;
 
@@ -795,9 +806,16 @@ public class Parser
         fnNode.setJsDocNode(getAndResetJsDoc());
 
         PerFunctionVariables savedVars = new PerFunctionVariables(fnNode);
+        boolean savedInLazyFunction = inLazyFunction;
         try {
             parseFunctionParams(fnNode);
-            fnNode.setBody(parseFunctionBody());
+            inLazyFunction |= lazy;
+            if (lazy) {
+                keepLazyBody = false;
+            }
+            AstNode body = parseFunctionBody();
+            int bodyStart = body.getPosition();
+            fnNode.setBody(body);
             fnNode.setEncodedSourceBounds(functionSourceStart, ts.tokenEnd);
             fnNode.setLength(ts.tokenEnd - functionSourceStart);
 
@@ -808,7 +826,11 @@ public class Parser
                            : "msg.anon.no.return.value";
                 addStrictWarning(msg, name == null ? "" : name.getIdentifier());
             }
+            if (lazy) {
+                dropFunctionBody(fnNode, functionSourceStart, bodyStart);
+            }
         } finally {
+            inLazyFunction = savedInLazyFunction;
             savedVars.restore();
         }
 
@@ -841,6 +863,109 @@ public class Parser
         return fnNode;
     }
 
+    /**
+     * Returns whether the body of the function that starts at an offset
+     * may be parsed lazily. Functions in parentheses are not, since they
+     * are usually called at once, and neither are getters and setters, or
+     * the function that is being compiled.
+     */
+    private boolean canParseLazily(int functionSourceStart) {
+        return compilerEnv.isLazyFunctionBodies()
+            && compilerEnv.getOptimizationLevel() < 0
+            && !compilerEnv.isIdeMode()
+            && !inLazyFunction
+            && currentToken == Token.FUNCTION
+            && !(calledByCompileFunction && nestingOfFunction == 0)
+            && ts.getCharBefore(functionSourceStart) != '(';
+    }
+
+    /**
+     * Replaces the body of a function that has been parsed lazily with an
+     * empty block, and records the function's source, unless the function
+     * needs more than its source to be parsed again.
+     */
+    private void dropFunctionBody(FunctionNode fnNode, int start,
+                                  int bodyStart) {
+        AstNode body = fnNode.getBody();
+        if (syntaxErrorCount != 0
+            || keepLazyBody
+            || fnNode.isGenerator()
+            || fnNode.isExpressionClosure()
+            || fnNode.getProp(Node.DESTRUCTURING_PARAMS) != null) {
+            return;
+        }
+        String source = ts.getSourceText(start, ts.tokenEnd);
+        Block empty = new Block(bodyStart, body.getLength());
+        empty.setLineno(body.getLineno());
+        fnNode.setBody(empty);
+        fnNode.setLazySource(source, bodyStart - start + 1);
+    }
+
+    /**
+     * Notes that the body of the lazy function that is being parsed
+     * assigns to a target that IRFactory checks, such as a destructuring
+     * pattern or a call. Such a body is kept, so that an error in it is
+     * reported when the script is compiled, not when the function is
+     * first called.
+     */
+    private void checkLazyAssignTarget(AstNode target) {
+        if (!inLazyFunction) {
+            return;
+        }
+        target = removeParens(target);
+        if (target instanceof Name) {
+            if (inUseStrictDirective
+                && "eval".equals(((Name)target).getIdentifier())) {
+                keepLazyBody = true;
+            }
+        } else if (!(target instanceof PropertyGet)
+                   && !(target instanceof ElementGet)) {
+            keepLazyBody = true;
+        }
+    }
+
+    /**
+     * Parses the source of a function that was parsed lazily, so that it
+     * can be compiled; the functions nested in it are parsed lazily in
+     * turn. The function is the only child of the returned root.
+     * @see FunctionNode#getLazySource()
+     */
+    AstRoot parseLazyFunction(String source, String sourceURI, int lineno,
+                              int functionType, boolean strict)
+    {
+        if (parseFinished) throw new IllegalStateException("parser reused");
+        this.sourceURI = sourceURI;
+        this.calledByCompileFunction = true;
+        this.ts = new TokenStream(this, source, lineno);
+        AstRoot root = new AstRoot(0);
+        root.setInStrictMode(strict);
+        currentScope = currentScriptOrFn = root;
+        inUseStrictDirective = strict;
+        try {
+            if (peekToken() != Token.FUNCTION) codeBug();
+            consumeToken();
+            FunctionNode fn = function(functionType);
+            root.addChildToBack(fn);
+            fn.setParent(root);
+            root.setLength(getNodeEnd(fn));
+        } catch (IOException iox) {
+            // Should never happen
+            throw new IllegalStateException();
+        } finally {
+            parseFinished = true;
+        }
+
+        if (this.syntaxErrorCount != 0) {
+            String msg = String.valueOf(this.syntaxErrorCount);
+            msg = lookupMessage("msg.got.syntax.errors", msg);
+            throw errorReporter.runtimeError(msg, sourceURI, lineno, null, 0);
+        }
+        root.setSourceName(sourceURI);
+        root.setBaseLineno(lineno);
+        root.setEndLineno(ts.lineno);
+        return root;
+    }
+
     // This function does not match the closing RC: the caller matches
     // the RC so it can provide a suitable error message if not matched.
     // This means it's up to the caller to set the length of the node to
@@ -1293,6 +1418,12 @@ public class Parser
                         reportError("msg.mult.index");
                     }
                 }
+                if (!(init instanceof VariableDeclaration)) {
+                    checkLazyAssignTarget(init);
+                } else if (!((VariableDeclaration)init).getVariables().isEmpty()) {
+                    checkLazyAssignTarget(((VariableDeclaration)init)
+                                          .getVariables().get(0).getTarget());
+                }
                 fis.setIterator(init);
                 fis.setIteratedObject(cond);
                 fis.setInPosition(inPos);
@@ -1856,6 +1987,7 @@ public class Parser
                 if (!(destructuring instanceof DestructuringForm))
                     reportError("msg.bad.assign.left", kidPos, end - kidPos);
                 markDestructuring(destructuring);
+                checkLazyAssignTarget(destructuring);
             } else {
                 // Simple variable name
                 mustMatchToken(Token.NAME, "msg.bad.var");
@@ -2049,6 +2181,7 @@ public class Parser
             Comment jsdocNode = getAndResetJsDoc();
 
             markDestructuring(pn);
+            checkLazyAssignTarget(pn);
             int opPos = ts.tokenBeg;
 
             pn = new Assignment(tt, pn, assignExpr(), opPos);
@@ -3031,6 +3164,7 @@ public class Parser
                   // handle destructuring assignment
                   iter = destructuringPrimaryExpr();
                   markDestructuring(iter);
+                  checkLazyAssignTarget(iter);
                   break;
               case Token.NAME:
                   consumeToken();
@@ -3123,6 +3257,7 @@ public class Parser
                   // handle destructuring assignment
                   iter = destructuringPrimaryExpr();
                   markDestructuring(iter);
+                  checkLazyAssignTarget(iter);
                   break;
               case Token.NAME:
                   consumeToken();
@@ -3492,22 +3627,20 @@ public class Parser
      *
      * @return the offset of the beginning of the line containing pos
      * (i.e. 1+ the offset of the first preceding newline).  Returns -1
-     * if the {@link CompilerEnvirons} is not set to ide-mode,
-     * and {@link #parse(java.io.Reader,String,int)} was used.
+     * if the {@link CompilerEnvirons} is not set to ide-mode.
      */
     private int lineBeginningFor(int pos) {
-        if (sourceChars == null) {
+        if (sourceString == null) {
             return -1;
         }
         if (pos <= 0) {
             return 0;
         }
-        char[] buf = sourceChars;
-        if (pos >= buf.length) {
-            pos = buf.length - 1;
+        if (pos >= sourceString.length()) {
+            pos = sourceString.length() - 1;
         }
         while (--pos >= 0) {
-            char c = buf[pos];
+            char c = sourceString.charAt(pos);
             if (c == '\n' || c == '\r') {
                 return pos + 1; // want position after the newline
             }
@@ -0,0 +1,290 @@
+/* -*- Mode: java; tab-width: 8; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript;
+
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+
+/**
+ * An inline cache for the property accesses of one instruction, such as
+ * <code>obj.name</code> or <code>obj.name = value</code>. It remembers
+ * where the property was found for the {@link Shape shapes} of the last
+ * objects that the instruction saw: either at an index in the object
+ * itself, or at an index in its prototype. An object with a remembered
+ * shape then finds the property without a lookup. Interpreted functions
+ * keep the caches of their instructions in their InterpreterData, and
+ * compiled classes keep one in a static field for each access.
+ *
+ * A cache starts empty, holds one shape when the instruction sees objects
+ * of one shape, and up to {@link #MAX_ENTRIES} shapes. When it would need
+ * more, it becomes megamorphic: it forgets its shapes and stops caching.
+ * Only plain {@link NativeObject}s are cached, since other classes may
+ * have properties of their own kinds.
+ *
+ * A cache is shared by the threads that run its code. Its entries are
+ * immutable and the array holding them is filled in before it is
+ * published through a volatile field, so a racing thread at worst misses.
+ * The hits and misses are counted in the {@link Context}.
+ *
+ * A cache can live as long as its script, which can run in many scopes
+ * one after another. So an entry holds the prototype it found the
+ * property in only weakly, and does not keep the prototype and its scope
+ * alive.
+ */
+public final class PropertyCache implements Serializable
+{
+    private static final long serialVersionUID = -2367452104581935186L;
+
+    static final int MAX_ENTRIES = 4;
+
+    /**
+     * A cache that never caches, for instructions that have none of their
+     * own.
+     */
+    static final PropertyCache UNCACHED = new PropertyCache();
+    static {
+        UNCACHED.megamorphic = true;
+    }
+
+    private static final class Entry
+    {
+        final Shape shape;
+        // null if the property is in the object itself
+        final WeakReference<ScriptableObject> holder;
+        final Shape holderShape;
+        final int index;
+
+        Entry(Shape shape, ScriptableObject holder, Shape holderShape,
+              int index)
+        {
+            this.shape = shape;
+            this.holder = holder != null
+                ? new WeakReference<ScriptableObject>(holder) : null;
+            this.holderShape = holderShape;
+            this.index = index;
+        }
+
+        /**
+         * Returns the prototype that has the property, or null if the
+         * property is in the object itself or the prototype was collected.
+         */
+        ScriptableObject getHolder()
+        {
+            return holder != null ? holder.get() : null;
+        }
+
+        boolean isCollected()
+        {
+            return holder != null && holder.get() == null;
+        }
+    }
+
+    private transient volatile Entry[] entries;
+    private transient volatile boolean megamorphic;
+
+    /**
+     * Returns the value of <code>obj[name]</code>, as
+     * {@link ScriptRuntime#getObjectProp(Object, String, Context, Scriptable)}
+     * does.
+     */
+    public Object getObjectProp(Object obj, String name, Context cx,
+                                Scriptable scope)
+    {
+        Object value = find(obj);
+        if (value == Scriptable.NOT_FOUND) {
+            return getObjectPropMiss(obj, name, cx, scope);
+        }
+        ++cx.propertyCacheHits;
+        return value;
+    }
+
+    private Object getObjectPropMiss(Object obj, String name, Context cx,
+                                     Scriptable scope)
+    {
+        ++cx.propertyCacheMisses;
+        Object value = ScriptRuntime.getObjectProp(obj, name, cx, scope);
+        update(obj, name, false);
+        return value;
+    }
+
+    /**
+     * Sets <code>obj[name]</code>, as
+     * {@link ScriptRuntime#setObjectProp(Object, String, Object, Context)}
+     * does.
+     */
+    public Object setObjectProp(Object obj, String name, Object value,
+                                Context cx)
+    {
+        Entry entry = findOwn(obj);
+        if (entry == null
+            || !((ScriptableObject)obj).setShapedValue(entry.index, value))
+        {
+            return setObjectPropMiss(obj, name, value, cx);
+        }
+        ++cx.propertyCacheHits;
+        return value;
+    }
+
+    private Object setObjectPropMiss(Object obj, String name, Object value,
+                                     Context cx)
+    {
+        ++cx.propertyCacheMisses;
+        ScriptRuntime.setObjectProp(obj, name, value, cx);
+        update(obj, name, true);
+        return value;
+    }
+
+    /**
+     * Returns the function <code>obj[name]</code> for a call, and stores
+     * <code>obj</code> for {@link ScriptRuntime#lastStoredScriptable}, as
+     * {@link ScriptRuntime#getPropFunctionAndThis(Object, String, Context,
+     * Scriptable)} does.
+     */
+    public Callable getPropFunctionAndThis(Object obj, String name,
+                                           Context cx, Scriptable scope)
+    {
+        Object value = find(obj);
+        if (!(value instanceof Callable)) {
+            return getPropFunctionAndThisMiss(obj, name, cx, scope);
+        }
+        ++cx.propertyCacheHits;
+        ScriptRuntime.storeScriptable(cx, (Scriptable)obj);
+        return (Callable)value;
+    }
+
+    private Callable getPropFunctionAndThisMiss(Object obj, String name,
+                                                Context cx, Scriptable scope)
+    {
+        ++cx.propertyCacheMisses;
+        Callable f = ScriptRuntime.getPropFunctionAndThis(obj, name, cx,
+                                                          scope);
+        update(obj, name, false);
+        return f;
+    }
+
+    private static boolean isCacheable(Object obj)
+    {
+        return obj != null && obj.getClass() == NativeObject.class;
+    }
+
+    /**
+     * Returns the value of the property of {@code obj}, or NOT_FOUND if it
+     * is not in the cache.
+     */
+    private Object find(Object obj)
+    {
+        Entry[] entries = this.entries;
+        if (entries == null || !isCacheable(obj)) {
+            return Scriptable.NOT_FOUND;
+        }
+        ScriptableObject so = (ScriptableObject)obj;
+        Shape shape = so.getShape();
+        Entry entry = entries[0];
+        if (entry.shape == shape && entry.holder == null) {
+            return so.getShapedValue(entry.index);
+        }
+        return findPolymorphic(entries, so, shape);
+    }
+
+    private static Object findPolymorphic(Entry[] entries,
+                                          ScriptableObject so, Shape shape)
+    {
+        for (Entry entry : entries) {
+            if (entry.shape == shape) {
+                if (entry.holder == null) {
+                    return so.getShapedValue(entry.index);
+                }
+                ScriptableObject holder = entry.getHolder();
+                if (holder != null && so.getPrototype() == holder
+                    && holder.getShape() == entry.holderShape)
+                {
+                    return holder.getShapedValue(entry.index);
+                }
+            }
+        }
+        return Scriptable.NOT_FOUND;
+    }
+
+    private Entry findOwn(Object obj)
+    {
+        Entry[] entries = this.entries;
+        if (entries == null || !isCacheable(obj)) {
+            return null;
+        }
+        Shape shape = ((ScriptableObject)obj).getShape();
+        for (Entry entry : entries) {
+            if (entry.shape == shape && entry.holder == null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remembers where the property of {@code obj} was found after a
+     * lookup that missed.
+     */
+    private void update(Object obj, String name, boolean ownOnly)
+    {
+        if (megamorphic || !isCacheable(obj)) {
+            return;
+        }
+        ScriptableObject so = (ScriptableObject)obj;
+        Shape shape = so.getShape();
+        if (shape == null) {
+            return;
+        }
+        Entry entry = null;
+        int index = shape.indexOf(name);
+        if (index >= 0) {
+            entry = new Entry(shape, null, null, index);
+        } else if (!ownOnly) {
+            Scriptable proto = so.getPrototype();
+            if (isCacheable(proto)) {
+                ScriptableObject holder = (ScriptableObject)proto;
+                Shape holderShape = holder.getShape();
+                if (holderShape != null) {
+                    index = holderShape.indexOf(name);
+                    if (index >= 0) {
+                        entry = new Entry(shape, holder, holderShape, index);
+                    }
+                }
+            }
+        }
+        if (entry == null) {
+            return;
+        }
+
+        Entry[] oldEntries = entries;
+        int count = oldEntries == null ? 0 : oldEntries.length;
+        for (int i = 0; i != count; i++) {
+            Entry old = oldEntries[i];
+            if (old.isCollected()
+                || (old.shape == shape
+                    && (old.holder == null) == (entry.holder == null)
+                    && old.getHolder() == entry.getHolder()))
+            {
+                // the holder has changed its shape since, or is gone
+                Entry[] newEntries = oldEntries.clone();
+                newEntries[i] = entry;
+                entries = newEntries;
+                return;
+            }
+        }
+        if (count == MAX_ENTRIES) {
+            megamorphic = true;
+            entries = null;
+            return;
+        }
+        Entry[] newEntries = new Entry[count + 1];
+        if (count != 0) {
+            System.arraycopy(oldEntries, 0, newEntries, 0, count);
+        }
+        newEntries[count] = entry;
+        entries = newEntries;
+    }
+}
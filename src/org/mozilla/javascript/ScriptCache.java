@@ -0,0 +1,284 @@
+/* -*- Mode: java; tab-width: 8; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of compiled scripts and functions, so that compiling the same
+ * source again skips parsing and code generation. Set it with
+ * {@link ContextFactory#setScriptCache}.
+ *
+ * Entries are found by a SHA-256 digest of the source together with the
+ * source name, the first line number and the compiler settings, such as
+ * the language version and the optimization level. Compiling a script
+ * that is in the cache returns the same {@link Script} object again;
+ * compiling a function makes a new function object from the cached code,
+ * because a function belongs to its scope. Sources that are compiled with
+ * a security domain, or while a debugger is attached, are not cached, and
+ * neither are the sources of <tt>eval</tt>. Warnings are only reported
+ * when a source is first compiled.
+ *
+ * The cache holds at most a given number of entries, and removes the
+ * least recently used ones to make room. It is split in segments with
+ * locks of their own, so it can be shared by many threads.
+ */
+public class ScriptCache
+{
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 32;
+
+    private final int maxSize;
+    private final Segment[] segments;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates a cache that holds at most {@code maxSize} scripts and
+     * functions.
+     */
+    public ScriptCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Bad max size: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        // small caches have one segment, so that they are exactly LRU
+        int count = 1;
+        while (count * 2 <= Math.min(maxSize / MIN_SEGMENT_SIZE,
+                                     MAX_SEGMENTS)) {
+            count *= 2;
+        }
+        segments = new Segment[count];
+        for (int i = 0; i != count; i++) {
+            // spread the remainder so the capacities add up to maxSize
+            int capacity = maxSize / count + (i < maxSize % count ? 1 : 0);
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    private final class Segment extends LinkedHashMap<Key,Object>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key,Object> eldest) {
+            if (size() > capacity) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private Segment segmentFor(Key key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (segments.length - 1)];
+    }
+
+    /**
+     * Returns the key of a source compiled with the given settings.
+     */
+    static Key makeKey(CompilerEnvirons compilerEnv, String source,
+                       String sourceName, int lineno, boolean isFunction)
+    {
+        return new Key(digest(source), sourceName, lineno, isFunction,
+                       compilerEnv);
+    }
+
+    /**
+     * Returns the cached script, or the cached code of a function, or
+     * null if there is none.
+     */
+    Object get(Key key) {
+        Segment segment = segmentFor(key);
+        Object value;
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return value;
+    }
+
+    void put(Key key, Object value) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    /**
+     * Removes all of the entries from the cache, and resets its
+     * statistics.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     */
+    public int getSize() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of compilations that found their source in the
+     * cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of compilations that did not find their source in
+     * the cache.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of entries that were removed to make room for
+     * newer ones.
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Returns the fraction of lookups that found their source in the
+     * cache, or 0 if there have been no lookups.
+     */
+    public double getHitRate() {
+        long hits = getHits();
+        long lookups = hits + getMisses();
+        return lookups == 0 ? 0 : (double)hits / lookups;
+    }
+
+    private static byte[] digest(String source) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw Kit.initCause(new RuntimeException(ex.toString()), ex);
+        }
+        byte[] buffer = new byte[2048];
+        int length = source.length();
+        for (int start = 0; start < length; start += buffer.length / 2) {
+            int end = Math.min(length, start + buffer.length / 2);
+            int j = 0;
+            for (int i = start; i < end; i++) {
+                char c = source.charAt(i);
+                buffer[j++] = (byte)(c >>> 8);
+                buffer[j++] = (byte)c;
+            }
+            md.update(buffer, 0, j);
+        }
+        return md.digest();
+    }
+
+    static final class Key
+    {
+        private final byte[] digest;
+        private final String sourceName;
+        private final int lineno;
+        private final int languageVersion;
+        private final int optimizationLevel;
+        private final int flags;
+        private final Set<String> activationNames;
+        private final int hashCode;
+
+        Key(byte[] digest, String sourceName, int lineno, boolean isFunction,
+            CompilerEnvirons env)
+        {
+            this.digest = digest;
+            this.sourceName = sourceName;
+            this.lineno = lineno;
+            languageVersion = env.getLanguageVersion();
+            optimizationLevel = env.getOptimizationLevel();
+            int flags = 0;
+            if (isFunction) flags |= 1 << 0;
+            if (env.isGenerateDebugInfo()) flags |= 1 << 1;
+            if (env.isReservedKeywordAsIdentifier()) flags |= 1 << 2;
+            if (env.isAllowMemberExprAsFunctionName()) flags |= 1 << 3;
+            if (env.isXmlAvailable()) flags |= 1 << 4;
+            if (env.isGeneratingSource()) flags |= 1 << 5;
+            if (env.isStrictMode()) flags |= 1 << 6;
+            if (env.reportWarningAsError()) flags |= 1 << 7;
+            if (env.isGenerateObserverCount()) flags |= 1 << 8;
+            if (env.isLazyFunctionBodies()) flags |= 1 << 9;
+            this.flags = flags;
+            activationNames = env.getActivationNames();
+
+            int hash = Arrays.hashCode(digest);
+            hash = 31 * hash + sourceName.hashCode();
+            hash = 31 * hash + lineno;
+            hash = 31 * hash + languageVersion;
+            hash = 31 * hash + optimizationLevel;
+            hashCode = 31 * hash + flags;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key)obj;
+            return hashCode == other.hashCode
+                && lineno == other.lineno
+                && languageVersion == other.languageVersion
+                && optimizationLevel == other.optimizationLevel
+                && flags == other.flags
+                && Arrays.equals(digest, other.digest)
+                && sourceName.equals(other.sourceName)
+                && (activationNames == null
+                    ? other.activationNames == null
+                    : activationNames.equals(other.activationNames));
+        }
+    }
+}
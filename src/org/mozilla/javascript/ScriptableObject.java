@@ -22,6 +22,7 @@ import java.lang.reflect.Modifier;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.mozilla.javascript.debug.DebuggableObject;
 import org.mozilla.javascript.annotations.JSConstructor;
@@ -118,6 +119,16 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
     private transient Slot firstAdded;
     private transient Slot lastAdded;
 
+    // While all of the properties are named data properties without
+    // attributes, they are kept in a shared Shape and an array of values,
+    // and slots is not used. The first other kind of property, or the
+    // first delete, moves them to slots for good; shape is then null.
+    private transient volatile Shape shape = Shape.EMPTY;
+    private transient volatile AtomicReferenceArray<Object> values;
+    // Odd while the values are being copied to a larger array or to slots,
+    // and incremented again when they are in place. See storeShapedValue().
+    private transient volatile int valuesVersion;
+
 
     private volatile Map<Object,Object> associatedValues;
 
@@ -180,7 +191,7 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
             return attributes;
         }
 
-        synchronized void setAttributes(int value)
+        void setAttributes(int value)
         {
             checkValidAttributes(value);
             attributes = (short)value;
@@ -198,6 +209,31 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
 
     }
 
+    /**
+     * A plain property of an object that keeps its properties in a shape,
+     * as a query finds it. The slot holds a copy of the value, so that
+     * looking at a property does not move the object to slots. Setting the
+     * value sets the property of the object.
+     */
+    private static final class ShapedSlot extends Slot
+    {
+        private static final long serialVersionUID = 5476539357553981538L;
+
+        ShapedSlot(String name, Object value)
+        {
+            super(name, name.hashCode(), EMPTY);
+            this.value = value;
+        }
+
+        @Override
+        boolean setValue(Object value, Scriptable owner, Scriptable start) {
+            if (owner != start) {
+                return false;
+            }
+            return ((ScriptableObject)owner).putImpl(name, 0, start, value);
+        }
+    }
+
     protected static ScriptableObject buildDataDescriptor(Scriptable scope,
                                                           Object value,
                                                           int attributes) {
@@ -422,6 +458,10 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
      */
     public boolean has(String name, Scriptable start)
     {
+        Shape shape = this.shape;
+        if (shape != null) {
+            return shape.indexOf(name) >= 0;
+        }
         return null != getSlot(name, 0, SLOT_QUERY);
     }
 
@@ -449,6 +489,18 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
      */
     public Object get(String name, Scriptable start)
     {
+        Shape shape = this.shape;
+        if (shape != null) {
+            int index = shape.indexOf(name);
+            if (index < 0) {
+                return Scriptable.NOT_FOUND;
+            }
+            AtomicReferenceArray<Object> values = this.values;
+            if (values != null) {
+                return values.get(index);
+            }
+            // moved to slots by another thread
+        }
         Slot slot = getSlot(name, 0, SLOT_QUERY);
         if (slot == null) {
             return Scriptable.NOT_FOUND;
@@ -647,6 +699,10 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
      */
     public int getAttributes(String name)
     {
+        Shape shape = this.shape;
+        if (shape != null && shape.indexOf(name) >= 0) {
+            return EMPTY;
+        }
         return findAttributeSlot(name, 0, SLOT_QUERY).getAttributes();
     }
 
@@ -692,6 +748,11 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
     public void setAttributes(String name, int attributes)
     {
         checkNotSealed(name, 0);
+        Shape shape = this.shape;
+        if (attributes == EMPTY && shape != null && shape.indexOf(name) >= 0) {
+            // nothing to change
+            return;
+        }
         findAttributeSlot(name, 0, SLOT_MODIFY).setAttributes(attributes);
     }
 
@@ -1793,6 +1854,11 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
             checkPropertyChange(name, current, desc);
         }
 
+        if (slot instanceof ShapedSlot) {
+            // changing a plain property moves the object to slots
+            slot = getSlot(cx, id, SLOT_MODIFY);
+        }
+
         boolean isAccessor = isAccessorDescriptor(desc);
         final int attributes;
 
@@ -2126,6 +2192,7 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
      */
     public synchronized void sealObject() {
         if (count >= 0) {
+            convertToSlots();
             // Make sure all LazilyLoadedCtors are initialized before sealing.
             Slot slot = firstAdded;
             while (slot != null) {
@@ -2624,6 +2691,23 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
     {
         // This method is very hot (basically called on each assignment)
         // so we inline the extensible/sealed checks below.
+        Shape shape = this.shape;
+        if (shape != null && name != null) {
+            // a plain property of another object is set on start
+            if (this != start) {
+                return false;
+            }
+            int valueIndex = shape.indexOf(name);
+            if (valueIndex >= 0) {
+                if (storeShapedValue(valueIndex, value)) {
+                    return true;
+                }
+            } else if (!isExtensible
+                       || addShapedProperty(shape, name, value)) {
+                return true;
+            }
+            // moved to slots, or the property did not fit in a shape
+        }
         Slot slot;
         if (this != start) {
             slot = getSlot(name, index, SLOT_QUERY);
@@ -2710,6 +2794,27 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
      */
     private Slot getSlot(String name, int index, int accessType)
     {
+        Shape shape = this.shape;
+        if (shape != null) {
+            if (accessType != SLOT_QUERY) {
+                // the caller may change the slot, or needs a kind of slot
+                // that a shape cannot hold
+                convertToSlots();
+            } else if (name == null) {
+                return null;
+            } else {
+                int valueIndex = shape.indexOf(name);
+                if (valueIndex < 0) {
+                    return null;
+                }
+                AtomicReferenceArray<Object> values = this.values;
+                if (values != null) {
+                    return new ShapedSlot(name, values.get(valueIndex));
+                }
+                // moved to slots by another thread
+            }
+        }
+
         // Check the hashtable without using synchronization
         Slot[] slotsLocalRef = slots; // Get stable local reference
         if (slotsLocalRef == null && accessType == SLOT_QUERY) {
@@ -2851,6 +2956,15 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
     }
 
     private synchronized void removeSlot(String name, int index) {
+        Shape shape = this.shape;
+        if (shape != null) {
+            if (name == null || shape.indexOf(name) < 0) {
+                return;
+            }
+            // objects that have properties deleted use slots, since
+            // deleting from a shape would make a new shape for each object
+            convertToSlots();
+        }
         int indexOrHash = (name != null ? name.hashCode() : index);
 
         Slot[] slotsLocalRef = slots;
@@ -2904,6 +3018,126 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
         }
     }
 
+    private synchronized boolean addShapedProperty(Shape oldShape,
+                                                   String name, Object value)
+    {
+        if (shape != oldShape) {
+            // changed by another thread; try again
+            return putImpl(name, 0, this, value);
+        }
+        Shape newShape = oldShape.addProperty(name);
+        if (newShape == null) {
+            convertToSlots();
+            return false;
+        }
+        int valueIndex = oldShape.size();
+        AtomicReferenceArray<Object> valuesLocalRef = values;
+        if (valuesLocalRef == null) {
+            valuesLocalRef = new AtomicReferenceArray<Object>(INITIAL_SLOT_SIZE);
+            values = valuesLocalRef;
+        } else if (valuesLocalRef.length() == valueIndex) {
+            AtomicReferenceArray<Object> newValues =
+                new AtomicReferenceArray<Object>(valueIndex * 2);
+            // unlocked stores that see the odd version are done again
+            // under the lock, in the new array
+            valuesVersion++;
+            for (int i = 0; i != valueIndex; i++) {
+                newValues.set(i, valuesLocalRef.get(i));
+            }
+            values = newValues;
+            valuesVersion++;
+            valuesLocalRef = newValues;
+        }
+        valuesLocalRef.set(valueIndex, value);
+        ++count;
+        // readers that see the new shape also see the values
+        shape = newShape;
+        return true;
+    }
+
+    /**
+     * Returns the shape of the plain properties, or null if the properties
+     * are in slots.
+     */
+    final Shape getShape()
+    {
+        return shape;
+    }
+
+    /**
+     * Returns the value of the plain property with the given index in a
+     * shape that was read with {@link #getShape()}, or NOT_FOUND if the
+     * properties have been moved to slots since.
+     */
+    final Object getShapedValue(int index)
+    {
+        AtomicReferenceArray<Object> values = this.values;
+        return values != null ? values.get(index) : NOT_FOUND;
+    }
+
+    /**
+     * Sets the value of a plain property like
+     * {@link #getShapedValue(int)}. Returns false if the properties have
+     * been moved to slots since.
+     */
+    final boolean setShapedValue(int index, Object value)
+    {
+        return storeShapedValue(index, value);
+    }
+
+    /**
+     * Stores the value of a plain property without locking, and returns
+     * false if the properties have been moved to slots. A store that
+     * races with copying the values to a larger array or to slots may be
+     * missing from the copy, so then it is done again under the lock.
+     */
+    private boolean storeShapedValue(int index, Object value)
+    {
+        AtomicReferenceArray<Object> valuesLocalRef = values;
+        if (valuesLocalRef == null) {
+            return false;
+        }
+        valuesLocalRef.set(index, value);
+        // the version has to be read before the array: see
+        // addShapedProperty() and convertToSlots()
+        if ((valuesVersion & 1) == 0 && values == valuesLocalRef) {
+            return true;
+        }
+        synchronized (this) {
+            valuesLocalRef = values;
+            if (valuesLocalRef == null) {
+                return false;
+            }
+            valuesLocalRef.set(index, value);
+            return true;
+        }
+    }
+
+    /**
+     * Moves the properties from the shape and values to slots.
+     */
+    private synchronized void convertToSlots()
+    {
+        Shape oldShape = shape;
+        if (oldShape == null) {
+            return;
+        }
+        AtomicReferenceArray<Object> valuesLocalRef = values;
+        // unlocked stores that see the odd version are done again under
+        // the lock, in the slots
+        valuesVersion++;
+        count = 0;
+        for (int i = 0, size = oldShape.size(); i != size; i++) {
+            String name = oldShape.getName(i);
+            Slot slot = createSlot(name, name.hashCode(), SLOT_MODIFY);
+            slot.value = valuesLocalRef.get(i);
+        }
+        // readers keep using the shape and values until they see this
+        shape = null;
+        values = null;
+        valuesVersion++;
+    }
+
     private static int getSlotIndex(int tableSize, int indexOrHash)
     {
         // tableSize is a power of 2
@@ -2955,6 +3189,14 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
     }
 
     Object[] getIds(boolean getAll) {
+        Shape shape = this.shape;
+        if (shape != null) {
+            Object[] ids = new Object[shape.size()];
+            for (int i = 0; i != ids.length; i++) {
+                ids[i] = shape.getName(i);
+            }
+            return ids;
+        }
         Slot[] s = slots;
         Object[] a = ScriptRuntime.emptyArgs;
         if (s == null)
@@ -2970,8 +3212,14 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
         }
         while (slot != null) {
             if (getAll || (slot.getAttributes() & DONTENUM) == 0) {
-                if (c == 0)
+                if (c == 0) {
                     a = new Object[s.length];
+                } else if (c == a.length) {
+                    // slots were added by another thread
+                    Object[] tmp = new Object[c * 2];
+                    System.arraycopy(a, 0, tmp, 0, c);
+                    a = tmp;
+                }
                 a[c++] = slot.name != null
                         ? slot.name
                         : Integer.valueOf(slot.indexOrHash);
@@ -2998,8 +3246,22 @@ public abstract class ScriptableObject implements Scriptable, Serializable,
             // "this" was sealed
             objectsCount = ~objectsCount;
         }
+        Shape shape = this.shape;
         if (objectsCount == 0) {
             out.writeInt(0);
+        } else if (shape != null) {
+            // written as slots, so they are read back as slots
+            int tableSize = INITIAL_SLOT_SIZE;
+            while (4 * objectsCount > 3 * tableSize) {
+                tableSize *= 2;
+            }
+            out.writeInt(tableSize);
+            for (int i = 0; i != objectsCount; i++) {
+                String name = shape.getName(i);
+                Slot slot = new Slot(name, name.hashCode(), EMPTY);
+                slot.value = values.get(i);
+                out.writeObject(slot);
+            }
         } else {
             out.writeInt(slots.length);
             Slot slot = firstAdded;
@@ -0,0 +1,173 @@
+/* -*- Mode: java; tab-width: 8; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The layout of the properties of a {@link ScriptableObject} that only has
+ * plain properties: named data properties without attributes. A shape maps
+ * each property name to an index in the array of values of the object, in
+ * the order the properties were added.
+ *
+ * Shapes are immutable and shared. Adding a property to an object moves it
+ * from its shape to a child shape with one more property, and objects
+ * that get the same properties in the same order end up with the same
+ * shape. So code that remembers the shape of an object and the index of a
+ * property can find the property again by comparing shapes.
+ *
+ * A shape only holds weak references to its children, so the shapes
+ * that no object uses any more can be collected.
+ */
+final class Shape
+{
+    /**
+     * The largest number of properties in a shape. Objects with more
+     * properties use hash table slots instead.
+     */
+    static final int MAX_PROPERTIES = 64;
+
+    /**
+     * The shape of an object without properties.
+     */
+    static final Shape EMPTY = new Shape(null, new String[0]);
+
+    private static final int MIN_TRANSITION_PURGE = 16;
+
+    // keeps the transition from the parent alive while this shape is used
+    private final Shape parent;
+    private final String[] names;
+    // open addressing with linear probing, holding index + 1 of each name;
+    // the length is a power of 2 and at least twice the number of names
+    private final int[] table;
+
+    // read without locking; changed only while holding this
+    private volatile Map<String,WeakReference<Shape>> transitions;
+    // guarded by this
+    private int purgeSize = MIN_TRANSITION_PURGE;
+
+    private Shape(Shape parent, String[] names)
+    {
+        this.parent = parent;
+        this.names = names;
+        int capacity = 2;
+        while (capacity < names.length * 2) {
+            capacity *= 2;
+        }
+        table = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i != names.length; i++) {
+            int index = names[i].hashCode() & mask;
+            while (table[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            table[index] = i + 1;
+        }
+    }
+
+    /**
+     * Returns the number of properties.
+     */
+    int size()
+    {
+        return names.length;
+    }
+
+    /**
+     * Returns the name of the property with the given index.
+     */
+    String getName(int index)
+    {
+        return names[index];
+    }
+
+    /**
+     * Returns the index of the named property, or -1 if there is none.
+     */
+    int indexOf(String name)
+    {
+        int hash = name.hashCode();
+        int mask = table.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            int entry = table[i];
+            if (entry == 0) {
+                return -1;
+            }
+            String entryName = names[entry - 1];
+            if (entryName == name
+                || (entryName.hashCode() == hash && entryName.equals(name)))
+            {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the shape with the properties of this one followed by
+     * {@code name}, which must not be one of them. Returns null if the
+     * shape would have more than {@link #MAX_PROPERTIES} properties.
+     *
+     * Finding a child that exists does not lock, since every object that
+     * gets a property goes through here, and many of them start from the
+     * same shapes. Only making a new child locks this shape.
+     */
+    Shape addProperty(String name)
+    {
+        if (names.length == MAX_PROPERTIES) {
+            return null;
+        }
+        Map<String,WeakReference<Shape>> transitions = this.transitions;
+        if (transitions != null) {
+            WeakReference<Shape> ref = transitions.get(name);
+            Shape child = ref != null ? ref.get() : null;
+            if (child != null) {
+                return child;
+            }
+        }
+        return addChild(name);
+    }
+
+    private synchronized Shape addChild(String name)
+    {
+        Map<String,WeakReference<Shape>> transitions = this.transitions;
+        if (transitions == null) {
+            transitions =
+                new ConcurrentHashMap<String,WeakReference<Shape>>(4);
+            this.transitions = transitions;
+        } else {
+            // another thread may have made the child since the lookup
+            WeakReference<Shape> ref = transitions.get(name);
+            Shape child = ref != null ? ref.get() : null;
+            if (child != null) {
+                return child;
+            }
+        }
+
+        String[] childNames = new String[names.length + 1];
+        System.arraycopy(names, 0, childNames, 0, names.length);
+        childNames[names.length] = name;
+        Shape child = new Shape(this, childNames);
+
+        if (transitions.size() >= purgeSize) {
+            // drop the children that were collected
+            Iterator<WeakReference<Shape>> iter =
+                transitions.values().iterator();
+            while (iter.hasNext()) {
+                if (iter.next().get() == null) {
+                    iter.remove();
+                }
+            }
+            purgeSize = Math.max(MIN_TRANSITION_PURGE,
+                                 transitions.size() * 2);
+        }
+        transitions.put(name, new WeakReference<Shape>(child));
+        return child;
+    }
+}
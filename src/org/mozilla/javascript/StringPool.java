@@ -0,0 +1,253 @@
+/* -*- Mode: java; tab-width: 8; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of strings, so that equal identifiers and string literals share
+ * one String instance. The token stream looks up names and string literals
+ * directly in its source string, so a name that is already in the pool
+ * costs no allocation at all.
+ *
+ * A pool can be shared by many parses, and by several threads, through
+ * {@link CompilerEnvirons#setStringPool}. The pool is split into segments
+ * with their own locks, so threads that tokenize different files seldom
+ * wait for each other. A pool with a maximum size stops adding strings once
+ * it is full; strings that are already in the pool are still shared.
+ */
+public class StringPool
+{
+    private static final int MIN_CAPACITY = 16;
+    // the number of segments; a power of 2
+    private static final int SEGMENTS = 16;
+
+    private final int maxSize;
+    // Each segment has its own lock, so threads that share a pool rarely
+    // wait for each other. A string's segment is chosen by the high bits of
+    // its hash, and its index in the segment by the low bits.
+    private final Segment[] segments;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Creates a pool with no maximum size.
+     */
+    public StringPool() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a pool that holds at most {@code maxSize} strings.
+     */
+    public StringPool(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Bad max size: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    private Segment segmentFor(int hash) {
+        // mix the bits, so that hashes that differ only in their low bits
+        // are spread over the segments too
+        hash ^= (hash >>> 20) ^ (hash >>> 12);
+        hash ^= (hash >>> 7) ^ (hash >>> 4);
+        return segments[(hash >>> 28) & (SEGMENTS - 1)];
+    }
+
+    /**
+     * Returns the pooled string that is equal to {@code str}, adding
+     * {@code str} to the pool if there is none.
+     */
+    public String intern(String str) {
+        int hash = str.hashCode();
+        return segmentFor(hash).intern(str, hash);
+    }
+
+    /**
+     * Returns the pooled string whose characters are those of
+     * {@code chars} from {@code offset} to {@code offset + length - 1},
+     * creating and adding the string if there is none. The characters are
+     * compared in place, so a string that is already in the pool costs no
+     * copy.
+     */
+    public String intern(CharSequence chars, int offset, int length) {
+        // the same hash as String.hashCode(), which Strings cache
+        int hash = 0;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+        return segmentFor(hash).intern(chars, offset, length, hash);
+    }
+
+    private static boolean matches(String str, CharSequence chars, int offset, int length) {
+        if (str.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (str.charAt(i) != chars.charAt(offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reserves room for a string, unless the pool is full.
+     */
+    private boolean reserve() {
+        int n;
+        do {
+            n = size.get();
+            if (n >= maxSize) {
+                return false;
+            }
+        } while (!size.compareAndSet(n, n + 1));
+        return true;
+    }
+
+    /**
+     * Removes all of the strings from the pool, and resets its statistics.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size.addAndGet(-segment.size);
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of strings in the pool.
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of lookups that found a pooled string.
+     */
+    public long getHits() {
+        long hits = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                hits += segment.hits;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a pooled string,
+     * whether or not the string was then added.
+     */
+    public long getMisses() {
+        long misses = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                misses += segment.misses;
+            }
+        }
+        return misses;
+    }
+
+    /**
+     * Returns the fraction of lookups that found a pooled string, or 0 if
+     * there have been no lookups.
+     */
+    public double getHitRate() {
+        long hits = getHits();
+        long lookups = hits + getMisses();
+        return lookups == 0 ? 0 : (double)hits / lookups;
+    }
+
+    private final class Segment
+    {
+        // open addressing with linear probing; the length is a power of 2
+        private String[] table = new String[MIN_CAPACITY];
+        private int size;
+        private long hits;
+        private long misses;
+
+        synchronized String intern(String str, int hash) {
+            int mask = table.length - 1;
+            int index = hash & mask;
+            String entry;
+            while ((entry = table[index]) != null) {
+                if (entry.hashCode() == hash && entry.equals(str)) {
+                    hits++;
+                    return entry;
+                }
+                index = (index + 1) & mask;
+            }
+            misses++;
+            add(str, index);
+            return str;
+        }
+
+        synchronized String intern(CharSequence chars, int offset, int length,
+                                   int hash) {
+            int mask = table.length - 1;
+            int index = hash & mask;
+            String entry;
+            while ((entry = table[index]) != null) {
+                if (entry.hashCode() == hash && matches(entry, chars, offset, length)) {
+                    hits++;
+                    return entry;
+                }
+                index = (index + 1) & mask;
+            }
+            misses++;
+            String str = chars.subSequence(offset, offset + length).toString();
+            add(str, index);
+            return str;
+        }
+
+        private void add(String str, int index) {
+            if (!reserve()) {
+                return;
+            }
+            table[index] = str;
+            size++;
+            // keep the table at most half full
+            if (size * 2 > table.length) {
+                rehash(table.length * 2);
+            }
+        }
+
+        private void rehash(int capacity) {
+            String[] oldTable = table;
+            int mask = capacity - 1;
+            table = new String[capacity];
+            for (String str : oldTable) {
+                if (str != null) {
+                    int index = str.hashCode() & mask;
+                    while (table[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    table[index] = str;
+                }
+            }
+        }
+
+        void clear() {
+            table = new String[MIN_CAPACITY];
+            size = 0;
+            hits = 0;
+            misses = 0;
+        }
+    }
+}
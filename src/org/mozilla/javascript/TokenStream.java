@@ -32,22 +32,19 @@ class TokenStream
 
     private final static char BYTE_ORDER_MARK = '\uFEFF';
 
-    TokenStream(Parser parser, Reader sourceReader, String sourceString,
-                int lineno)
+    TokenStream(Parser parser, String sourceString, int lineno)
     {
+        if (sourceString == null) Kit.codeBug();
         this.parser = parser;
         this.lineno = lineno;
-        if (sourceReader != null) {
-            if (sourceString != null) Kit.codeBug();
-            this.sourceReader = sourceReader;
-            this.sourceBuffer = new char[512];
-            this.sourceEnd = 0;
-        } else {
-            if (sourceString == null) Kit.codeBug();
-            this.sourceString = sourceString;
-            this.sourceEnd = sourceString.length();
-        }
+        // The scanner reads the source string in place, so names and string
+        // literals can be interned straight out of it.
+        this.sourceString = sourceString;
+        this.sourceEnd = sourceString.length();
         this.sourceCursor = this.cursor = 0;
+
+        StringPool pool = parser.compilerEnv.getStringPool();
+        this.strings = pool != null ? pool : new StringPool();
     }
 
     /* This function uses the cached op, string and number fields in
@@ -255,8 +252,6 @@ class TokenStream
         return id & 0xff;
     }
 
-    final String getSourceString() { return sourceString; }
-
     final int getLineno() { return lineno; }
 
     final String getString() { return string; }
@@ -327,51 +322,53 @@ class TokenStream
 
             if (identifierStart) {
                 boolean containsEscape = isUnicodeEscapeStart;
-                for (;;) {
-                    if (isUnicodeEscapeStart) {
-                        // strictly speaking we should probably push-back
-                        // all the bad characters if the <backslash>uXXXX
-                        // sequence is malformed. But since there isn't a
-                        // correct context(is there?) for a bad Unicode
-                        // escape sequence in an identifier, we can report
-                        // an error here.
-                        int escapeVal = 0;
-                        for (int i = 0; i != 4; ++i) {
-                            c = getChar();
-                            escapeVal = Kit.xDigitToInt(c, escapeVal);
-                            // Next check takes care about c < 0 and bad escape
-                            if (escapeVal < 0) { break; }
-                        }
-                        if (escapeVal < 0) {
-                            parser.addError("msg.invalid.escape");
-                            return Token.ERROR;
-                        }
-                        addToString(escapeVal);
-                        isUnicodeEscapeStart = false;
-                    } else {
-                        c = getChar();
-                        if (c == '\\') {
-                            c = getChar();
-                            if (c == 'u') {
-                                isUnicodeEscapeStart = true;
-                                containsEscape = true;
-                            } else {
-                                parser.addError("msg.illegal.character");
+                String str = containsEscape ? null : scanName();
+                if (str == null) {
+                    for (;;) {
+                        if (isUnicodeEscapeStart) {
+                            // strictly speaking we should probably push-back
+                            // all the bad characters if the <backslash>uXXXX
+                            // sequence is malformed. But since there isn't a
+                            // correct context(is there?) for a bad Unicode
+                            // escape sequence in an identifier, we can report
+                            // an error here.
+                            int escapeVal = 0;
+                            for (int i = 0; i != 4; ++i) {
+                                c = getChar();
+                                escapeVal = Kit.xDigitToInt(c, escapeVal);
+                                // Next check takes care about c < 0 and bad escape
+                                if (escapeVal < 0) { break; }
+                            }
+                            if (escapeVal < 0) {
+                                parser.addError("msg.invalid.escape");
                                 return Token.ERROR;
                             }
+                            addToString(escapeVal);
+                            isUnicodeEscapeStart = false;
                         } else {
-                            if (c == EOF_CHAR || c == BYTE_ORDER_MARK
-                                || !Character.isJavaIdentifierPart((char)c))
-                            {
-                                break;
+                            c = getChar();
+                            if (c == '\\') {
+                                c = getChar();
+                                if (c == 'u') {
+                                    isUnicodeEscapeStart = true;
+                                    containsEscape = true;
+                                } else {
+                                    parser.addError("msg.illegal.character");
+                                    return Token.ERROR;
+                                }
+                            } else {
+                                if (c == EOF_CHAR || c == BYTE_ORDER_MARK
+                                    || !Character.isJavaIdentifierPart((char)c))
+                                {
+                                    break;
+                                }
+                                addToString(c);
                             }
-                            addToString(c);
                         }
                     }
+                    ungetChar(c);
+                    str = strings.intern(getStringFromBuffer());
                 }
-                ungetChar(c);
-
-                String str = getStringFromBuffer();
                 if (!containsEscape) {
                     // OPT we shouldn't have to make a string (object!) to
                     // check if it's a keyword.
@@ -389,7 +386,7 @@ class TokenStream
                         }
                         // Save the string in case we need to use in
                         // object literal definitions.
-                        this.string = (String)allStrings.intern(str);
+                        this.string = str;
                         if (result != Token.RESERVED) {
                             return result;
                         } else if (!parser.compilerEnv.
@@ -401,9 +398,9 @@ class TokenStream
                 } else if (isKeyword(str)) {
                     // If a string contains unicodes, and converted to a keyword,
                     // we convert the last character back to unicode
-                    str = convertLastCharToHex(str);
+                    str = strings.intern(convertLastCharToHex(str));
                 }
-                this.string = (String)allStrings.intern(str);
+                this.string = str;
                 return Token.NAME;
             }
 
@@ -508,6 +505,11 @@ class TokenStream
                 quoteChar = c;
                 stringBufferTop = 0;
 
+                String str = scanString();
+                if (str != null) {
+                    this.string = str;
+                    return Token.STRING;
+                }
                 c = getChar(false);
             strLoop: while (c != quoteChar) {
                     if (c == '\n' || c == EOF_CHAR) {
@@ -605,8 +607,7 @@ class TokenStream
                     c = getChar(false);
                 }
 
-                String str = getStringFromBuffer();
-                this.string = (String)allStrings.intern(str);
+                this.string = strings.intern(getStringFromBuffer());
                 return Token.STRING;
             }
 
@@ -741,7 +742,6 @@ class TokenStream
                 }
 
             case '/':
-                markCommentStart();
                 // is it a // comment?
                 if (matchChar('/')) {
                     tokenBeg = cursor - 2;
@@ -812,7 +812,6 @@ class TokenStream
                         // treat HTML end-comment after possible whitespace
                         // after line start as comment-until-eol
                         if (matchChar('>')) {
-                            markCommentStart("--");
                             skipLine();
                             commentType = Token.CommentType.HTML;
                             return Token.COMMENT;
@@ -1221,6 +1220,90 @@ class TokenStream
         return new String(stringBuffer, 0, stringBufferTop);
     }
 
+    /**
+     * Reads the rest of a name whose first character has just been read,
+     * straight out of the source string. Returns the name if it has no
+     * escapes and is followed by an ASCII character that is not part of a
+     * name; otherwise adds the characters that it read to the string
+     * buffer and returns null, and the caller reads the rest of the name a
+     * character at a time.
+     */
+    private String scanName()
+    {
+        int start = sourceCursor - 1;
+        if (ungetCursor != 0 || start < 0) {
+            return null;
+        }
+        int end = sourceCursor;
+        while (end != sourceEnd && isAsciiNamePart(sourceString.charAt(end))) {
+            ++end;
+        }
+        if (end != sourceEnd) {
+            char next = sourceString.charAt(end);
+            if (next <= 127 && next != '\\'
+                && !Character.isJavaIdentifierPart(next))
+            {
+                skipScanned(end);
+                tokenEnd = cursor;
+                return strings.intern(sourceString, start, end - start);
+            }
+        }
+        addScannedToString(end);
+        return null;
+    }
+
+    private static boolean isAsciiNamePart(char c)
+    {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+            || (c >= '0' && c <= '9') || c == '_' || c == '$';
+    }
+
+    /**
+     * Reads a string literal whose opening quote has just been read,
+     * straight out of the source string. Returns the string if it has no
+     * escapes and ends on the same line; otherwise works like
+     * {@link #scanName()}.
+     */
+    private String scanString()
+    {
+        int start = sourceCursor;
+        if (ungetCursor != 0) {
+            return null;
+        }
+        int end = start;
+        for (; end != sourceEnd; ++end) {
+            char c = sourceString.charAt(end);
+            if (c == quoteChar) {
+                skipScanned(end + 1);
+                tokenEnd = cursor;
+                return strings.intern(sourceString, start, end - start);
+            }
+            if (c == '\\' || c == '\n' || c == '\r'
+                || (c > 127 && ScriptRuntime.isJSLineTerminator(c)))
+            {
+                break;
+            }
+        }
+        addScannedToString(end);
+        return null;
+    }
+
+    // Moves the cursor to a source string offset. The characters that it
+    // skips must not include line terminators or formatting characters.
+    private void skipScanned(int end)
+    {
+        cursor += end - sourceCursor;
+        sourceCursor = end;
+    }
+
+    private void addScannedToString(int end)
+    {
+        for (int i = sourceCursor; i != end; ++i) {
+            addToString(sourceString.charAt(i));
+        }
+        skipScanned(end);
+    }
+
     private void addToString(int c)
     {
         int N = stringBufferTop;
@@ -1278,24 +1361,12 @@ class TokenStream
         }
 
         for(;;) {
-            int c;
-            if (sourceString != null) {
-                if (sourceCursor == sourceEnd) {
-                    hitEOF = true;
-                    return EOF_CHAR;
-                }
-                cursor++;
-                c = sourceString.charAt(sourceCursor++);
-            } else {
-                if (sourceCursor == sourceEnd) {
-                    if (!fillSourceBuffer()) {
-                        hitEOF = true;
-                        return EOF_CHAR;
-                    }
-                }
-                cursor++;
-                c = sourceBuffer[sourceCursor++];
+            if (sourceCursor == sourceEnd) {
+                hitEOF = true;
+                return EOF_CHAR;
             }
+            cursor++;
+            int c = sourceString.charAt(sourceCursor++);
 
             if (lineEndChar >= 0) {
                 if (lineEndChar == '\r' && c == '\n') {
@@ -1334,24 +1405,12 @@ class TokenStream
         }
 
         for(;;) {
-            int c;
-            if (sourceString != null) {
-                if (sourceCursor == sourceEnd) {
-                    hitEOF = true;
-                    return EOF_CHAR;
-                }
-                cursor++;
-                c = sourceString.charAt(sourceCursor++);
-            } else {
-                if (sourceCursor == sourceEnd) {
-                    if (!fillSourceBuffer()) {
-                        hitEOF = true;
-                        return EOF_CHAR;
-                    }
-                }
-                cursor++;
-                c = sourceBuffer[sourceCursor++];
+            if (sourceCursor == sourceEnd) {
+                hitEOF = true;
+                return EOF_CHAR;
             }
+            cursor++;
+            int c = sourceString.charAt(sourceCursor++);
 
             if (c <= 127) {
                 if (c == '\n' || c == '\r') {
@@ -1399,73 +1458,23 @@ class TokenStream
 
     final String getLine()
     {
-        if (sourceString != null) {
-            // String case
-            int lineEnd = sourceCursor;
-            if (lineEndChar >= 0) {
-                --lineEnd;
-            } else {
-                for (; lineEnd != sourceEnd; ++lineEnd) {
-                    int c = sourceString.charAt(lineEnd);
-                    if (ScriptRuntime.isJSLineTerminator(c)) {
-                        break;
-                    }
-                }
-            }
-            return sourceString.substring(lineStart, lineEnd);
+        int lineLength = sourceCursor - lineStart;
+        if (lineEndChar >= 0) {
+            --lineLength;
         } else {
-            // Reader case
-            int lineLength = sourceCursor - lineStart;
-            if (lineEndChar >= 0) {
-                --lineLength;
-            } else {
-                // Read until the end of line
-                for (;; ++lineLength) {
-                    int i = lineStart + lineLength;
-                    if (i == sourceEnd) {
-                        try {
-                            if (!fillSourceBuffer()) { break; }
-                        } catch (IOException ioe) {
-                            // ignore it, we're already displaying an error...
-                            break;
-                        }
-                        // i recalculuation as fillSourceBuffer can move saved
-                        // line buffer and change lineStart
-                        i = lineStart + lineLength;
-                    }
-                    int c = sourceBuffer[i];
-                    if (ScriptRuntime.isJSLineTerminator(c)) {
-                        break;
-                    }
+            // Read until the end of line
+            for (;; ++lineLength) {
+                int i = lineStart + lineLength;
+                if (i == sourceEnd) {
+                    break;
+                }
+                int c = sourceString.charAt(i);
+                if (ScriptRuntime.isJSLineTerminator(c)) {
+                    break;
                 }
-            }
-            return new String(sourceBuffer, lineStart, lineLength);
-        }
-    }
-
-    private boolean fillSourceBuffer() throws IOException
-    {
-        if (sourceString != null) Kit.codeBug();
-        if (sourceEnd == sourceBuffer.length) {
-            if (lineStart != 0 && !isMarkingComment()) {
-                System.arraycopy(sourceBuffer, lineStart, sourceBuffer, 0,
-                                 sourceEnd - lineStart);
-                sourceEnd -= lineStart;
-                sourceCursor -= lineStart;
-                lineStart = 0;
-            } else {
-                char[] tmp = new char[sourceBuffer.length * 2];
-                System.arraycopy(sourceBuffer, 0, tmp, 0, sourceEnd);
-                sourceBuffer = tmp;
             }
         }
-        int n = sourceReader.read(sourceBuffer, sourceEnd,
-                                  sourceBuffer.length - sourceEnd);
-        if (n < 0) {
-            return false;
-        }
-        sourceEnd += n;
-        return true;
+        return sourceString.substring(lineStart, lineStart + lineLength);
     }
 
     /**
@@ -1504,33 +1513,31 @@ class TokenStream
         return commentType;
     }
 
-    private void markCommentStart() {
-        markCommentStart("");
-    }
-
-    private void markCommentStart(String prefix) {
-        if (parser.compilerEnv.isRecordingComments() && sourceReader != null) {
-            commentPrefix = prefix;
-            commentCursor = sourceCursor - 1;
-        }
+     final String getAndResetCurrentComment() {
+        return sourceString.substring(tokenBeg, tokenEnd);
     }
 
-    private boolean isMarkingComment() {
-        return commentCursor != -1;
+    /**
+     * Returns the source between two offsets.
+     */
+    final String getSourceText(int start, int end)
+    {
+        return sourceString.substring(start, end);
     }
 
-     final String getAndResetCurrentComment() {
-        if (sourceString != null) {
-            if (isMarkingComment()) Kit.codeBug();
-            return sourceString.substring(tokenBeg, tokenEnd);
-        } else {
-            if (!isMarkingComment()) Kit.codeBug();
-            StringBuilder comment = new StringBuilder(commentPrefix);
-            comment.append(sourceBuffer, commentCursor,
-                getTokenLength() - commentPrefix.length());
-            commentCursor = -1;
-            return comment.toString();
+    /**
+     * Returns the last character before an offset that is not whitespace,
+     * or EOF_CHAR if there is none.
+     */
+    final int getCharBefore(int offset)
+    {
+        while (--offset >= 0) {
+            char c = sourceString.charAt(offset);
+            if (!isJSSpace(c) && !ScriptRuntime.isJSLineTerminator(c)) {
+                return c;
+            }
         }
+        return EOF_CHAR;
     }
 
     private String convertLastCharToHex(String str) {
@@ -1564,7 +1571,8 @@ class TokenStream
 
     private char[] stringBuffer = new char[128];
     private int stringBufferTop;
-    private ObjToIntMap allStrings = new ObjToIntMap(50);
+    // names and string literals
+    private final StringPool strings;
 
     // Room to backtrace from to < on failed match of the last - in <!--
     private final int[] ungetBuffer = new int[3];
@@ -1576,13 +1584,10 @@ class TokenStream
     private int lineEndChar = -1;
     int lineno;
 
-    private String sourceString;
-    private Reader sourceReader;
-    private char[] sourceBuffer;
-    private int sourceEnd;
+    private final String sourceString;
+    private final int sourceEnd;
 
-    // sourceCursor is an index into a small buffer that keeps a
-    // sliding window of the source stream.
+    // sourceCursor is an index into the source string.
     int sourceCursor;
 
     // cursor is a monotonically increasing index into the original
@@ -1604,6 +1609,4 @@ class TokenStream
 
     private Parser parser;
 
-    private String commentPrefix = "";
-    private int commentCursor = -1;
 }
@@ -84,6 +84,8 @@ public class FunctionNode extends ScriptNode {
     private List<Node> generatorResumePoints;
     private Map<Node,int[]> liveLocals;
     private AstNode memberExprNode;
+    private String lazySource;
+    private int lazyBodyStart;
 
     {
         type = Token.FUNCTION;
@@ -365,6 +367,33 @@ public class FunctionNode extends ScriptNode {
         return memberExprNode;
     }
 
+    /**
+     * Records the source of a function whose body was syntax-checked but
+     * not kept, because the parser was asked to parse function bodies
+     * lazily. The function's body is then an empty block; the function is
+     * parsed again from its source when it is first called.
+     * @param source the source, from the {@code function} keyword to the
+     * closing brace
+     * @param bodyStart the offset in the source of the character after
+     * the body's opening brace
+     */
+    public void setLazySource(String source, int bodyStart) {
+        lazySource = source;
+        lazyBodyStart = bodyStart;
+    }
+
+    /**
+     * Returns the source of a function whose body was parsed lazily, or
+     * {@code null} if the body was parsed as usual.
+     */
+    public String getLazySource() {
+        return lazySource;
+    }
+
+    public int getLazyBodyStart() {
+        return lazyBodyStart;
+    }
+
     @Override
     public String toSource(int depth) {
         StringBuilder sb = new StringBuilder();
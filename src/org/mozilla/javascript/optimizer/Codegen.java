@@ -222,7 +222,8 @@ public class Codegen implements Evaluator
         ot.transform(tree);
 
         if (optLevel > 0) {
-            (new Optimizer()).optimize(tree);
+            (new Optimizer()).optimize(tree,
+                compilerEnv.getCompilationExecutor());
         }
     }
 
@@ -1021,7 +1022,7 @@ public class Codegen implements Evaluator
     private void emitConstantDudeInitializers(ClassFileWriter cfw)
     {
         int N = itsConstantListSize;
-        if (N == 0)
+        if (N == 0 && propertyCacheCount == 0)
             return;
 
         cfw.startMethod("<clinit>", "()V", (short)(ACC_STATIC | ACC_FINAL));
@@ -1046,10 +1047,39 @@ public class Codegen implements Evaluator
                     constantName, constantType);
         }
 
+        for (int i = 0; i != propertyCacheCount; ++i) {
+            String cacheName = "_pc" + i;
+            cfw.addField(cacheName, PROPERTY_CACHE_SIGNATURE,
+                         (short)(ACC_STATIC | ACC_PRIVATE | ACC_FINAL));
+            cfw.add(ByteCode.NEW, "org/mozilla/javascript/PropertyCache");
+            cfw.add(ByteCode.DUP);
+            cfw.addInvoke(ByteCode.INVOKESPECIAL,
+                          "org/mozilla/javascript/PropertyCache",
+                          "<init>", "()V");
+            cfw.add(ByteCode.PUTSTATIC, mainClassName,
+                    cacheName, PROPERTY_CACHE_SIGNATURE);
+        }
+
         cfw.add(ByteCode.RETURN);
         cfw.stopMethod((short)0);
     }
 
+    /**
+     * Pushes the cache of a new property access site, or returns false if
+     * the class has no room for more caches.
+     */
+    boolean pushNewPropertyCache(ClassFileWriter cfw)
+    {
+        if (propertyCacheCount >= MAX_PROPERTY_CACHES) {
+            // like the constants, the caches are made in <clinit>, so
+            // their number is limited
+            return false;
+        }
+        cfw.add(ByteCode.GETSTATIC, mainClassName,
+                "_pc" + propertyCacheCount++, PROPERTY_CACHE_SIGNATURE);
+        return true;
+    }
+
     void pushNumberAsObject(ClassFileWriter cfw, double num)
     {
         if (num == 0.0) {
@@ -1232,6 +1262,11 @@ public class Codegen implements Evaluator
         = "(Lorg/mozilla/javascript/Scriptable;"
           +"Lorg/mozilla/javascript/Context;I)V";
 
+    static final String PROPERTY_CACHE_SIGNATURE
+        = "Lorg/mozilla/javascript/PropertyCache;";
+
+    private static final int MAX_PROPERTY_CACHES = 2000;
+
     private static final Object globalLock = new Object();
     private static int globalSerialClassCounter;
 
@@ -1248,6 +1283,7 @@ public class Codegen implements Evaluator
 
     private double[] itsConstantList;
     private int itsConstantListSize;
+    private int propertyCacheCount;
 }
 
 
@@ -3359,7 +3395,12 @@ class BodyCodegen
 
         cfw.addALoad(contextLocal);
         cfw.addALoad(variableObjectLocal);
-        addOptRuntimeInvoke(methodName, signature);
+        if (firstArgChild == null && childType == Token.GETPROP) {
+            // x.name() call
+            addPropertyCacheInvoke(methodName, signature);
+        } else {
+            addOptRuntimeInvoke(methodName, signature);
+        }
     }
 
     private void visitStandardNew(Node node, Node child)
@@ -3578,7 +3619,7 @@ Else pass the JS object in the aReg and 0.0 in the dReg.
                 cfw.addPush(property);
                 cfw.addALoad(contextLocal);
                 cfw.addALoad(variableObjectLocal);
-                addScriptRuntimeInvoke(
+                addPropertyCacheInvoke(
                     "getPropFunctionAndThis",
                     "(Ljava/lang/Object;"
                     +"Ljava/lang/String;"
@@ -4960,71 +5001,42 @@ Else pass the JS object in the aReg and 0.0 in the dReg.
                 +")Ljava/lang/Object;");
             return;
         }
-        /*
-            for 'this.foo' we call getObjectProp(Scriptable...) which can
-            skip some casting overhead.
-        */
-        int childType = child.getType();
-        if (childType == Token.THIS && nameChild.getType() == Token.STRING) {
-            cfw.addALoad(contextLocal);
-            addScriptRuntimeInvoke(
-                "getObjectProp",
-                "(Lorg/mozilla/javascript/Scriptable;"
-                +"Ljava/lang/String;"
-                +"Lorg/mozilla/javascript/Context;"
-                +")Ljava/lang/Object;");
-        } else {
-            cfw.addALoad(contextLocal);
-            cfw.addALoad(variableObjectLocal);
-            addScriptRuntimeInvoke(
-                "getObjectProp",
-                "(Ljava/lang/Object;"
-                +"Ljava/lang/String;"
-                +"Lorg/mozilla/javascript/Context;"
-                +"Lorg/mozilla/javascript/Scriptable;"
-                +")Ljava/lang/Object;");
-        }
+        cfw.addALoad(contextLocal);
+        cfw.addALoad(variableObjectLocal);
+        addPropertyCacheInvoke(
+            "getObjectProp",
+            "(Ljava/lang/Object;"
+            +"Ljava/lang/String;"
+            +"Lorg/mozilla/javascript/Context;"
+            +"Lorg/mozilla/javascript/Scriptable;"
+            +")Ljava/lang/Object;");
     }
 
     private void visitSetProp(int type, Node node, Node child)
     {
-        Node objectChild = child;
         generateExpression(child, node);
         child = child.getNext();
         if (type == Token.SETPROP_OP) {
             cfw.add(ByteCode.DUP);
         }
-        Node nameChild = child;
         generateExpression(child, node);
         child = child.getNext();
         if (type == Token.SETPROP_OP) {
             // stack: ... object object name -> ... object name object name
             cfw.add(ByteCode.DUP_X1);
-            //for 'this.foo += ...' we call thisGet which can skip some
-            //casting overhead.
-            if (objectChild.getType() == Token.THIS
-                && nameChild.getType() == Token.STRING)
-            {
-                cfw.addALoad(contextLocal);
-                addScriptRuntimeInvoke(
-                    "getObjectProp",
-                    "(Lorg/mozilla/javascript/Scriptable;"
-                    +"Ljava/lang/String;"
-                    +"Lorg/mozilla/javascript/Context;"
-                    +")Ljava/lang/Object;");
-            } else {
-                cfw.addALoad(contextLocal);
-                addScriptRuntimeInvoke(
-                    "getObjectProp",
-                    "(Ljava/lang/Object;"
-                    +"Ljava/lang/String;"
-                    +"Lorg/mozilla/javascript/Context;"
-                    +")Ljava/lang/Object;");
-            }
+            cfw.addALoad(contextLocal);
+            cfw.addALoad(variableObjectLocal);
+            addPropertyCacheInvoke(
+                "getObjectProp",
+                "(Ljava/lang/Object;"
+                +"Ljava/lang/String;"
+                +"Lorg/mozilla/javascript/Context;"
+                +"Lorg/mozilla/javascript/Scriptable;"
+                +")Ljava/lang/Object;");
         }
         generateExpression(child, node);
         cfw.addALoad(contextLocal);
-        addScriptRuntimeInvoke(
+        addPropertyCacheInvoke(
             "setObjectProp",
             "(Ljava/lang/Object;"
             +"Ljava/lang/String;"
@@ -5214,6 +5226,24 @@ Else pass the JS object in the aReg and 0.0 in the dReg.
                       methodSignature);
     }
 
+    /**
+     * Invokes the OptRuntime method that takes the cache of a new property
+     * access site after the given arguments. When the class has no room
+     * for more caches, the method without the cache is invoked instead;
+     * OptRuntime inherits it from ScriptRuntime.
+     */
+    private void addPropertyCacheInvoke(String methodName,
+                                        String methodSignature)
+    {
+        if (codegen.pushNewPropertyCache(cfw)) {
+            int end = methodSignature.indexOf(')');
+            methodSignature = methodSignature.substring(0, end)
+                              + Codegen.PROPERTY_CACHE_SIGNATURE
+                              + methodSignature.substring(end);
+        }
+        addOptRuntimeInvoke(methodName, methodSignature);
+    }
+
     private void addJumpedBooleanWrap(int trueLabel, int falseLabel)
     {
         cfw.markLabel(falseLabel);
@@ -85,6 +85,50 @@ public final class OptRuntime extends ScriptRuntime
         return f.call(cx, scope, thisObj, ScriptRuntime.emptyArgs);
     }
 
+    /**
+     * Implement x.property() call with the cache of the call site.
+     */
+    public static Object callProp0(Object value, String property,
+                                   Context cx, Scriptable scope,
+                                   PropertyCache cache)
+    {
+        Callable f = cache.getPropFunctionAndThis(value, property, cx, scope);
+        Scriptable thisObj = lastStoredScriptable(cx);
+        return f.call(cx, scope, thisObj, ScriptRuntime.emptyArgs);
+    }
+
+    /**
+     * Implement x.property with the cache of the access site.
+     */
+    public static Object getObjectProp(Object obj, String property,
+                                       Context cx, Scriptable scope,
+                                       PropertyCache cache)
+    {
+        return cache.getObjectProp(obj, property, cx, scope);
+    }
+
+    /**
+     * Implement x.property = value with the cache of the access site.
+     */
+    public static Object setObjectProp(Object obj, String property,
+                                       Object value, Context cx,
+                                       PropertyCache cache)
+    {
+        return cache.setObjectProp(obj, property, value, cx);
+    }
+
+    /**
+     * Implement x.property(...) lookup with the cache of the call site.
+     */
+    public static Callable getPropFunctionAndThis(Object obj,
+                                                  String property,
+                                                  Context cx,
+                                                  Scriptable scope,
+                                                  PropertyCache cache)
+    {
+        return cache.getPropFunctionAndThis(obj, property, cx, scope);
+    }
+
     public static Object add(Object val1, double val2)
     {
         if (val1 instanceof Scriptable)
@@ -9,6 +9,10 @@ package org.mozilla.javascript.optimizer;
 import org.mozilla.javascript.*;
 import org.mozilla.javascript.ast.ScriptNode;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
 class Optimizer
 {
 
@@ -18,10 +22,26 @@ class Optimizer
 
     // It is assumed that (NumberType | AnyType) == AnyType
 
-    void optimize(ScriptNode scriptOrFn)
+    void optimize(ScriptNode scriptOrFn, Executor executor)
     {
-        //  run on one function at a time for now
         int functionCount = scriptOrFn.getFunctionCount();
+        if (executor != null && functionCount > 1) {
+            // the functions are analyzed independently, so each one can be
+            // a task with an Optimizer of its own
+            List<Runnable> tasks = new ArrayList<Runnable>(functionCount);
+            for (int i = 0; i != functionCount; ++i) {
+                final OptFunctionNode f = OptFunctionNode.get(scriptOrFn, i);
+                tasks.add(new Runnable() {
+                    public void run() {
+                        new Optimizer().optimizeFunction(f);
+                    }
+                });
+            }
+            Kit.runTasks(executor, tasks);
+            return;
+        }
+
+        //  run on one function at a time for now
         for (int i = 0; i != functionCount; ++i) {
             OptFunctionNode f = OptFunctionNode.get(scriptOrFn, i);
             optimizeFunction(f);
@@ -0,0 +1,456 @@
+package org.jsdoc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.mozilla.javascript.CommentScanner;
+import org.mozilla.javascript.CompilerEnvirons;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Function;
+import org.mozilla.javascript.Parser;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.StringPool;
+import org.mozilla.javascript.Token;
+import org.mozilla.javascript.ast.Comment;
+
+/**
+ * A benchmark suite for the parser and AstBuilder. Each benchmark processes every file in the
+ * corpus once per operation, and reports operations per second, source kilobytes per second, and
+ * the bytes allocated per kilobyte of source. The default corpus, in
+ * testsrc/benchmarks/jsdoc-corpus, is a fixed set of real libraries, so results from different
+ * revisions can be compared.
+ *
+ * The benchmarks:
+ *
+ * parse: Parser.parse, recording comments and attaching JSDoc comments to nodes, as AstBuilder
+ * does. parse-no-comments: Parser.parse without recording comments; the difference from parse is
+ * the cost of comment attachment in the parser. comment-scan: CommentScanner.scan, which attaches
+ * JSDoc comments without parsing.
+ *
+ * build, build-json, build-jsdoc-tags and build-scopes: AstBuilder end to end, with the default
+ * options, writing JSON, parsing JSDoc tags, and resolving scopes.
+ *
+ * tags-java and tags-js: JsDocTagParser, and a port of JSDoc's regular-expression-based tag
+ * parsing running in Rhino, over the corpus's JSDoc comments.
+ *
+ * walk-java and walk-js: finding the functions, assignments, properties and variables in a file,
+ * with AstBuilder.walk on a lazily built AST, and with a JavaScript traversal of the AST returned
+ * by build().
+ *
+ * retained-heap, which runs first: the heap retained by the ASTs for all of the files, with and
+ * without a shared StringPool, and the pool's hit rate.
+ *
+ * Usage: java org.jsdoc.AstBuilderBenchmark [-iterations N] [-warmup N] [-case NAME]...
+ * [FILE_OR_DIR...]
+ *
+ * Directories are searched recursively for .js files. Run from the root of the source tree to use
+ * the default corpus, or use <code>ant benchmark-astbuilder</code>.
+ */
+public class AstBuilderBenchmark {
+	private static final String DEFAULT_CORPUS = "testsrc/benchmarks/jsdoc-corpus";
+
+	private static int warmup = 5;
+	private static int iterations = 10;
+
+	/**
+	 * A benchmark. One operation processes the whole corpus.
+	 */
+	private abstract static class Case {
+		final String name;
+
+		Case(String name) {
+			this.name = name;
+		}
+
+		abstract void run() throws IOException;
+	}
+
+	public static void main(String[] args) throws IOException {
+		List<File> files = new ArrayList<File>();
+		List<String> caseNames = new ArrayList<String>();
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-iterations")) {
+				iterations = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-warmup")) {
+				warmup = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-case")) {
+				caseNames.add(args[++i]);
+			} else {
+				addFiles(new File(args[i]), files);
+			}
+		}
+
+		if (files.isEmpty()) {
+			addFiles(new File(DEFAULT_CORPUS), files);
+		}
+		if (files.isEmpty()) {
+			System.err.println("Usage: java org.jsdoc.AstBuilderBenchmark " +
+				"[-iterations N] [-warmup N] [-case NAME]... [FILE_OR_DIR...]");
+			System.exit(1);
+		}
+		// always process the files in the same order
+		Collections.sort(files);
+
+		Context cx = Context.enter();
+		try {
+			cx.setLanguageVersion(Context.VERSION_1_8);
+			run(files, caseNames);
+		} finally {
+			Context.exit();
+		}
+	}
+
+	private static void addFiles(File file, List<File> files) {
+		if (file.isDirectory()) {
+			File[] children = file.listFiles();
+			if (children != null) {
+				for (File child : children) {
+					addFiles(child, files);
+				}
+			}
+		} else if (file.getName().endsWith(".js")) {
+			files.add(file);
+		}
+	}
+
+	private static void run(final List<File> files, List<String> caseNames) throws IOException {
+		final List<String> sources = new ArrayList<String>();
+		long totalChars = 0;
+
+		for (File file : files) {
+			String source = (String)SourceReader.readFileOrUrl(file.getPath(), true, "UTF-8");
+			sources.add(source);
+			totalChars += source.length();
+		}
+
+		final List<String> jsDocComments = new ArrayList<String>();
+		CommentScanner scanner = new CommentScanner(getCompilerEnvirons(true));
+		for (int i = 0; i < files.size(); i++) {
+			for (Comment comment : scanner.scan(sources.get(i), files.get(i).getPath(), 1)) {
+				if (comment.getCommentType() == Token.CommentType.JSDOC) {
+					jsDocComments.add(comment.getValue());
+				}
+			}
+		}
+
+		System.out.println(files.size() + " files, " + (totalChars / 1024) + " KB, " +
+			jsDocComments.size() + " JSDoc comments");
+
+		// before the benchmarks, whose garbage makes the measurements less stable
+		if (caseNames.isEmpty() || caseNames.contains("retained-heap")) {
+			long unpooled = measureRetainedHeap(files, sources, null);
+			StringPool pool = new StringPool();
+			long pooled = measureRetainedHeap(files, sources, pool);
+			System.out.println("Retained heap without a string pool: " + (unpooled / 1024) +
+				" KB");
+			System.out.println("Retained heap with a string pool:    " + (pooled / 1024) +
+				" KB (" + pool.getSize() + " strings, " + Math.round(pool.getHitRate() * 100) +
+				"% hits)");
+		}
+
+		final AstBuilder builder = new AstBuilder();
+		final AstBuilder tagBuilder = new AstBuilder();
+		tagBuilder.setParsingJsDocTags(true);
+		final AstBuilder scopeBuilder = new AstBuilder();
+		scopeBuilder.setResolvingScopes(true);
+		final Context cx = Context.getCurrentContext();
+		final Scriptable scope = cx.initStandardObjects();
+		final Function jsParser = cx.compileFunction(scope, JS_TAG_PARSER, "parseTags.js", 1,
+			null);
+		final Function jsWalker = cx.compileFunction(scope, JS_WALKER, "walk.js", 1, null);
+		final Function counter = cx.compileFunction(scope, "function count(node) { node.type; }",
+			"count.js", 1, null);
+
+		List<Case> cases = new ArrayList<Case>();
+		cases.add(new Case("parse") {
+			void run() {
+				parseAll(files, sources, true);
+			}
+		});
+		cases.add(new Case("parse-no-comments") {
+			void run() {
+				parseAll(files, sources, false);
+			}
+		});
+		cases.add(new Case("comment-scan") {
+			void run() {
+				scanAll(files, sources);
+			}
+		});
+		cases.add(new Case("build") {
+			void run() {
+				buildAll(builder, files, sources);
+			}
+		});
+		cases.add(new Case("build-json") {
+			void run() throws IOException {
+				buildAllJson(builder, files, sources);
+			}
+		});
+		cases.add(new Case("build-jsdoc-tags") {
+			void run() {
+				buildAll(tagBuilder, files, sources);
+			}
+		});
+		cases.add(new Case("build-scopes") {
+			void run() {
+				buildAll(scopeBuilder, files, sources);
+			}
+		});
+		cases.add(new Case("tags-java") {
+			void run() {
+				parseTagsJava(jsDocComments);
+			}
+		});
+		cases.add(new Case("tags-js") {
+			void run() {
+				parseTagsJs(cx, scope, jsParser, jsDocComments);
+			}
+		});
+		cases.add(new Case("walk-java") {
+			void run() {
+				walkAll(builder, counter, files, sources);
+			}
+		});
+		cases.add(new Case("walk-js") {
+			void run() {
+				walkAllJs(cx, scope, jsWalker, builder, files, sources);
+			}
+		});
+
+		System.out.println(String.format("%-20s %10s %10s %10s %14s", "benchmark", "ms/op",
+			"ops/s", "KB/s", "bytes/KB"));
+		for (Case benchmark : cases) {
+			if (caseNames.isEmpty() || caseNames.contains(benchmark.name)) {
+				measure(benchmark, totalChars / 1024.0);
+			}
+		}
+	}
+
+	private static void measure(Case benchmark, double kilobytes) throws IOException {
+		for (int i = 0; i < warmup; i++) {
+			benchmark.run();
+		}
+
+		long allocated = getAllocatedBytes();
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			benchmark.run();
+		}
+		double seconds = (System.nanoTime() - start) / 1e9 / iterations;
+		allocated = getAllocatedBytes() - allocated;
+
+		System.out.println(String.format("%-20s %10.2f %10.2f %10.0f %14s", benchmark.name,
+			seconds * 1000, 1 / seconds, kilobytes / seconds,
+			allocated < 0 ? "n/a" : String.valueOf(Math.round(allocated / iterations / kilobytes))));
+	}
+
+	/**
+	 * Get the number of bytes that the current thread has allocated, or a negative number if the
+	 * JVM can't tell us.
+	 */
+	private static long getAllocatedBytes() {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean)threads).getThreadAllocatedBytes(
+				Thread.currentThread().getId());
+		}
+
+		return -1;
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Build every file with its own builder, and measure the heap that the ASTs retain. The pool
+	 * itself counts as retained.
+	 */
+	private static long measureRetainedHeap(List<File> files, List<String> sources,
+		StringPool pool) {
+		List<Object> asts = new ArrayList<Object>();
+		long before = usedHeap();
+
+		for (int i = 0; i < files.size(); i++) {
+			AstBuilder builder = new AstBuilder();
+			builder.setStringPool(pool);
+			asts.add(builder.build(sources.get(i), files.get(i).getPath()));
+		}
+		long after = usedHeap();
+
+		// keep the ASTs reachable until the measurement is done
+		return asts.isEmpty() ? 0 : after - before;
+	}
+
+	private static CompilerEnvirons getCompilerEnvirons(boolean recordingComments) {
+		CompilerEnvirons ce = new CompilerEnvirons();
+		ce.setRecordingComments(recordingComments);
+		ce.setRecordingLocalJsDocComments(recordingComments);
+		ce.initFromContext(Context.getCurrentContext());
+
+		return ce;
+	}
+
+	private static void parseAll(List<File> files, List<String> sources,
+		boolean recordingComments) {
+		CompilerEnvirons ce = getCompilerEnvirons(recordingComments);
+
+		for (int i = 0; i < files.size(); i++) {
+			new Parser(ce, ce.getErrorReporter()).parse(sources.get(i), files.get(i).getPath(), 1);
+		}
+	}
+
+	private static void scanAll(List<File> files, List<String> sources) {
+		CommentScanner scanner = new CommentScanner(getCompilerEnvirons(true));
+
+		for (int i = 0; i < files.size(); i++) {
+			scanner.scan(sources.get(i), files.get(i).getPath(), 1);
+		}
+	}
+
+	private static void buildAll(AstBuilder builder, List<File> files, List<String> sources) {
+		for (int i = 0; i < files.size(); i++) {
+			builder.build(sources.get(i), files.get(i).getPath());
+		}
+	}
+
+	private static void parseTagsJava(List<String> comments) {
+		JsDocTagParser parser = new JsDocTagParser();
+
+		for (String comment : comments) {
+			parser.parse(comment);
+		}
+	}
+
+	private static void parseTagsJs(Context cx, Scriptable scope, Function parser,
+		List<String> comments) {
+		for (String comment : comments) {
+			parser.call(cx, scope, scope, new Object[] { comment });
+		}
+	}
+
+	// JSDoc's tag parsing, ported from jsdoc/doclet.js, jsdoc/tag.js and jsdoc/tag/type.js
+	private static final String JS_TAG_PARSER =
+		"function parseTags(comment) {\n" +
+		"  var src = comment.replace(/^\\/\\*\\*+/, '').replace(/\\**\\*\\/$/, '\\\\Z')\n" +
+		"    .replace(/^\\s*(\\* ?|\\\\Z)/gm, '').replace(/\\s*\\\\Z$/g, '');\n" +
+		"  var parts = src.replace(/^(\\s*)@(\\S)/gm, '$1\\\\@$2').split('\\\\@');\n" +
+		"  var result = { description: parts[0].trim() || undefined, tags: [] };\n" +
+		"  for (var i = 1; i < parts.length; i++) {\n" +
+		"    var parsed = /^(\\S+)(?:\\s+(\\S[\\s\\S]*))?/.exec(parts[i]);\n" +
+		"    if (!parsed) continue;\n" +
+		"    var tag = { title: parsed[1], text: parsed[2] ? parsed[2].trim() : undefined };\n" +
+		"    var text = tag.text || '';\n" +
+		"    if (text.charAt(0) === '{') {\n" +
+		"      var depth = 0;\n" +
+		"      for (var j = 0; j < text.length; j++) {\n" +
+		"        var c = text.charAt(j);\n" +
+		"        if (c === '\\\\') { j++; }\n" +
+		"        else if (c === '{') { depth++; }\n" +
+		"        else if (c === '}' && --depth === 0) {\n" +
+		"          tag.type = text.slice(1, j).trim(); text = text.slice(j + 1).trim(); break;\n" +
+		"        }\n" +
+		"      }\n" +
+		"    }\n" +
+		"    if (/^(arg|argument|const|constant|member|param|prop|property|typedef|var)$/\n" +
+		"        .test(tag.title)) {\n" +
+		"      var name = /^(\\[[^\\]]+\\]|\\S+)((?:\\s*\\-\\s+|\\s+)(\\S[\\s\\S]*))?$/.exec(text);\n" +
+		"      if (name) {\n" +
+		"        tag.name = name[1]; text = name[3] || '';\n" +
+		"        if (/^\\[/.test(tag.name)) {\n" +
+		"          var parts2 = tag.name.slice(1, -1).split('=');\n" +
+		"          tag.name = parts2.shift().trim(); tag.optional = true;\n" +
+		"          if (parts2.length) { tag.defaultvalue = parts2.join('=').trim(); }\n" +
+		"        }\n" +
+		"      }\n" +
+		"    }\n" +
+		"    tag.description = text || undefined;\n" +
+		"    result.tags.push(tag);\n" +
+		"  }\n" +
+		"  return result;\n" +
+		"}";
+
+	private static final String JS_WALKER =
+		"function walk(ast) {\n" +
+		"  var types = { FunctionDeclaration: true, FunctionExpression: true,\n" +
+		"    AssignmentExpression: true, Property: true, VariableDeclarator: true };\n" +
+		"  var found = 0;\n" +
+		"  (function visit(node) {\n" +
+		"    if (types[node.type]) found++;\n" +
+		"    for (var key in node) {\n" +
+		"      var value = node[key];\n" +
+		"      if (value && typeof value === 'object' && key !== 'range' && key !== 'loc') {\n" +
+		"        if (Array.isArray(value)) value.forEach(visit); else visit(value);\n" +
+		"      }\n" +
+		"    }\n" +
+		"  })(ast);\n" +
+		"  return found;\n" +
+		"}";
+
+	private static final List<String> WALK_TYPES = Arrays.asList("FunctionNode",
+		"Assignment", "ObjectProperty", "VariableInitializer");
+
+	private static void walkAllJs(Context cx, Scriptable scope, Function walker,
+		AstBuilder builder, List<File> files, List<String> sources) {
+		for (int i = 0; i < files.size(); i++) {
+			Object ast = builder.build(sources.get(i), files.get(i).getPath());
+			walker.call(cx, scope, scope, new Object[] { ast });
+		}
+	}
+
+	private static void walkAll(AstBuilder builder, Function callback, List<File> files,
+		List<String> sources) {
+		for (int i = 0; i < files.size(); i++) {
+			builder.buildLazy(sources.get(i), files.get(i).getPath());
+			builder.walk(WALK_TYPES, callback);
+		}
+	}
+
+	private static void buildAllJson(AstBuilder builder, List<File> files, List<String> sources)
+		throws IOException {
+		Writer out = new NullWriter();
+		for (int i = 0; i < files.size(); i++) {
+			builder.buildJson(sources.get(i), files.get(i).getPath(), out);
+		}
+	}
+
+	/**
+	 * Discards its output, so that we measure the cost of producing the JSON rather than the cost
+	 * of storing it.
+	 */
+	private static class NullWriter extends Writer {
+		@Override
+		public void write(int c) {
+		}
+
+		@Override
+		public void write(String str) {
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
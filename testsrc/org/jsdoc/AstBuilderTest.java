@@ -0,0 +1,649 @@
+package org.jsdoc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeArray;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.StringPool;
+import org.mozilla.javascript.ast.AstNode;
+import org.mozilla.javascript.ast.VariableDeclaration;
+
+public class AstBuilderTest {
+	private Context cx;
+	private List<File> tempFiles;
+
+	@Before
+	public void setUp() {
+		cx = Context.enter();
+		cx.setLanguageVersion(Context.VERSION_1_8);
+		tempFiles = new ArrayList<File>();
+	}
+
+	@After
+	public void tearDown() {
+		Context.exit();
+		for (File file : tempFiles) {
+			File[] children = file.listFiles();
+			if (children != null) {
+				for (File child : children) {
+					child.delete();
+				}
+			}
+			file.delete();
+		}
+	}
+
+	private File createTempDir() throws IOException {
+		File dir = File.createTempFile("astcache", "");
+		dir.delete();
+		dir.mkdir();
+		tempFiles.add(dir);
+
+		return dir;
+	}
+
+	private String toJson(Scriptable ast) {
+		Scriptable scope = cx.initStandardObjects();
+		return (String)NativeJSON.stringify(cx, scope, ast, null, null);
+	}
+
+	private static final String SAMPLE_SOURCE =
+		"/** Module comment. */\n" +
+		"var a = 1, b = 'two\\n', c = /x+/g, d = [1.5, null, true];\n" +
+		"/**\n * Foo.\n * @param {string} x\n */\n" +
+		"function foo(x) {\n" +
+		"    try { return (x + 1) * 2; } catch (e) { throw e; } finally { x = void 0; }\n" +
+		"}\n" +
+		"var obj = { /** Bar. */ bar: function() { return this.baz[0]; }, get qux() { return 1; } };\n" +
+		"for (var i in obj) { if (!i) { continue; } else { break; } }\n" +
+		"switch (a) { case 1: a++; break; default: }\n" +
+		"outer: while (a) { do { a--; } while (a > 0); }\n" +
+		"new Foo(a, b) instanceof Foo ? a : b;\n" +
+		"/** Trailing. */";
+
+	private File writeTempFile(String source) throws IOException {
+		File file = File.createTempFile("astbuilder", ".js");
+		tempFiles.add(file);
+
+		Writer writer = new FileWriter(file);
+		try {
+			writer.write(source);
+		} finally {
+			writer.close();
+		}
+
+		return file;
+	}
+
+	private static NativeObject getStatement(NativeObject ast, int index) {
+		NativeArray body = (NativeArray)ast.get("body", ast);
+		return (NativeObject)body.get(index, body);
+	}
+
+	@Test
+	public void testBuild() {
+		AstBuilder builder = new AstBuilder();
+		NativeObject ast = builder.build("/** Foo. */\nfunction foo(a) { return a; }", "foo.js");
+
+		assertEquals("Program", ast.get("type", ast));
+
+		NativeObject fn = getStatement(ast, 0);
+		assertEquals("FunctionDeclaration", fn.get("type", fn));
+
+		NativeArray leadingComments = (NativeArray)fn.get("leadingComments", fn);
+		assertNotNull(leadingComments);
+		assertEquals(1L, leadingComments.getLength());
+	}
+
+	@Test
+	public void testBuildAllKeepsInputOrder() throws Exception {
+		List<String> sourceNames = new ArrayList<String>();
+		for (int i = 0; i < 20; i++) {
+			File file = writeTempFile("var v" + i + " = " + i + ";");
+			sourceNames.add(file.getAbsolutePath());
+		}
+
+		List<AstBuilder> builders = AstBuilder.buildAll(sourceNames, "UTF-8", 4);
+		assertEquals(sourceNames.size(), builders.size());
+
+		for (int i = 0; i < builders.size(); i++) {
+			NativeObject declaration = getStatement(builders.get(i).getAst(), 0);
+			NativeArray declarations = (NativeArray)declaration.get("declarations", declaration);
+			NativeObject declarator = (NativeObject)declarations.get(0, declarations);
+			NativeObject id = (NativeObject)declarator.get("id", declarator);
+
+			assertEquals("v" + i, id.get("name", id));
+		}
+	}
+
+	@Test
+	public void testBuildAllSharesOneScope() throws Exception {
+		List<String> sourceNames = new ArrayList<String>();
+		for (int i = 0; i < 8; i++) {
+			sourceNames.add(writeTempFile("var v" + i + " = [" + i + "];").getAbsolutePath());
+		}
+
+		List<AstBuilder> builders = AstBuilder.buildAll(sourceNames, "UTF-8", 4);
+		NativeObject first = builders.get(0).getAst();
+		NativeArray firstBody = (NativeArray)first.get("body", first);
+		for (AstBuilder builder : builders) {
+			NativeObject ast = builder.getAst();
+			NativeArray body = (NativeArray)ast.get("body", ast);
+
+			assertSame(first.getPrototype(), ast.getPrototype());
+			assertSame(firstBody.getPrototype(), body.getPrototype());
+			assertSame(builders.get(0).getScope(), builder.getScope());
+		}
+		assertTrue(builders.get(0).getScope().isSealed());
+	}
+
+	@Test(expected = IOException.class)
+	public void testBuildAllMissingFile() throws Exception {
+		List<String> sourceNames = new ArrayList<String>();
+		sourceNames.add(new File("does-not-exist.js").getAbsolutePath());
+
+		AstBuilder.buildAll(sourceNames, "UTF-8", 2);
+	}
+
+	@Test
+	public void testCacheHit() throws Exception {
+		String source = "/** Foo. */\nfunction foo(a) { return a + 1.5; }\n/** Trailing. */";
+		AstCache cache = new AstCache(createTempDir(), 1 << 20);
+
+		AstBuilder builder = new AstBuilder();
+		builder.setCache(cache);
+		String expected = toJson(builder.build(source, "foo.js"));
+		assertEquals(0, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertTrue(cache.getSize() > 0);
+
+		NativeObject ast = builder.build(source, "foo.js");
+		assertEquals(1, cache.getHits());
+		assertEquals(expected, toJson(ast));
+		assertTrue(builder.getRhinoNodes().isEmpty());
+
+		// comments are shared between the comments array and the nodes they are attached to
+		NativeArray comments = (NativeArray)ast.get("comments", ast);
+		NativeObject fn = getStatement(ast, 0);
+		NativeArray leadingComments = (NativeArray)fn.get("leadingComments", fn);
+		assertSame(comments.get(0, comments), leadingComments.get(0, leadingComments));
+	}
+
+	@Test
+	public void testCacheEviction() throws Exception {
+		AstCache cache = new AstCache(createTempDir(), 1);
+		AstBuilder builder = new AstBuilder();
+		builder.setCache(cache);
+
+		builder.build("var a = 1;", "a.js");
+		builder.build("var b = 2;", "b.js");
+
+		assertTrue(cache.getEvictions() > 0);
+		assertTrue(cache.getSize() <= cache.getMaxSize());
+	}
+
+	private static long getDirectorySize(File dir) {
+		long size = 0;
+		for (File entry : dir.listFiles()) {
+			size += entry.length();
+		}
+
+		return size;
+	}
+
+	@Test
+	public void testCacheSizeFollowsDirectory() throws Exception {
+		File dir = createTempDir();
+		AstCache cache = new AstCache(dir, 1 << 20);
+		AstBuilder builder = new AstBuilder();
+		builder.setCache(cache);
+		builder.build("var a = 1;", "a.js");
+
+		// another cache adds an entry to the same directory
+		AstBuilder other = new AstBuilder();
+		other.setCache(new AstCache(dir, 1 << 20));
+		other.build("var b = 2;", "b.js");
+
+		builder.build("var c = 3;", "c.js");
+		assertEquals(3, dir.listFiles().length);
+		assertEquals(getDirectorySize(dir), cache.getSize());
+
+		// entries that were deleted behind the cache's back
+		for (File entry : dir.listFiles()) {
+			entry.delete();
+		}
+		builder.build("var d = 4;", "d.js");
+		assertEquals(1, dir.listFiles().length);
+		assertEquals(getDirectorySize(dir), cache.getSize());
+	}
+
+	private static void corrupt(File dir, byte[] value) throws IOException {
+		File[] entries = dir.listFiles();
+		assertEquals(1, entries.length);
+
+		// keep the header, and replace the AST
+		DataInputStream in = new DataInputStream(new FileInputStream(entries[0]));
+		byte[] header = new byte[8];
+		try {
+			in.readFully(header);
+		} finally {
+			in.close();
+		}
+
+		OutputStream out = new FileOutputStream(entries[0]);
+		try {
+			out.write(header);
+			out.write(value);
+		} finally {
+			out.close();
+		}
+	}
+
+	@Test
+	public void testCorruptCacheEntry() throws Exception {
+		String source = "var a = 1;";
+		File dir = createTempDir();
+		AstCache cache = new AstCache(dir, 1 << 20);
+		AstBuilder builder = new AstBuilder();
+		builder.setCache(cache);
+		String expected = toJson(builder.build(source, "a.js"));
+
+		byte[][] values = {
+			// a string with a negative length
+			{ 6, (byte)0xff, (byte)0xff, (byte)0xff, (byte)0xff },
+			// an array that is longer than the entry
+			{ 9, 0x7f, (byte)0xff, (byte)0xff, (byte)0xff },
+			// a property with attributes that Rhino rejects
+			{ 8, 0, 0, 0, 1, 6, 0, 0, 0, 1, 'a', 0x7f, 0 }
+		};
+		for (byte[] value : values) {
+			corrupt(dir, value);
+			long misses = cache.getMisses();
+
+			assertEquals(expected, toJson(builder.build(source, "a.js")));
+			assertEquals(misses + 1, cache.getMisses());
+		}
+	}
+
+	private static Object getDeclaredName(NativeObject ast) {
+		NativeObject declaration = getStatement(ast, 0);
+		NativeArray declarations = (NativeArray)declaration.get("declarations", declaration);
+		NativeObject declarator = (NativeObject)declarations.get(0, declarations);
+		NativeObject id = (NativeObject)declarator.get("id", declarator);
+
+		return id.get("name", id);
+	}
+
+	@Test
+	public void testStringPool() throws Exception {
+		StringPool pool = new StringPool();
+		AstCache cache = new AstCache(createTempDir(), 1 << 20);
+
+		AstBuilder first = new AstBuilder();
+		first.setStringPool(pool);
+		Object name = getDeclaredName(first.build("var shared = 'x';", "a.js"));
+
+		AstBuilder second = new AstBuilder();
+		second.setStringPool(pool);
+		second.setCache(cache);
+		assertSame(name, getDeclaredName(second.build("var shared = 'y';", "b.js")));
+		assertTrue(pool.getHits() > 0);
+
+		// strings from the cache are pooled too
+		assertSame(name, getDeclaredName(second.build("var shared = 'y';", "b.js")));
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	public void testBuildJsonMatchesBuild() throws Exception {
+		String expected = toJson(new AstBuilder().build(SAMPLE_SOURCE, "sample.js"));
+
+		StringWriter out = new StringWriter();
+		new AstBuilder().buildJson(SAMPLE_SOURCE, "sample.js", out);
+
+		assertEquals(expected, out.toString());
+	}
+
+	@Test
+	public void testParsingJsDocTags() throws Exception {
+		AstBuilder builder = new AstBuilder();
+		builder.setParsingJsDocTags(true);
+		NativeObject ast = builder.build(SAMPLE_SOURCE, "sample.js");
+
+		NativeArray comments = (NativeArray)ast.get("comments", ast);
+		NativeObject comment = (NativeObject)comments.get(1, comments);
+		NativeObject jsdoc = (NativeObject)comment.get("jsdoc", comment);
+		assertEquals("Foo.", jsdoc.get("description", jsdoc));
+
+		NativeArray tags = (NativeArray)jsdoc.get("tags", jsdoc);
+		NativeObject tag = (NativeObject)tags.get(0, tags);
+		assertEquals("param", tag.get("title", tag));
+		assertEquals("string", tag.get("type", tag));
+		assertEquals("x", tag.get("name", tag));
+
+		// every output includes the same tags
+		String expected = toJson(ast);
+		StringWriter out = new StringWriter();
+		builder.buildJson(SAMPLE_SOURCE, "sample.js", out);
+		assertEquals(expected, out.toString());
+		assertEquals(expected, toJson(builder.buildLazy(SAMPLE_SOURCE, "sample.js")));
+
+		// the option is part of the cache key
+		AstCache cache = new AstCache(createTempDir(), 1 << 20);
+		builder.setCache(cache);
+		builder.build(SAMPLE_SOURCE, "sample.js");
+		builder.setParsingJsDocTags(false);
+		ast = builder.build(SAMPLE_SOURCE, "sample.js");
+		assertEquals(0, cache.getHits());
+		comment = (NativeObject)((NativeArray)ast.get("comments", ast)).get(1, comments);
+		assertEquals(NativeObject.NOT_FOUND, comment.get("jsdoc", comment));
+	}
+
+	@Test
+	public void testResolvingScopes() throws Exception {
+		String source = "var a = 1;\n" +
+			"function f(x) { for (let i = 0; i < x; i++) { a.b = i; } return a + z; }";
+		AstBuilder builder = new AstBuilder();
+		builder.setResolvingScopes(true);
+		NativeObject ast = builder.build(source, "scopes.js");
+
+		assertEquals(0, ast.get("scopeId", ast));
+		NativeArray scopes = (NativeArray)ast.get("scopes", ast);
+		assertEquals(3L, scopes.getLength());
+
+		NativeObject scope = (NativeObject)scopes.get(1, scopes);
+		assertEquals(0, scope.get("parent", scope));
+		NativeArray symbols = (NativeArray)scope.get("symbols", scope);
+		NativeObject symbol = (NativeObject)symbols.get(0, symbols);
+		assertEquals("x", symbol.get("name", symbol));
+		assertEquals("param", symbol.get("kind", symbol));
+
+		scope = (NativeObject)scopes.get(2, scopes);
+		assertEquals(1, scope.get("parent", scope));
+		symbols = (NativeArray)scope.get("symbols", scope);
+		symbol = (NativeObject)symbols.get(0, symbols);
+		assertEquals("let", symbol.get("kind", symbol));
+
+		NativeObject fn = getStatement(ast, 1);
+		assertEquals(1, fn.get("scopeId", fn));
+		NativeObject id = (NativeObject)fn.get("id", fn);
+		assertEquals(0, id.get("definingScopeId", id));
+
+		// a.b + z: a is declared in the program, b is a property, and z is not declared
+		NativeObject body = (NativeObject)fn.get("body", fn);
+		NativeObject returnStatement = (NativeObject)((NativeArray)body.get("body", body)).get(1, null);
+		NativeObject sum = (NativeObject)returnStatement.get("argument", returnStatement);
+		NativeObject left = (NativeObject)sum.get("left", sum);
+		NativeObject right = (NativeObject)sum.get("right", sum);
+		assertEquals(0, left.get("definingScopeId", left));
+		assertEquals(NativeObject.NOT_FOUND, right.get("definingScopeId", right));
+
+		// every output includes the same scopes
+		String expected = toJson(ast);
+		StringWriter out = new StringWriter();
+		builder.buildJson(source, "scopes.js", out);
+		assertEquals(expected, out.toString());
+		assertEquals(expected, toJson(builder.buildLazy(source, "scopes.js")));
+
+		// update() rebuilds the scopes
+		builder.build(source, "scopes.js");
+		expected = toJson(builder.build("var b;\n" + source, "scopes.js"));
+		builder.build(source, "scopes.js");
+		assertEquals(expected, toJson(builder.update(0, 0, "var b;\n")));
+	}
+
+	@Test
+	public void testBuildNdjson() throws Exception {
+		List<String> sourceNames = new ArrayList<String>();
+		sourceNames.add(writeTempFile("var a;").getAbsolutePath());
+		sourceNames.add(writeTempFile("var b = 'one\\ntwo';").getAbsolutePath());
+
+		StringWriter out = new StringWriter();
+		new AstBuilder().buildNdjson(sourceNames, "UTF-8", out);
+
+		String[] lines = out.toString().split("\n");
+		assertEquals(2, lines.length);
+		assertEquals(toJson(new AstBuilder().build("var b = 'one\\ntwo';", "b.js")), lines[1]);
+	}
+
+	@Test
+	public void testBuildLazyMatchesBuild() {
+		String expected = toJson(new AstBuilder().build(SAMPLE_SOURCE, "sample.js"));
+		String actual = toJson(new AstBuilder().buildLazy(SAMPLE_SOURCE, "sample.js"));
+
+		assertEquals(expected, actual);
+	}
+
+	@Test
+	public void testBuildLazyConvertsOnDemand() {
+		AstBuilder eager = new AstBuilder();
+		eager.build(SAMPLE_SOURCE, "sample.js");
+
+		AstBuilder lazy = new AstBuilder();
+		Scriptable ast = lazy.buildLazy(SAMPLE_SOURCE, "sample.js");
+		NativeArray body = (NativeArray)ast.get("body", ast);
+		Scriptable fn = (Scriptable)body.get(1, body);
+
+		assertEquals("FunctionDeclaration", fn.get("type", fn));
+		assertTrue(lazy.getRhinoNodes().size() < eager.getRhinoNodes().size() / 2);
+
+		// comments keep their identity
+		NativeArray comments = (NativeArray)ast.get("comments", ast);
+		NativeArray leadingComments = (NativeArray)fn.get("leadingComments", fn);
+		assertSame(comments.get(1, comments), leadingComments.get(0, leadingComments));
+	}
+
+	private String walk(AstBuilder builder, String script) {
+		Scriptable scope = cx.initStandardObjects();
+		ScriptableObject.putProperty(scope, "builder", Context.javaToJS(builder, scope));
+
+		return Context.toString(cx.evaluateString(scope, script, "walk.js", 1, null));
+	}
+
+	@Test
+	public void testWalk() {
+		AstBuilder builder = new AstBuilder();
+		builder.buildLazy(SAMPLE_SOURCE, "sample.js");
+		int converted = builder.getRhinoNodes().size();
+
+		String found = walk(builder,
+			"var found = [];\n" +
+			"builder.walk(['FunctionNode', 'ObjectProperty'], function(node) {\n" +
+			"    found.push(node.type + (node.id ? ':' + node.id.name : ''));\n" +
+			"});\n" +
+			"found.join();");
+		assertEquals("FunctionDeclaration:foo,Property,FunctionExpression,Property,FunctionExpression",
+			found);
+		assertTrue(builder.getRhinoNodes().size() - converted < 20);
+
+		// returning false skips the node's descendants
+		String script =
+			"var found = [];\n" +
+			"builder.walk(['FunctionNode', 'Name'], function(node) {\n" +
+			"    if (node.type === 'Identifier') found.push(node.name);\n" +
+			"    return node.type !== 'FunctionExpression' || !prune;\n" +
+			"});\n" +
+			"found.join();";
+		assertTrue(walk(builder, "var prune = false;" + script).contains("baz"));
+		found = walk(builder, "var prune = true;" + script);
+		assertTrue(found.startsWith("a,b,c,d,foo,x"));
+		assertFalse(found.contains("baz"));
+	}
+
+	@Test
+	public void testWalkAfterBuild() {
+		AstBuilder builder = new AstBuilder();
+		NativeObject ast = builder.build(SAMPLE_SOURCE, "sample.js");
+		int registered = builder.getRhinoNodes().size();
+		NativeObject fn = getStatement(ast, 1);
+
+		// the nodes keep the ids that build() gave them
+		String found = walk(builder,
+			"var found = [];\n" +
+			"builder.walk(['FunctionNode', 'Name'], function(node) {\n" +
+			"    if (node.type !== 'Identifier') found.push(node.nodeId);\n" +
+			"});\n" +
+			"found[0];");
+		assertEquals(registered, builder.getRhinoNodes().size());
+		assertEquals(Context.toString(fn.get("nodeId", fn)), found);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWalkUnknownType() {
+		AstBuilder builder = new AstBuilder();
+		builder.build(SAMPLE_SOURCE, "sample.js");
+
+		List<String> types = new ArrayList<String>();
+		types.add("FunctionDeclaration");
+		builder.walk(types, null);
+	}
+
+	private static void assertPosition(NativeObject loc, String which, int line, int column) {
+		NativeObject position = (NativeObject)loc.get(which, loc);
+		assertEquals(line, position.get("line", position));
+		assertEquals(column, position.get("column", position));
+	}
+
+	@Test
+	public void testLocation() {
+		AstBuilder builder = new AstBuilder();
+		NativeObject ast = builder.build("var a;\r\n  foo(1,\n    2);", "loc.js");
+
+		NativeObject statement = getStatement(ast, 1);
+		NativeObject loc = (NativeObject)statement.get("loc", statement);
+		assertPosition(loc, "start", 2, 2);
+		assertPosition(loc, "end", 3, 7);
+
+		NativeObject call = (NativeObject)statement.get("expression", statement);
+		NativeArray args = (NativeArray)call.get("arguments", call);
+		NativeObject second = (NativeObject)args.get(1, args);
+		loc = (NativeObject)second.get("loc", second);
+		assertPosition(loc, "start", 3, 4);
+		assertPosition(loc, "end", 3, 5);
+	}
+
+	@Test
+	public void testNodeIds() {
+		AstBuilder builder = new AstBuilder();
+		NativeObject ast = builder.build(SAMPLE_SOURCE, "ids.js");
+		NativeObject statement = getStatement(ast, 0);
+
+		Object nodeId = statement.get("nodeId", statement);
+		assertTrue(nodeId instanceof Integer);
+		AstNode rhinoNode = builder.getRhinoNode(((Integer)nodeId).intValue());
+		assertTrue(rhinoNode instanceof VariableDeclaration);
+
+		// the same source gets the same ids
+		List<AstNode> rhinoNodes = builder.getRhinoNodes();
+		int count = rhinoNodes.size();
+		builder.build(SAMPLE_SOURCE, "ids.js");
+		assertEquals(count, builder.getRhinoNodes().size());
+		assertEquals(nodeId, getStatement(builder.getAst(), 0).get("nodeId", statement));
+	}
+
+	private String applyEdit(AstBuilder builder, String source, String oldText, String newText) {
+		int offset = source.indexOf(oldText);
+		assertTrue(offset >= 0);
+
+		String newSource = source.substring(0, offset) + newText +
+			source.substring(offset + oldText.length());
+		assertEquals(toJson(new AstBuilder().build(newSource, "update.js")),
+			toJson(builder.update(offset, oldText.length(), newText)));
+
+		return newSource;
+	}
+
+	@Test
+	public void testUpdate() {
+		AstBuilder builder = new AstBuilder();
+		String source = SAMPLE_SOURCE;
+		builder.build(source, "update.js");
+
+		// inside a function body
+		source = applyEdit(builder, source, "return (x + 1) * 2;", "var y = x;\n\n return y * 2;");
+		// a new statement with a JSDoc comment
+		source = applyEdit(builder, source, "function foo(x) {",
+			"/** Baz. */\nvar baz = 1;\nfunction foo(x) {");
+		// removing a semicolon joins two statements
+		source = applyEdit(builder, source, "1; } };\n", "1; } }\n(x)\n");
+		// opening a comment changes the rest of the file
+		source = applyEdit(builder, source, "switch", "/* switch");
+		source = applyEdit(builder, source, "new Foo", "*/ new Foo");
+		// at the end of the file
+		source = applyEdit(builder, source, "/** Trailing. */", "");
+	}
+
+	@Test
+	public void testUpdateEdges() {
+		AstBuilder builder = new AstBuilder();
+		String source = SAMPLE_SOURCE;
+		builder.build(source, "update.js");
+
+		// at the start of the file
+		source = applyEdit(builder, source, "/** Module comment. */\n", "");
+		source = applyEdit(builder, source, "var a = 1,", "\n\nvar a = 1,");
+		// a change of length that keeps the line count
+		source = applyEdit(builder, source, "'two\\n'", "'three\\n'");
+		// a change of line count that keeps the length
+		source = applyEdit(builder, source, "x = void 0;", "x =\n\n0;\n");
+		// inside a nested function, and then around it
+		source = applyEdit(builder, source, "return this.baz[0];", "var z = this.baz;\nreturn z;");
+		source = applyEdit(builder, source, "{ return 1; }", "{\n  return 2;\n}");
+		// inside a switch case
+		source = applyEdit(builder, source, "a++; break;", "a += 2;\n break;");
+		// removing several lines
+		source = applyEdit(builder, source, "for (var i in obj) { if (!i) { continue; } else { break; } }\n",
+			"");
+	}
+
+	@Test
+	public void testUpdatesWithoutReading() {
+		AstBuilder builder = new AstBuilder();
+		String source = SAMPLE_SOURCE;
+		NativeObject ast = builder.build(source, "update.js");
+		NativeObject last = getStatement(ast, 6);
+		NativeArray range = (NativeArray)last.get("range", last);
+
+		// the statements after the edits are not read until all of the edits are made
+		String[][] edits = {
+			{ "var a = 1,", "var a = 10,\n" },
+			{ "return (x + 1) * 2;", "return x;" },
+			{ "case 1: a++;", "case 1:\n\n  a--;" },
+			{ "/** Bar. */", "" }
+		};
+		for (String[] edit : edits) {
+			int offset = source.indexOf(edit[0]);
+			source = source.substring(0, offset) + edit[1] +
+				source.substring(offset + edit[0].length());
+			assertSame(ast, builder.update(offset, edit[0].length(), edit[1]));
+		}
+
+		assertEquals(toJson(new AstBuilder().build(source, "update.js")), toJson(ast));
+		// the range is moved in place
+		int start = source.indexOf("new Foo");
+		assertEquals(start, ((Number)range.get(0, range)).intValue());
+	}
+}
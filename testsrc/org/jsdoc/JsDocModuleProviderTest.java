@@ -0,0 +1,96 @@
+package org.jsdoc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mozilla.javascript.commonjs.module.provider.ModuleSource;
+
+public class JsDocModuleProviderTest {
+	// an arbitrary time in the past, so that later changes always get a new modification time
+	private static final long PAST = 1000000000000L;
+
+	private File dir;
+	private JsDocModuleProvider provider;
+
+	@Before
+	public void setUp() throws IOException {
+		dir = File.createTempFile("modules", "");
+		dir.delete();
+		dir.mkdir();
+
+		provider = new JsDocModuleProvider(null, null);
+	}
+
+	@After
+	public void tearDown() {
+		delete(dir);
+	}
+
+	private static void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	private static File writeFile(File parent, String name, String contents) throws IOException {
+		File file = new File(parent, name);
+		Writer writer = new FileWriter(file);
+		try {
+			writer.write(contents);
+		} finally {
+			writer.close();
+		}
+		file.setLastModified(PAST);
+		return file;
+	}
+
+	private URI load(String moduleId) throws IOException, URISyntaxException {
+		URI base = dir.toURI();
+		ModuleSource source = provider.loadSource(base.resolve(moduleId), base, null);
+		return source == null ? null : source.getUri();
+	}
+
+	@Test
+	public void testPackageMain() throws IOException, URISyntaxException {
+		File packageDir = new File(dir, "pkg");
+		packageDir.mkdir();
+		writeFile(packageDir, "a.js", "exports.a = true;");
+		writeFile(packageDir, "b.js", "exports.b = true;");
+		File packageFile = writeFile(packageDir, "package.json", "{ \"main\": \"a\" }");
+		packageDir.setLastModified(PAST);
+
+		assertEquals(new File(packageDir, "a.js").toURI(), load("pkg"));
+
+		// the cached result is used until the package file changes
+		assertEquals(new File(packageDir, "a.js").toURI(), load("pkg"));
+		writeFile(packageDir, "package.json", "{ \"main\": \"b.js\" }");
+		packageFile.setLastModified(PAST + 1000);
+		assertEquals(new File(packageDir, "b.js").toURI(), load("pkg"));
+	}
+
+	@Test
+	public void testMissingModule() throws IOException, URISyntaxException {
+		dir.setLastModified(PAST);
+		assertNull(load("missing"));
+		assertNull(load("missing"));
+
+		// creating the module invalidates the cached failure
+		writeFile(dir, "missing.js", "exports.found = true;");
+		dir.setLastModified(PAST + 1000);
+		assertEquals(new File(dir, "missing.js").toURI(), load("missing"));
+	}
+}
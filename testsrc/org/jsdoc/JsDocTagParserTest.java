@@ -0,0 +1,138 @@
+package org.jsdoc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class JsDocTagParserTest {
+	private final JsDocTagParser parser = new JsDocTagParser();
+
+	@Test
+	public void testDescriptionAndTags() {
+		JsDocTagParser.ParsedComment parsed = parser.parse(
+			"/**\n * Add two numbers.\n *\n *   Indented.\n * @param {number} a - The first.\n" +
+			" * @param {number=} [b=1] The second,\n *     continued.\n * @return {number}\n */");
+
+		assertEquals("Add two numbers.\n\n  Indented.", parsed.getDescription());
+
+		List<JsDocTagParser.Tag> tags = parsed.getTags();
+		assertEquals(3, tags.size());
+
+		JsDocTagParser.Tag tag = tags.get(0);
+		assertEquals("param", tag.getTitle());
+		assertEquals("{number} a - The first.", tag.getText());
+		assertEquals("number", tag.getType());
+		assertEquals("a", tag.getName());
+		assertEquals("The first.", tag.getDescription());
+		assertFalse(tag.isOptional());
+
+		tag = tags.get(1);
+		assertEquals("number=", tag.getType());
+		assertEquals("b", tag.getName());
+		assertTrue(tag.isOptional());
+		assertEquals("1", tag.getDefaultValue());
+		assertEquals("The second,\n    continued.", tag.getDescription());
+
+		tag = tags.get(2);
+		assertEquals("return", tag.getTitle());
+		assertEquals("number", tag.getType());
+		assertNull(tag.getName());
+		assertNull(tag.getDescription());
+	}
+
+	@Test
+	public void testSingleLine() {
+		JsDocTagParser.ParsedComment parsed = parser.parse("/** @type {Object.<string, {a: number}>} */");
+
+		assertNull(parsed.getDescription());
+		assertEquals(1, parsed.getTags().size());
+		assertEquals("Object.<string, {a: number}>", parsed.getTags().get(0).getType());
+
+		parsed = parser.parse("/** Just a description. */");
+		assertEquals("Just a description.", parsed.getDescription());
+		assertTrue(parsed.getTags().isEmpty());
+	}
+
+	@Test
+	public void testEmpty() {
+		assertNull(parser.parse("/** */").getDescription());
+		assertNull(parser.parse("/***/").getDescription());
+		assertNull(parser.parse("/****/").getDescription());
+		assertTrue(parser.parse("/***/").getTags().isEmpty());
+		assertEquals("x", parser.parse("/**x*/").getDescription());
+	}
+
+	@Test
+	public void testTagsWithoutNames() {
+		JsDocTagParser.ParsedComment parsed = parser.parse(
+			"/**\r\n * @private\r\n * @see foo bar\r\n * Contact someone@example.com.\r\n */");
+		List<JsDocTagParser.Tag> tags = parsed.getTags();
+
+		assertEquals(2, tags.size());
+		assertEquals("private", tags.get(0).getTitle());
+		assertNull(tags.get(0).getText());
+		assertEquals("see", tags.get(1).getTitle());
+		assertNull(tags.get(1).getName());
+		assertEquals("foo bar\nContact someone@example.com.", tags.get(1).getDescription());
+	}
+
+	@Test
+	public void testBrackets() {
+		JsDocTagParser.ParsedComment parsed = parser.parse(
+			"/**\n * @param {string} [opts.sep=','] Separator.\n * @param {\\}} [x=[1, 2]]\n" +
+			" * @property {{a: } broken\n */");
+		List<JsDocTagParser.Tag> tags = parsed.getTags();
+
+		assertEquals("opts.sep", tags.get(0).getName());
+		assertEquals("','", tags.get(0).getDefaultValue());
+		assertEquals("Separator.", tags.get(0).getDescription());
+
+		assertEquals("\\}", tags.get(1).getType());
+		assertEquals("x", tags.get(1).getName());
+		assertEquals("[1, 2]", tags.get(1).getDefaultValue());
+
+		// an unbalanced type is not a type
+		assertNull(tags.get(2).getType());
+		assertEquals("{{a:", tags.get(2).getName());
+	}
+
+	@Test
+	public void testTypesOnlyForTypedTags() {
+		JsDocTagParser.ParsedComment parsed = parser.parse(
+			"/**\n * @see {@link Foo} for more\n * @returns {@link Foo} instances\n" +
+			" * @throws {TypeError} If x is missing.\n * @deprecated {since 2.0}\n */");
+		List<JsDocTagParser.Tag> tags = parsed.getTags();
+
+		assertNull(tags.get(0).getType());
+		assertEquals("{@link Foo} for more", tags.get(0).getDescription());
+
+		assertNull(tags.get(1).getType());
+		assertEquals("{@link Foo} instances", tags.get(1).getDescription());
+
+		assertEquals("TypeError", tags.get(2).getType());
+		assertEquals("If x is missing.", tags.get(2).getDescription());
+
+		assertNull(tags.get(3).getType());
+		assertEquals("{since 2.0}", tags.get(3).getDescription());
+	}
+
+	@Test
+	public void testExample() {
+		JsDocTagParser.ParsedComment parsed = parser.parse(
+			"/**\n * @example\n * {a: 1}\n * @example  // one line\n" +
+			" * @example\n * if (x) {\n *     f({b: 2});\n * }\n *\n */");
+		List<JsDocTagParser.Tag> tags = parsed.getTags();
+
+		assertEquals(3, tags.size());
+		assertNull(tags.get(0).getType());
+		assertNull(tags.get(0).getName());
+		assertEquals("{a: 1}", tags.get(0).getDescription());
+		assertEquals("// one line", tags.get(1).getDescription());
+		assertEquals("if (x) {\n    f({b: 2});\n}", tags.get(2).getDescription());
+	}
+}
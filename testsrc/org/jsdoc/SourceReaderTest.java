@@ -0,0 +1,86 @@
+package org.jsdoc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SourceReaderTest {
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("source", ".js");
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	private String read(File file, String defaultEncoding) throws IOException {
+		return (String)SourceReader.readFileOrUrl(file.getPath(), true, defaultEncoding);
+	}
+
+	private void write(byte[] bom, String text, String encoding) throws IOException {
+		OutputStream out = new FileOutputStream(file);
+		try {
+			out.write(bom);
+			out.write(text.getBytes(encoding));
+		} finally {
+			out.close();
+		}
+	}
+
+	@Test
+	public void testUtf8Bom() throws IOException {
+		write(new byte[] { (byte)0xEF, (byte)0xBB, (byte)0xBF }, "var s = '\u00e9';", "UTF-8");
+
+		assertEquals("var s = '\u00e9';", read(file, "ISO-8859-1"));
+	}
+
+	@Test
+	public void testUtf16Bom() throws IOException {
+		write(new byte[] { (byte)0xFF, (byte)0xFE }, "var s = '\u2603';", "UTF-16LE");
+
+		assertEquals("var s = '\u2603';", read(file, "UTF-8"));
+	}
+
+	@Test
+	public void testDefaultEncoding() throws IOException {
+		write(new byte[0], "var s = '\u00e9';", "ISO-8859-1");
+
+		assertEquals("var s = '\u00e9';", read(file, "ISO-8859-1"));
+	}
+
+	@Test
+	public void testLargeFile() throws IOException {
+		StringBuilder text = new StringBuilder();
+		while (text.length() < (2 << 20)) {
+			text.append("var x = '\u00e9';\n");
+		}
+		write(new byte[] { (byte)0xEF, (byte)0xBB, (byte)0xBF }, text.toString(), "UTF-8");
+
+		String source = read(file, null);
+		assertEquals(text.length(), source.length());
+		assertEquals(text.toString(), source);
+	}
+
+	@Test
+	public void testFileWithoutSize() throws IOException {
+		// files in /proc report a size of 0, but they have content
+		File status = new File("/proc/self/status");
+		if (!status.exists()) {
+			return;
+		}
+
+		assertTrue(read(status, "UTF-8").startsWith("Name:"));
+	}
+}
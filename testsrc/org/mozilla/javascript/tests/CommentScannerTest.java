@@ -0,0 +1,167 @@
+/* This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript.tests;
+
+import org.mozilla.javascript.ast.*;
+
+import org.mozilla.javascript.CommentScanner;
+import org.mozilla.javascript.CommentScanner.Target;
+import org.mozilla.javascript.CommentScanner.TargetKind;
+import org.mozilla.javascript.CompilerEnvirons;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Parser;
+
+import junit.framework.TestCase;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CommentScannerTest extends TestCase {
+    private static final String SOURCE =
+        "/** a */ var a = 1, /** b */ b = function() { return /x/g.test(a) / 2; };\n" +
+        "/** c */\n" +
+        "Foo.prototype.c = function(/** number */ x, y) {\n" +
+        "  /** dropped */\n" +
+        "};\n" +
+        "/** d */ Foo.prototype.d;\n" +
+        "var o = /** obj */ {\n" +
+        "  /** e */ e: 1,\n" +
+        "  /** f */ get f() { return 1; },\n" +
+        "  /** g */ 'g': /** inner */ 2,\n" +
+        "  /** h */ default: function() {},\n" +
+        "  get: 3, /** i */ 4: 5\n" +
+        "};\n" +
+        "/** call */ $.widget('ui.foo', { /** opt */ options: {} });\n" +
+        "try { x(); } catch (/** err */ e) { } finally { }\n" +
+        "/** try */ try { } catch (e) { }\n" +
+        "/** new */ var n = new Foo(1).bar(2);\n" +
+        "label: for (/** loop */ var k in o) { continue label; }\n" +
+        "/** ternary */ var t = a ? /** yes */ b : c;\n" +
+        "x = y\n" +
+        "/** asi */ z = 1\n" +
+        "/** ret */ function r() { return /** val */ a.b; }\n" +
+        "if (a) /** iff */ a.b = /r/.test(a);\n" +
+        "var re = a / b / c; /** after div */ div = 1;\n" +
+        "/** sw */ switch (a) { case 1: /** c1 */ a = 2; break; default: }\n" +
+        "/** un */ typeof a.b;\n" +
+        "/** new bare */ new Foo;\n" +
+        "/** new args */ new Foo.Bar(1);\n" +
+        "/** new member */ new Foo(1).bar;\n" +
+        "/** let */ let (/** q */ q = 1) { q++; }\n" +
+        "x = 1;\n" +
+        "/** last */";
+
+    private CompilerEnvirons environment;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        environment = new CompilerEnvirons();
+        environment.setRecordingComments(true);
+        environment.setRecordingLocalJsDocComments(true);
+        environment.setLanguageVersion(Context.VERSION_1_8);
+    }
+
+    private Map<String, Target> scan(CommentScanner scanner, String source) {
+        Map<String, Target> targets = new HashMap<String, Target>();
+        for (Comment comment : scanner.scan(source, "test.js", 1)) {
+            targets.put(comment.getValue(), scanner.getTarget(comment));
+        }
+        return targets;
+    }
+
+    private static TargetKind getKind(AstNode node) {
+        if (node instanceof FunctionNode) return TargetKind.FUNCTION;
+        if (node instanceof VariableDeclaration) return TargetKind.DECLARATION;
+        if (node instanceof VariableInitializer) return TargetKind.VARIABLE;
+        if (node instanceof Assignment) return TargetKind.ASSIGNMENT;
+        if (node instanceof ObjectLiteral) return TargetKind.OBJECT;
+        if (node instanceof FunctionCall) return TargetKind.CALL;
+        if (node instanceof TryStatement) return TargetKind.TRY;
+        if (node instanceof WithStatement) return TargetKind.WITH;
+        if (node.getParent() instanceof ObjectProperty) return TargetKind.PROPERTY;
+        if (node.getParent() instanceof FunctionNode ||
+            node.getParent() instanceof CatchClause) {
+            return TargetKind.PARAMETER;
+        }
+        return TargetKind.EXPRESSION;
+    }
+
+    public void testMatchesParser() {
+        AstRoot root = new Parser(environment).parse(SOURCE, "test.js", 1);
+        final Map<Comment, AstNode> documented = new HashMap<Comment, AstNode>();
+        root.visitAll(new NodeVisitor() {
+            public boolean visit(AstNode node) {
+                if (node.getJsDocNode() != null) {
+                    documented.put(node.getJsDocNode(), node);
+                }
+                return true;
+            }
+        });
+
+        CommentScanner scanner = new CommentScanner(environment);
+        List<Comment> comments = scanner.scan(SOURCE, "test.js", 1);
+        assertEquals(root.getComments().size(), comments.size());
+
+        int i = 0;
+        for (Comment expected : root.getComments()) {
+            Comment comment = comments.get(i++);
+            assertEquals(expected.getAbsolutePosition(), comment.getPosition());
+            assertEquals(expected.getLineno(), comment.getLineno());
+
+            AstNode node = documented.get(expected);
+            Target target = scanner.getTarget(comment);
+            if (node == null) {
+                assertNull(comment.getValue(), target);
+                continue;
+            }
+
+            assertNotNull(comment.getValue(), target);
+            assertEquals(comment.getValue(), getKind(node), target.getKind());
+            assertEquals(comment.getValue(), node.getAbsolutePosition() + node.getLength(),
+                         target.getEnd());
+        }
+    }
+
+    public void testNames() {
+        Map<String, Target> targets = scan(new CommentScanner(environment), SOURCE);
+
+        assertEquals("a", targets.get("/** a */").getName());
+        assertEquals("b", targets.get("/** b */").getName());
+        assertEquals("Foo.prototype.c", targets.get("/** c */").getName());
+        assertEquals("x", targets.get("/** number */").getName());
+        assertEquals("Foo.prototype.d", targets.get("/** d */").getName());
+        assertEquals("f", targets.get("/** f */").getName());
+        assertEquals("g", targets.get("/** g */").getName());
+        assertEquals("default", targets.get("/** h */").getName());
+        assertEquals("4", targets.get("/** i */").getName());
+        assertEquals("$.widget", targets.get("/** call */").getName());
+        assertEquals("e", targets.get("/** err */").getName());
+        assertEquals("r", targets.get("/** ret */").getName());
+        assertEquals("div", targets.get("/** after div */").getName());
+        assertNull(targets.get("/** dropped */"));
+        assertNull(targets.get("/** last */"));
+    }
+
+    public void testRange() {
+        String source = "x;\n/** Foo. */\nfunction foo(a) { return a; }\n";
+        Target target = scan(new CommentScanner(environment), source).get("/** Foo. */");
+
+        assertEquals(TargetKind.FUNCTION, target.getKind());
+        assertEquals("foo", target.getName());
+        assertEquals(source.indexOf("function"), target.getStart());
+        assertEquals(source.lastIndexOf('}') + 1, target.getEnd());
+    }
+
+    public void testLocalJsDocNotRecorded() {
+        environment.setRecordingLocalJsDocComments(false);
+        CommentScanner scanner = new CommentScanner(environment);
+        List<Comment> comments = scanner.scan("/** Foo. */ var foo;", "test.js", 1);
+
+        assertEquals(1, comments.size());
+        assertNull(scanner.getTarget(comments.get(0)));
+    }
+}
@@ -0,0 +1,104 @@
+/* This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript.tests;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextAction;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.EcmaError;
+import org.mozilla.javascript.Scriptable;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link Context#setCompilationExecutor}.
+ */
+public class CompilationExecutorTest extends TestCase {
+
+    private ExecutorService executor;
+
+    @Override
+    protected void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @Override
+    protected void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static String makeSource() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            sb.append("function f").append(i).append("(a, b) {\n")
+              .append("    var s = 0;\n")
+              .append("    for (var k = 0; k < a; k++) { s += k * b; }\n")
+              .append("    function g(x) { return /a+/.test(x) ? x.length : ")
+              .append(i).append("; }\n")
+              .append("    return s + g('aaa') + (function() { return ")
+              .append(i).append("; })();\n")
+              .append("}\n");
+        }
+        sb.append("var total = 0;\n")
+          .append("for (var i = 0; i < 50; i++) { total += this['f' + i](i, 2); }\n")
+          .append("total + ':' + f7.toString().length;\n");
+        return sb.toString();
+    }
+
+    private Object run(final String source, final int optimizationLevel,
+                       final boolean parallel)
+    {
+        return new ContextFactory().call(new ContextAction() {
+            public Object run(Context cx) {
+                cx.setOptimizationLevel(optimizationLevel);
+                if (parallel) {
+                    cx.setCompilationExecutor(executor);
+                }
+                Scriptable scope = cx.initStandardObjects();
+                return cx.evaluateString(scope, source, "test.js", 1, null);
+            }
+        });
+    }
+
+    public void testSameResults() {
+        String source = makeSource();
+        for (int opt = -1; opt <= 9; opt += 5) {
+            Object expected = run(source, opt, false);
+            assertEquals("opt " + opt, expected, run(source, opt, true));
+        }
+    }
+
+    public void testRegExpErrorIsReported() {
+        String source = makeSource() + "function bad() { return /(/; }";
+        for (int opt = -1; opt <= 0; opt++) {
+            try {
+                run(source, opt, true);
+                fail("opt " + opt);
+            } catch (EcmaError e) {
+                assertEquals("SyntaxError", e.getName());
+            }
+        }
+    }
+
+    public void testBusyExecutor() throws Exception {
+        // all of the threads are busy, so the compiling thread does the work
+        ExecutorService busy = executor;
+        final Object lock = new Object();
+        synchronized (lock) {
+            for (int i = 0; i < 4; i++) {
+                busy.execute(new Runnable() {
+                    public void run() {
+                        synchronized (lock) {}
+                    }
+                });
+            }
+            assertEquals(run(makeSource(), -1, false),
+                         run(makeSource(), -1, true));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/* This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript.tests;
+
+/**
+ * Runs the property cache tests with the caches of compiled classes.
+ */
+public class CompiledPropertyCacheTest extends PropertyCacheTest {
+
+    @Override
+    protected int getOptimizationLevel() {
+        return 9;
+    }
+}
@@ -0,0 +1,225 @@
+/* This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeArray;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.ScriptableObject;
+
+import junit.framework.TestCase;
+
+/**
+ * Stress tests for adding and removing the properties of an object from
+ * many threads at once.
+ */
+public class ConcurrentSlotsTest extends TestCase {
+
+    private static final int THREADS =
+        Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+    private static final int KEYS = 2000;
+    private static final int ROUNDS = 5;
+
+    private interface Worker {
+        void run(ScriptableObject obj, int thread);
+    }
+
+    private static ScriptableObject newObject() {
+        ScriptableObject obj = new NativeObject();
+        // deleting moves the properties from the shape to slots
+        obj.put("init", obj, Boolean.TRUE);
+        obj.delete("init");
+        return obj;
+    }
+
+    private static void runThreads(final ScriptableObject obj,
+                                   final Worker worker)
+        throws Exception
+    {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> errors = new ArrayList<Throwable>();
+        Thread[] threads = new Thread[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            final int thread = i;
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        worker.run(obj, thread);
+                    } catch (Throwable t) {
+                        synchronized (errors) {
+                            errors.add(t);
+                        }
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+        if (!errors.isEmpty()) {
+            throw new AssertionError(errors.get(0));
+        }
+    }
+
+    private static void assertIds(ScriptableObject obj, int expected) {
+        Object[] ids = obj.getAllIds();
+        Set<Object> unique = new HashSet<Object>();
+        for (Object id : ids) {
+            assertTrue("duplicate id " + id, unique.add(id));
+        }
+        assertEquals(expected, ids.length);
+        assertEquals(expected, obj.size());
+    }
+
+    public void testConcurrentAdds() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            ScriptableObject obj = newObject();
+            runThreads(obj, new Worker() {
+                public void run(ScriptableObject obj, int thread) {
+                    for (int i = 0; i < KEYS; i++) {
+                        if ((i & 1) == 0) {
+                            obj.put("p" + thread + "_" + i, obj, i);
+                        } else {
+                            obj.put(thread * KEYS + i, obj, i);
+                        }
+                    }
+                }
+            });
+            assertIds(obj, THREADS * KEYS);
+            for (int thread = 0; thread < THREADS; thread++) {
+                for (int i = 0; i < KEYS; i++) {
+                    Object value = (i & 1) == 0
+                        ? obj.get("p" + thread + "_" + i, obj)
+                        : obj.get(thread * KEYS + i, obj);
+                    assertEquals(Integer.valueOf(i), value);
+                }
+            }
+        }
+    }
+
+    public void testConcurrentAddsOfSameKeys() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            ScriptableObject obj = newObject();
+            runThreads(obj, new Worker() {
+                public void run(ScriptableObject obj, int thread) {
+                    for (int i = 0; i < KEYS; i++) {
+                        obj.put("p" + i, obj, i);
+                    }
+                }
+            });
+            assertIds(obj, KEYS);
+            for (int i = 0; i < KEYS; i++) {
+                assertEquals(Integer.valueOf(i), obj.get("p" + i, obj));
+            }
+        }
+    }
+
+    public void testConcurrentAddsAndDeletes() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            ScriptableObject obj = newObject();
+            runThreads(obj, new Worker() {
+                public void run(ScriptableObject obj, int thread) {
+                    for (int i = 0; i < KEYS; i++) {
+                        String kept = "k" + thread + "_" + i;
+                        String temp = "t" + thread + "_" + i;
+                        obj.put(kept, obj, i);
+                        obj.put(temp, obj, i);
+                        obj.delete(temp);
+                        if (obj.has(temp, obj) || obj.get(kept, obj) == null) {
+                            throw new AssertionError(kept);
+                        }
+                    }
+                }
+            });
+            assertIds(obj, THREADS * KEYS);
+            for (int thread = 0; thread < THREADS; thread++) {
+                for (int i = 0; i < KEYS; i++) {
+                    assertEquals(Integer.valueOf(i),
+                                 obj.get("k" + thread + "_" + i, obj));
+                    assertFalse(obj.has("t" + thread + "_" + i, obj));
+                }
+            }
+        }
+    }
+
+    public void testConcurrentAttributeChanges() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            ScriptableObject obj = newObject();
+            for (int i = 0; i < KEYS; i++) {
+                obj.put("p" + i, obj, i);
+            }
+            runThreads(obj, new Worker() {
+                public void run(ScriptableObject obj, int thread) {
+                    for (int i = 0; i < KEYS; i++) {
+                        if (thread % 2 == 0) {
+                            obj.setAttributes("p" + i, ScriptableObject.DONTENUM);
+                        } else {
+                            obj.put("q" + thread + "_" + i, obj, i);
+                        }
+                    }
+                }
+            });
+            int added = THREADS / 2 * KEYS;
+            assertIds(obj, KEYS + added);
+            assertEquals(added, obj.getIds().length);
+            for (int i = 0; i < KEYS; i++) {
+                assertEquals(Integer.valueOf(i), obj.get("p" + i, obj));
+            }
+        }
+    }
+
+    public void testOwnAddsAreEnumerated() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            ScriptableObject obj = newObject();
+            runThreads(obj, new Worker() {
+                public void run(ScriptableObject obj, int thread) {
+                    for (int i = 0; i < KEYS / 10; i++) {
+                        String name = "p" + thread + "_" + i;
+                        obj.put(name, obj, i);
+                        if (!Arrays.asList(obj.getIds()).contains(name)) {
+                            throw new AssertionError(name + " not in ids");
+                        }
+                    }
+                }
+            });
+            assertIds(obj, THREADS * (KEYS / 10));
+        }
+    }
+
+    public void testArrayWithNamedProperties() {
+        // the slot table of an array does not grow with its length, which
+        // NativeArray.size() returns
+        NativeArray array = new NativeArray(0);
+        array.put("length", array, Double.valueOf(4294967290.0));
+        for (int i = 0; i < 100; i++) {
+            array.put("p" + i, array, i);
+        }
+        array.delete("p0");
+        assertEquals(99, array.getIds().length);
+
+        Context cx = Context.enter();
+        try {
+            cx.setOptimizationLevel(-1);
+            ScriptableObject scope = cx.initStandardObjects();
+            assertEquals("1,1", Context.toString(cx.evaluateString(scope,
+                "var a = Array(4294967290); a[4294967289.5] = 1; a.length = 1;"
+                + " a.x = 1; delete a.x; [a.length, a[4294967289.5]].join()",
+                "array.js", 1, null)));
+        } finally {
+            Context.exit();
+        }
+    }
+}
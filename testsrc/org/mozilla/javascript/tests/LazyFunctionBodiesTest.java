@@ -0,0 +1,162 @@
+/* This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript.tests;
+
+import org.mozilla.javascript.CompilerEnvirons;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextAction;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.EcmaError;
+import org.mozilla.javascript.EvaluatorException;
+import org.mozilla.javascript.Function;
+import org.mozilla.javascript.Parser;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ast.AstRoot;
+import org.mozilla.javascript.ast.FunctionNode;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link Context#FEATURE_LAZY_FUNCTION_BODIES}.
+ */
+public class LazyFunctionBodiesTest extends TestCase {
+
+    private static final String SOURCE =
+        "var n = 1;\n" +
+        "function add(a, b) {\n" +
+        "    var c = a + b; // sum\n" +
+        "    return function inner(x) { return x * c + n; };\n" +
+        "}\n" +
+        "var o = { get five() { return /}/.test('}') ? 5 : 0; } };\n" +
+        "function fact(k) { return k <= 1 ? 1 : k * fact(k - 1); }\n" +
+        "var iife = (function() { return 'eager'; })();\n" +
+        "function thrower() {\n" +
+        "    null.foo;\n" +
+        "}\n";
+
+    private static final ContextFactory LAZY_FACTORY = new ContextFactory() {
+        @Override
+        protected boolean hasFeature(Context cx, int featureIndex) {
+            if (featureIndex == Context.FEATURE_LAZY_FUNCTION_BODIES) {
+                return true;
+            }
+            return super.hasFeature(cx, featureIndex);
+        }
+    };
+
+    private static Object eval(String script) {
+        return eval(LAZY_FACTORY, script);
+    }
+
+    private static Object eval(ContextFactory factory, final String script) {
+        return factory.call(new ContextAction() {
+            public Object run(Context cx) {
+                cx.setOptimizationLevel(-1);
+                Scriptable scope = cx.initStandardObjects();
+                cx.evaluateString(scope, SOURCE, "lazy.js", 1, null);
+                return cx.evaluateString(scope, script, "test.js", 1, null);
+            }
+        });
+    }
+
+    public void testResults() {
+        assertEquals("11", Context.toString(eval("add(2, 3)(2)")));
+        assertEquals("5", Context.toString(eval("o.five")));
+        assertEquals("120", Context.toString(eval("fact(5)")));
+        assertEquals("2", Context.toString(eval("add.length")));
+        assertEquals("eager", eval("iife"));
+    }
+
+    public void testDecompilesAsEager() {
+        ContextFactory eager = new ContextFactory();
+        String[] scripts = {
+            "String(add)",
+            "add(1, 2); String(add)",
+            "uneval(add) + uneval(add(1, 2))",
+            "String(fact) + fact.toSource()",
+            "String(function outer() { function f(a) { return [a, {b: a}]; }"
+                + " return f; }) + String(eval('(function() { function g() {"
+                + " return /}/; } return g; })()'))",
+        };
+        for (String script : scripts) {
+            assertEquals(script, eval(eager, script), eval(script));
+        }
+    }
+
+    public void testRuntimeErrorLine() {
+        try {
+            eval("thrower()");
+            fail();
+        } catch (EcmaError e) {
+            assertEquals("lazy.js", e.sourceName());
+            assertEquals(10, e.lineNumber());
+        }
+    }
+
+    public void testSyntaxErrorIsEager() {
+        try {
+            LAZY_FACTORY.call(new ContextAction() {
+                public Object run(Context cx) {
+                    cx.setOptimizationLevel(-1);
+                    return cx.compileString("function f() { var x = 1 2; }",
+                                            "bad.js", 1, null);
+                }
+            });
+            fail();
+        } catch (EvaluatorException e) {
+            assertEquals("bad.js", e.sourceName());
+        }
+    }
+
+    public void testEarlyErrorsAreEager() {
+        String[] bodies = {
+            "for (new a() in b);",
+            "for ([a, b, c] in o);",
+            "(a + b) = 1;",
+            "var [a, b.c] = [];",
+            "[a] += 1;",
+            "x..y = 1;",
+        };
+        for (final String body : bodies) {
+            try {
+                eval("eval('function foo() { " + body.replace("'", "\\'")
+                     + " }; 1')");
+                fail(body);
+            } catch (EcmaError e) {
+                assertEquals(body, "SyntaxError", e.getName());
+            }
+        }
+    }
+
+    public void testCompileFunction() {
+        Object result = LAZY_FACTORY.call(new ContextAction() {
+            public Object run(Context cx) {
+                cx.setOptimizationLevel(-1);
+                Scriptable scope = cx.initStandardObjects();
+                Function f = cx.compileFunction(scope,
+                    "function f(a) { function g() { return a; } return g(); }",
+                    "f.js", 1, null);
+                return f.call(cx, scope, scope, new Object[] { "x" });
+            }
+        });
+        assertEquals("x", result);
+    }
+
+    public void testParserDropsBodies() {
+        CompilerEnvirons environment = new CompilerEnvirons();
+        environment.setOptimizationLevel(-1);
+        environment.setLazyFunctionBodies(true);
+        AstRoot root = new Parser(environment).parse(SOURCE, "lazy.js", 1);
+        FunctionNode add = (FunctionNode)root.getStatements().get(1);
+        assertNotNull(add.getLazySource());
+        assertFalse(add.getBody().hasChildren());
+
+        environment.setLazyFunctionBodies(false);
+        root = new Parser(environment).parse(SOURCE, "lazy.js", 1);
+        add = (FunctionNode)root.getStatements().get(1);
+        assertNull(add.getLazySource());
+        assertTrue(add.getBody().hasChildren());
+    }
+}
@@ -0,0 +1,134 @@
+/* This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.ScriptableObject;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that objects behave the same while their properties are kept in a
+ * shared shape, and after they are moved to slots.
+ */
+public class ObjectShapeTest extends TestCase {
+
+    private static Object eval(String source) {
+        Context cx = Context.enter();
+        try {
+            ScriptableObject scope = cx.initStandardObjects();
+            return cx.evaluateString(scope, source, "shape.js", 1, null);
+        } finally {
+            Context.exit();
+        }
+    }
+
+    private static void assertEval(String expected, String source) {
+        assertEquals(expected, Context.toString(eval(source)));
+    }
+
+    public void testPlainProperties() {
+        assertEval("1,2,3", "var o = {a: 1, b: 2}; o.c = 3; [o.a, o.b, o.c].join()");
+        assertEval("a,b,c", "var o = {a: 1, b: 2, c: 3}; var k = []; for (var p in o) k.push(p); k.join()");
+        assertEval("true,false", "var o = {a: 1}; ['a' in o, 'b' in o].join()");
+        assertEval("5", "var o = {a: 1}; o.a = 5; o.a");
+        assertEval("1,2", "var o = {}, p = {}; o.x = 1; p.x = 2; [o.x, p.x].join()");
+        assertEval("{\"b\":2,\"a\":1}", "JSON.stringify({b: 2, a: 1})");
+    }
+
+    public void testDelete() {
+        assertEval("a,c,undefined", "var o = {a: 1, b: 2, c: 3}; delete o.b;"
+                   + "var k = []; for (var p in o) k.push(p); k.push(String(o.b)); k.join()");
+        assertEval("a,b", "var o = {a: 1}; delete o.zz; o.b = 2; Object.keys(o).join()");
+    }
+
+    public void testAttributesAndAccessors() {
+        assertEval("1,false", "var o = {a: 1}; Object.defineProperty(o, 'a', {writable: false});"
+                   + "o.a = 2; [o.a, Object.getOwnPropertyDescriptor(o, 'a').writable].join()");
+        assertEval("b", "var o = {a: 1}; Object.defineProperty(o, 'b', {value: 2, enumerable: true});"
+                   + "Object.defineProperty(o, 'a', {enumerable: false}); Object.keys(o).join()");
+        assertEval("7,14", "var o = {a: 7}; o.__defineGetter__('b', function() { return this.a * 2; });"
+                   + "[o.a, o.b].join()");
+        assertEval("true,true", "var d = Object.getOwnPropertyDescriptor({a: 1}, 'a');"
+                   + "[d.writable, d.configurable].join()");
+        assertEval("1,2,2", "var o = {a: 1}; var d = Object.getOwnPropertyDescriptor(o, 'a');"
+                   + "o.a = 2; [d.value, o.a, Object.getOwnPropertyDescriptor(o, 'a').value].join()");
+        assertEval("3,false", "var o = {a: 1}; Object.getOwnPropertyDescriptor(o, 'a');"
+                   + "Object.defineProperty(o, 'a', {value: 3, enumerable: false});"
+                   + "[o.a, o.propertyIsEnumerable('a')].join()");
+    }
+
+    public void testFrozenAndNonExtensible() {
+        assertEval("1,undefined", "var o = {a: 1}; Object.preventExtensions(o); o.b = 2; [o.a, String(o.b)].join()");
+        assertEval("2", "var o = {a: 1}; Object.preventExtensions(o); o.a = 2; o.a");
+        assertEval("1,true", "var o = Object.freeze({a: 1}); o.a = 2; [o.a, Object.isFrozen(o)].join()");
+        assertEval("2,undefined", "var o = Object.seal({a: 1}); o.a = 2; delete o.a; o.b = 3; [o.a, String(o.b)].join()");
+    }
+
+    public void testManyAndIndexedProperties() {
+        assertEval("100,0,99", "var o = {}; for (var i = 0; i < 100; i++) o['p' + i] = i;"
+                   + "[Object.keys(o).length, o.p0, o.p99].join()");
+        assertEval("x,y,z", "var o = {a: 1}; o[0] = 'x'; o[1] = 'y'; o.b = 'z'; [o[0], o['1'], o.b].join()");
+        assertEval("2", "var o = {}; o.a = 1; o.a = 2; o.a");
+    }
+
+    public void testPrototypeChain() {
+        assertEval("1,2,1", "var p = {a: 1}; function F() {} F.prototype = p;"
+                   + "var o = new F(); var before = o.a; o.a = 2; [before, o.a, p.a].join()");
+    }
+
+    public void testSerialization() throws Exception {
+        NativeObject obj = new NativeObject();
+        obj.put("a", obj, "x");
+        obj.put("b", obj, "y");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(obj);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(
+            new ByteArrayInputStream(bytes.toByteArray()));
+        NativeObject copy = (NativeObject)in.readObject();
+
+        assertEquals("x", copy.get("a", copy));
+        assertEquals("y", copy.get("b", copy));
+        assertEquals(2, copy.getIds().length);
+        copy.put("c", copy, "z");
+        copy.delete("a");
+        assertEquals("z", copy.get("c", copy));
+        assertEquals(2, copy.size());
+    }
+
+    public void testStoresWhileValuesAreCopied() throws Exception {
+        final int stores = 20000;
+        for (int round = 0; round < 20; round++) {
+            final NativeObject obj = new NativeObject();
+            obj.put("a", obj, Integer.valueOf(-1));
+            Thread writer = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < stores; i++) {
+                        obj.put("a", obj, Integer.valueOf(i));
+                    }
+                }
+            };
+            writer.start();
+            // grows the values array, and then moves the values to slots
+            for (int i = 0; i < 40 && writer.isAlive(); i++) {
+                obj.put("p" + i, obj, Integer.valueOf(i));
+                Thread.yield();
+            }
+            obj.delete("p0");
+            writer.join();
+            assertEquals(Integer.valueOf(stores - 1), obj.get("a", obj));
+        }
+    }
+}
@@ -1206,6 +1206,31 @@ public class ParserTest extends TestCase {
       parse("({import:1}).import;");
     }
 
+    public void testNamesAndStringsFromEachInput() throws IOException {
+      // the scanner reads a string in place, and a reader is read to its
+      // end, so both inputs give the same tree
+      StringBuilder source = new StringBuilder();
+      for (int i = 0; i < 100; i++) {
+        source.append("abc").append(i).append(" = 'str").append(i)
+              .append("' + x\\u0079z + \"q\\\"\" + café;\n");
+      }
+      String expected = parse(source.toString()).toSource();
+
+      assertEquals(expected, parseAsReader(source.toString()).toSource());
+
+      ExpressionStatement first =
+          (ExpressionStatement) parse(source.toString()).getStatements().get(0);
+      Assignment assignment = (Assignment) first.getExpression();
+      assertEquals("abc0", ((Name) assignment.getLeft()).getIdentifier());
+      InfixExpression sum = (InfixExpression) assignment.getRight();
+      assertEquals("café", ((Name) sum.getRight()).getIdentifier());
+      sum = (InfixExpression) sum.getLeft();
+      assertEquals("q\"", ((StringLiteral) sum.getRight()).getValue());
+      sum = (InfixExpression) sum.getLeft();
+      assertEquals("xyz", ((Name) sum.getRight()).getIdentifier());
+      assertEquals("str0", ((StringLiteral) sum.getLeft()).getValue());
+    }
+
     private void expectParseErrors(String string, String [] errors) {
       parse(string, errors, null, false);
     }
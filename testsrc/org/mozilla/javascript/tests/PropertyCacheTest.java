@@ -0,0 +1,225 @@
+/* This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript.tests;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.ScriptableObject;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the caches of the property accesses in interpreted code: that the
+ * caches give the same results as looking the properties up, and that
+ * they hit and miss as expected.
+ * @see CompiledPropertyCacheTest
+ */
+public class PropertyCacheTest extends TestCase {
+
+    private Context cx;
+    private ScriptableObject scope;
+
+    @Override
+    protected void setUp() {
+        cx = Context.enter();
+        cx.setOptimizationLevel(getOptimizationLevel());
+        scope = cx.initStandardObjects();
+    }
+
+    protected int getOptimizationLevel() {
+        return -1;
+    }
+
+    @Override
+    protected void tearDown() {
+        Context.exit();
+    }
+
+    private String eval(String source) {
+        cx.resetPropertyCacheStatistics();
+        return Context.toString(cx.evaluateString(scope, source, "cache.js", 1, null));
+    }
+
+    private void assertCounts(long hits, long misses) {
+        assertEquals("hits", hits, cx.getPropertyCacheHits());
+        assertEquals("misses", misses, cx.getPropertyCacheMisses());
+    }
+
+    private static String callX(String objects, int shapes, int count) {
+        return "function f(o) { return o.x; } var objs = [" + objects + "];"
+            + "var s = 0; for (var i = 0; i < " + count + "; i++) s += f(objs[i % " + shapes + "]); s";
+    }
+
+    public void testMonomorphic() {
+        assertEquals("10", eval(callX("{x: 1}, {x: 1}", 2, 10)));
+        assertCounts(9, 1);
+    }
+
+    public void testPolymorphic() {
+        assertEquals("200", eval(callX("{x: 1}, {a: 0, x: 2}, {b: 0, x: 3}, {c: 0, x: 4}", 4, 80)));
+        assertCounts(76, 4);
+    }
+
+    public void testMegamorphic() {
+        assertEquals("300", eval(callX("{x: 1}, {a: 0, x: 2}, {b: 0, x: 3}, {c: 0, x: 4}, {d: 0, x: 5}", 5, 100)));
+        // the fifth shape makes the cache give up before the first hit
+        assertCounts(0, 100);
+    }
+
+    public void testUncacheableObjects() {
+        assertEquals("3,3", eval("var a = [1, 2, 3]; var n = []; for (var i = 0; i < 2; i++) n.push(a.length); n.join()"));
+        assertEquals("8", eval("var o = {}; o.__defineGetter__('x', function() { return 4; }); o.x + o.x"));
+        assertEquals("0", String.valueOf(cx.getPropertyCacheHits()));
+    }
+
+    public void testPrototypeProperties() {
+        assertEquals("1,1,2,3,4", eval(
+            "var proto = {m: function() { return 1; }}; function P() { this.a = 0; } P.prototype = proto;"
+            + "var o = new P(); var r = [];"
+            + "function call() { r.push(o.m()); }"
+            + "call(); call();"
+            + "proto.m = function() { return 2; }; call();"
+            + "o.m = function() { return 3; }; call();"
+            + "delete o.m; proto.m = function() { return 4; }; call(); r.join()"));
+        assertEquals("1,undefined", eval(
+            "var proto = {v: 1}; function P() {} P.prototype = proto; var o = new P();"
+            + "function get() { return String(o.v); } var r = [get()]; delete proto.v; r.push(get()); r.join()"));
+    }
+
+    public void testScopesNotRetained() throws Exception {
+        // the caches of a script that runs in one scope after another do
+        // not keep the prototypes they found properties in, or their scopes
+        Script script = cx.compileString(
+            "var proto = {m: 1}; function P() {} P.prototype = proto;"
+            + "function get(o) { return o.m; } var o = new P(); get(o) + get(o)",
+            "scopes.js", 1, null);
+        WeakReference<Object> ref = runInNewScope(script);
+        for (int i = 0; i < 50 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ref.get());
+        runInNewScope(script);
+        assertEquals(1, cx.getPropertyCacheHits());
+    }
+
+    private WeakReference<Object> runInNewScope(Script script) {
+        ScriptableObject newScope = cx.initStandardObjects();
+        cx.resetPropertyCacheStatistics();
+        assertEquals("2", Context.toString(script.exec(cx, newScope)));
+        return new WeakReference<Object>(newScope);
+    }
+
+    public void testSet() {
+        eval("var objs = [{x: 0, y: 1}, {x: 0, y: 1}]; for (var i = 0; i < 10; i++) objs[i % 2].x = i;");
+        assertCounts(9, 1);
+        assertEquals("8,9,1", eval("[objs[0].x, objs[1].x, objs[1].y].join()"));
+        assertEquals("1,5,5", eval(
+            "var o = {x: 0}, p = {x: 0}; function set(obj, v) { obj.x = v; }"
+            + "set(o, 1); set(o, 1); Object.freeze(o); set(o, 5); set(p, 5);"
+            + "[o.x, p.x, Object.isFrozen(o) ? 5 : 0].join()"));
+        assertEquals("2,1", eval(
+            "var proto = {x: 1}; function P() {} P.prototype = proto; var o = new P();"
+            + "function set(v) { o.x = v; } set(2); [o.x, proto.x].join()"));
+    }
+
+    public void testShapeChanges() {
+        assertEquals("1,2,3,4", eval(
+            "var o = {x: 1}; function get() { return o.x; } var r = [get()];"
+            + "o.x = 2; r.push(get()); o.y = 0; o.x = 3; r.push(get());"
+            + "delete o.y; o.x = 4; r.push(get()); r.join()"));
+    }
+
+    public void testQueriesKeepShapes() {
+        // looking at the attributes of plain properties leaves the
+        // objects in their shapes, so the accesses below still hit
+        assertEquals("true,true,true,false", eval(
+            "var objs = [{x: 1}, {x: 2}]; var o = objs[0];"
+            + "[Object.getOwnPropertyDescriptor(o, 'x').writable,"
+            + " o.propertyIsEnumerable('x'), o.hasOwnProperty('x'),"
+            + " Object.isFrozen(objs[1])].join()"));
+        assertEquals("15", eval("function f(o) { return o.x; } var s = 0;"
+            + " for (var i = 0; i < 10; i++) s += f(objs[i % 2]); s"));
+        assertCounts(9, 1);
+    }
+
+    public void testShapesMadeInManyThreads() throws Exception {
+        // objects that get the same properties in the same order share a
+        // shape, whichever thread made them
+        final Object[] objs = new Object[400];
+        final Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final int first = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = first; i < objs.length; i += threads.length) {
+                        NativeObject obj = new NativeObject();
+                        obj.put("a", obj, "a" + i);
+                        obj.put("b", obj, "b" + i);
+                        obj.put("x", obj, Integer.valueOf(1));
+                        objs[i] = obj;
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        scope.put("objs", scope, cx.newArray(scope, objs));
+        assertEquals("400", eval("function f(o) { return o.x; } var s = 0;"
+            + " for (var i = 0; i < objs.length; i++) s += f(objs[i]); s"));
+        assertEquals(objs.length - 1, cx.getPropertyCacheHits());
+    }
+
+    public void testSharedBetweenThreads() throws Exception {
+        // the caches of one script fill up and go megamorphic in many
+        // threads at once
+        final Script script = cx.compileString(callX(
+            "{x: 1}, {a: 0, x: 2}, {b: 0, x: 3}, {c: 0, x: 4}, {d: 0, x: 5}",
+            5, 1000), "shared.js", 1, null);
+        final List<Object> results = new ArrayList<Object>();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    Context cx = Context.enter();
+                    try {
+                        cx.setOptimizationLevel(getOptimizationLevel());
+                        ScriptableObject scope = cx.initStandardObjects();
+                        Object result = null;
+                        for (int round = 0; round < 20; round++) {
+                            result = script.exec(cx, scope);
+                        }
+                        synchronized (results) {
+                            results.add(Context.toString(result));
+                        }
+                    } catch (Throwable t) {
+                        synchronized (results) {
+                            results.add(t);
+                        }
+                    } finally {
+                        Context.exit();
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        for (Object result : results) {
+            assertEquals("3000", result);
+        }
+        assertEquals(threads.length, results.size());
+    }
+}
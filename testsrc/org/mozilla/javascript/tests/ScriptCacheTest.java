@@ -0,0 +1,146 @@
+/* This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript.tests;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextAction;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.Function;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.ScriptCache;
+import org.mozilla.javascript.Scriptable;
+
+import junit.framework.TestCase;
+
+public class ScriptCacheTest extends TestCase {
+
+    private ScriptCache cache;
+    private ContextFactory factory;
+
+    @Override
+    protected void setUp() {
+        cache = new ScriptCache(4);
+        factory = new ContextFactory();
+        factory.setScriptCache(cache);
+    }
+
+    private Script compile(final String source, final String sourceName,
+                           final int optimizationLevel)
+    {
+        return (Script)factory.call(new ContextAction() {
+            public Object run(Context cx) {
+                cx.setOptimizationLevel(optimizationLevel);
+                return cx.compileString(source, sourceName, 1, null);
+            }
+        });
+    }
+
+    public void testScripts() {
+        Script first = compile("1 + 2", "a.js", -1);
+        assertSame(first, compile("1 + 2", "a.js", -1));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // the source, the name and the settings are all part of the key
+        assertNotSame(first, compile("1 + 3", "a.js", -1));
+        assertNotSame(first, compile("1 + 2", "b.js", -1));
+        assertNotSame(first, compile("1 + 2", "a.js", 0));
+        assertEquals(1, cache.getHits());
+        assertEquals(4, cache.getSize());
+
+        Object result = factory.call(new ContextAction() {
+            public Object run(Context cx) {
+                Scriptable scope = cx.initStandardObjects();
+                return compile("1 + 2", "a.js", 0).exec(cx, scope);
+            }
+        });
+        assertEquals(3, ((Number)result).intValue());
+        assertEquals(2, cache.getHits());
+        assertEquals(2.0 / 6, cache.getHitRate(), 1e-9);
+    }
+
+    public void testEviction() {
+        Script first = compile("'a'", "a.js", -1);
+        for (int i = 0; i < 8; i++) {
+            compile("'" + i + "'", "a.js", -1);
+        }
+        assertEquals(4, cache.getSize());
+        assertEquals(5, cache.getEvictions());
+        assertNotSame(first, compile("'a'", "a.js", -1));
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getEvictions());
+    }
+
+    public void testFunctions() {
+        final String source = "function f(a) { return a + x; }";
+        for (int opt = -1; opt <= 0; opt++) {
+            final int optimizationLevel = opt;
+            Object result = factory.call(new ContextAction() {
+                public Object run(Context cx) {
+                    cx.setOptimizationLevel(optimizationLevel);
+                    Scriptable scope1 = cx.initStandardObjects();
+                    Scriptable scope2 = cx.initStandardObjects();
+                    scope1.put("x", scope1, "1");
+                    scope2.put("x", scope2, "2");
+                    Function f1 = cx.compileFunction(scope1, source, "f.js", 1, null);
+                    Function f2 = cx.compileFunction(scope2, source, "f.js", 1, null);
+                    assertNotSame(f1, f2);
+                    Object[] args = { "a" };
+                    return f1.call(cx, scope1, scope1, args) + ","
+                        + f2.call(cx, scope2, scope2, args);
+                }
+            });
+            assertEquals("a1,a2", result);
+        }
+        assertEquals(2, cache.getHits());
+    }
+
+    public void testEvalIsNotCached() {
+        factory.call(new ContextAction() {
+            public Object run(Context cx) {
+                Scriptable scope = cx.initStandardObjects();
+                cx.evaluateString(scope, "eval('1'); eval('1');", "e.js", 1, null);
+                return null;
+            }
+        });
+        assertEquals(1, cache.getSize());
+        assertEquals(0, cache.getHits());
+    }
+
+    public void testThreads() throws InterruptedException {
+        final Throwable[] failure = new Throwable[1];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < 200; i++) {
+                            final String source = "'" + (i % 6) + "'";
+                            Object result = factory.call(new ContextAction() {
+                                public Object run(Context cx) {
+                                    Scriptable scope = cx.initStandardObjects();
+                                    return cx.evaluateString(scope, source, "t.js", 1, null);
+                                }
+                            });
+                            assertEquals(String.valueOf(i % 6), result);
+                        }
+                    } catch (Throwable ex) {
+                        failure[0] = ex;
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(String.valueOf(failure[0]), failure[0]);
+        assertEquals(800, cache.getHits() + cache.getMisses());
+        assertTrue(cache.getSize() <= 4);
+    }
+}
@@ -0,0 +1,174 @@
+/* This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.ScriptableObject;
+
+/**
+ * A benchmark for adding properties to objects from many threads. For each
+ * thread count from 1 up to the maximum, doubling each time, it reports the
+ * properties added per second in three cases:
+ *
+ * shared: all of the threads add properties with distinct names to the same
+ * object, as scripts that share a global scope do.
+ *
+ * private: each thread adds the same number of properties to its own object,
+ * which is the uncontended case.
+ *
+ * plain: each thread makes small objects that all get the same properties
+ * in the same order, as JSON-like code does. These objects keep their
+ * properties in shapes, which the threads share.
+ *
+ * In the first two cases the objects keep their properties in slots.
+ *
+ * Usage: java org.mozilla.javascript.tests.SlotContentionBenchmark
+ * [-threads N] [-keys N] [-rounds N]
+ *
+ * The default maximum is the number of processors. See also
+ * <code>ant benchmark-slots</code>.
+ */
+public class SlotContentionBenchmark {
+
+    private static int maxThreads = Runtime.getRuntime().availableProcessors();
+    private static int keys = 20000;
+    private static int rounds = 50;
+
+    private static String[][] names;
+    private static final String[] PLAIN_NAMES = {
+        "type", "range", "loc", "name", "value", "kind", "start", "end"
+    };
+
+    public static void main(String[] args) throws Exception {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-threads")) {
+                maxThreads = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("-keys")) {
+                keys = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("-rounds")) {
+                rounds = Integer.parseInt(args[++i]);
+            } else {
+                System.err.println("Usage: SlotContentionBenchmark"
+                                   + " [-threads N] [-keys N] [-rounds N]");
+                System.exit(1);
+            }
+        }
+        names = new String[maxThreads][keys];
+        for (int t = 0; t < maxThreads; t++) {
+            for (int i = 0; i < keys; i++) {
+                names[t][i] = ("p" + t + "_" + i).intern();
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(maxThreads);
+        try {
+            // warm up
+            run(executor, maxThreads, true, rounds / 5 + 1);
+            run(executor, maxThreads, false, rounds / 5 + 1);
+            runPlain(executor, maxThreads, rounds / 5 + 1);
+            System.out.println("threads      shared adds/s     private adds/s"
+                               + "       plain adds/s");
+            for (int threads = 1; ; threads *= 2) {
+                if (threads > maxThreads) {
+                    threads = maxThreads;
+                }
+                double shared = run(executor, threads, true, rounds);
+                double unshared = run(executor, threads, false, rounds);
+                double plain = runPlain(executor, threads, rounds);
+                System.out.println(String.format("%7d %18.0f %18.0f %18.0f",
+                                                 threads, shared, unshared,
+                                                 plain));
+                if (threads == maxThreads) {
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static ScriptableObject newSlotObject() {
+        ScriptableObject obj = new NativeObject();
+        // deleting moves the properties from the shape to slots
+        obj.put("init", obj, Boolean.TRUE);
+        obj.delete("init");
+        return obj;
+    }
+
+    /**
+     * Returns the properties added per second.
+     */
+    private static double run(ExecutorService executor, int threads,
+                              boolean shared, int rounds)
+        throws Exception
+    {
+        long time = 0;
+        for (int r = 0; r < rounds; r++) {
+            final ScriptableObject sharedObj = shared ? newSlotObject() : null;
+            List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+            for (int t = 0; t < threads; t++) {
+                final String[] threadNames = names[t];
+                tasks.add(new Callable<Object>() {
+                    public Object call() {
+                        ScriptableObject obj = sharedObj != null
+                            ? sharedObj : newSlotObject();
+                        for (String name : threadNames) {
+                            obj.put(name, obj, name);
+                        }
+                        return obj;
+                    }
+                });
+            }
+            long start = System.nanoTime();
+            for (Future<Object> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+            time += System.nanoTime() - start;
+        }
+        return (double) threads * keys * rounds / (time / 1e9);
+    }
+
+    /**
+     * Returns the properties added per second to plain objects.
+     */
+    private static double runPlain(ExecutorService executor, int threads,
+                                   int rounds)
+        throws Exception
+    {
+        final int objects = keys / PLAIN_NAMES.length;
+        long time = 0;
+        for (int r = 0; r < rounds; r++) {
+            List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(new Callable<Object>() {
+                    public Object call() {
+                        ScriptableObject last = null;
+                        for (int i = 0; i < objects; i++) {
+                            ScriptableObject obj = new NativeObject();
+                            for (String name : PLAIN_NAMES) {
+                                obj.put(name, obj, name);
+                            }
+                            last = obj;
+                        }
+                        return last;
+                    }
+                });
+            }
+            long start = System.nanoTime();
+            for (Future<Object> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+            time += System.nanoTime() - start;
+        }
+        return (double) threads * objects * PLAIN_NAMES.length * rounds
+            / (time / 1e9);
+    }
+}
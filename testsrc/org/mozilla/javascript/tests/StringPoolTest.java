@@ -0,0 +1,120 @@
+/* This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript.tests;
+
+import org.mozilla.javascript.ast.*;
+
+import org.mozilla.javascript.CompilerEnvirons;
+import org.mozilla.javascript.Parser;
+import org.mozilla.javascript.StringPool;
+
+import junit.framework.TestCase;
+
+public class StringPoolTest extends TestCase {
+
+    public void testIntern() {
+        StringPool pool = new StringPool();
+        String foo = new String("foo");
+
+        assertSame(foo, pool.intern(foo));
+        assertSame(foo, pool.intern(new String("foo")));
+        assertSame(foo, pool.intern("xfoox", 1, 3));
+        assertSame(foo, pool.intern(new StringBuilder("xfoo"), 1, 3));
+        assertEquals("", pool.intern("xfoox", 0, 0));
+        assertEquals(2, pool.getSize());
+        assertEquals(3, pool.getHits());
+        assertEquals(2, pool.getMisses());
+        assertEquals(0.6, pool.getHitRate(), 0);
+
+        // enough strings to grow the table
+        for (int i = 0; i < 1000; i++) {
+            pool.intern("s" + i);
+        }
+        assertEquals(1002, pool.getSize());
+        assertSame(foo, pool.intern("foo"));
+
+        pool.clear();
+        assertEquals(0, pool.getSize());
+        assertEquals(0.0, pool.getHitRate(), 0);
+    }
+
+    public void testMaxSize() {
+        StringPool pool = new StringPool(2);
+        String a = pool.intern(new String("a"));
+        pool.intern("b");
+        String c = new String("c");
+
+        assertSame(c, pool.intern(c));
+        assertNotSame(c, pool.intern(new String("c")));
+        assertSame(a, pool.intern(new String("a")));
+        assertEquals(2, pool.getSize());
+    }
+
+    public void testSharedBetweenThreads() throws Exception {
+        final StringPool pool = new StringPool();
+        final String[][] results = new String[4][500];
+        Thread[] threads = new Thread[results.length];
+        for (int t = 0; t < threads.length; t++) {
+            final String[] interned = results[t];
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < interned.length; i++) {
+                        StringBuilder chars = new StringBuilder("s").append(i);
+                        interned[i] = i % 2 == 0 ?
+                            pool.intern(chars.toString()) :
+                            pool.intern(chars, 0, chars.length());
+                    }
+                }
+            };
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // every thread got the same instance of each string
+        for (int i = 0; i < results[0].length; i++) {
+            for (int t = 1; t < results.length; t++) {
+                assertSame(results[0][i], results[t][i]);
+            }
+        }
+        assertEquals(500, pool.getSize());
+        assertEquals(2000, pool.getHits() + pool.getMisses());
+    }
+
+    private static Name getName(AstRoot root, int statement) {
+        ExpressionStatement expression =
+            (ExpressionStatement)root.getStatements().get(statement);
+        return (Name)((PropertyGet)expression.getExpression()).getTarget();
+    }
+
+    public void testSharedBetweenParses() {
+        StringPool pool = new StringPool();
+        CompilerEnvirons environment = new CompilerEnvirons();
+        environment.setStringPool(pool);
+
+        AstRoot first = new Parser(environment).parse("foo.bar; 'foo';", "a.js", 1);
+        AstRoot second = new Parser(environment).parse("foo.baz;", "b.js", 1);
+        StringLiteral literal = (StringLiteral)
+            ((ExpressionStatement)first.getStatements().get(1)).getExpression();
+
+        assertSame(getName(first, 0).getIdentifier(),
+                   getName(second, 0).getIdentifier());
+        assertSame(getName(first, 0).getIdentifier(), literal.getValue());
+        assertTrue(pool.getHits() >= 2);
+
+        // without a pool, names are only shared within a parse
+        CompilerEnvirons unpooled = new CompilerEnvirons();
+        first = new Parser(unpooled).parse("foo.bar; foo.baz;", "a.js", 1);
+        second = new Parser(unpooled).parse("foo.baz;", "b.js", 1);
+        assertSame(getName(first, 0).getIdentifier(),
+                   getName(first, 1).getIdentifier());
+        assertNotSame(getName(first, 0).getIdentifier(),
+                      getName(second, 0).getIdentifier());
+    }
+}
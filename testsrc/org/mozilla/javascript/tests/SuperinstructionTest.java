@@ -0,0 +1,68 @@
+/* This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.mozilla.javascript.tests;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextAction;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.ScriptableObject;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that the interpreter gives the same results for code where the
+ * code generator fuses instructions, also when a jump target or an
+ * exception handler lies between them, as the compiled classes do.
+ */
+public class SuperinstructionTest extends TestCase {
+
+    private static String eval(final String source, final int optLevel) {
+        return (String) new ContextFactory().call(new ContextAction() {
+            public Object run(Context cx) {
+                cx.setOptimizationLevel(optLevel);
+                ScriptableObject scope = cx.initStandardObjects();
+                return Context.toString(cx.evaluateString(scope, source,
+                                                          "fused.js", 1, null));
+            }
+        });
+    }
+
+    private static void assertSame(String expected, String source) {
+        assertEquals(expected, eval(source, -1));
+        assertEquals(expected, eval(source, 9));
+    }
+
+    public void testLocals() {
+        assertSame("55,10", "function f(n) { var a = 0, b = 1, t;"
+            + " for (var i = 1; i < n; i++) { t = a + b; a = b; b = t; }"
+            + " return b; } function g(a, b) { return a * b; } [f(10), g(2, 5)].join()");
+    }
+
+    public void testStoresAtJumpTargets() {
+        assertSame("1,3,2,3", "function f(c) { var x, y;"
+            + " x = c ? 1 : 2; y = c && 3; c || (x = 2); return [x, c ? y : 3].join(); }"
+            + " [f(true), f(false)].join()");
+        assertSame("3,1", "function f() { var i = 0, j = 0;"
+            + " do { i++; if (i > 2) break; j = i; } while (true); return [i, j - 1].join(); } f()");
+    }
+
+    public void testIncrementsAndProperties() {
+        assertSame("4,3,6,a", "function f() { var i = 0, o = {p: 1}, a = [];"
+            + " i++; ++i; i--; i += 3; o.p++; o.p = o.p + 1; o.q = 'a';"
+            + " a[0] = i; a[1] = o.p; a[2] = o.p * 2; a[3] = o.q; return a.join(); } f()");
+    }
+
+    public void testExceptionHandlers() {
+        assertSame("2,3,4", "function f() { var x = 0, y = 0, z;"
+            + " try { x = 1; z = x; throw 0; } catch (e) { x = 2; }"
+            + " try { y = 3; } finally { z = 4; } return [x, y, z].join(); } f()");
+    }
+
+    public void testCommaExpressions() {
+        assertSame("3,2,1", "function f() { var a, b, c;"
+            + " a = 1, b = 2, c = 3; var o = {}; o.x = a, o.y = b;"
+            + " return [c, o.y, o.x].join(); } f()");
+    }
+}